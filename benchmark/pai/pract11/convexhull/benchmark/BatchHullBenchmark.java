@@ -0,0 +1,114 @@
+/**
+ * File containing the BatchHullBenchmark entity definition.
+ */
+
+package pai.pract11.convexhull.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.BatchHullService;
+import pai.pract11.convexhull.model.engine.MonotoneChainEngine;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+
+/**
+ * Class which measures the throughput of the batch hull service, in sets of
+ * points per second, with virtual threads and with a fixed pool of platform
+ * threads. In JVMs without virtual threads both executors are fixed pools. It
+ * was created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class BatchHullBenchmark {
+	/** Seed of the generated points. */
+	private static final long	SEED			= 42;
+	/** Amount of sets of every batch. */
+	private static final int	BATCH_SIZE	= 4096;
+
+	/** Executor of the service, VIRTUAL or PLATFORM. */
+	@Param({ "VIRTUAL", "PLATFORM" })
+	public String							executorKind;
+	/** Amount of points of every set. */
+	@Param({ "16", "256", "4096" })
+	public int								setSize;
+	/** Maximum amount of sets submitted but not finished. */
+	@Param({ "64", "1024" })
+	public int								maxPending;
+
+	/** Sets of points of a batch. */
+	private List<PointStore>	pointSets;
+	/** Service which calculates the convex hulls. */
+	private BatchHullService	service;
+
+	/**
+	 * Generates the sets of points and starts the service.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		pointSets = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; ++i) {
+			pointSets.add(BenchmarkMain.generate(PointDistribution.GAUSSIAN, setSize,
+					SEED + i));
+		}
+		ExecutorService executor = executorKind.equals("VIRTUAL")
+				? BatchHullService.newVirtualThreadExecutor()
+				: Executors
+						.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		service = new BatchHullService(new MonotoneChainEngine(), maxPending,
+				executor);
+	}
+
+	/**
+	 * Stops the service.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		service.close();
+	}
+
+	/**
+	 * Measures a batch of sets, submitted as fast as the service accepts them.
+	 *
+	 * @return Total amount of vertices, consumed by JMH.
+	 * @throws Exception
+	 *           If a hull fails.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public long batch() throws Exception {
+		long vertices = 0;
+		for (CompletableFuture<int[]> hull : service.submitAll(pointSets)) {
+			vertices += hull.get().length;
+		}
+		return vertices;
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * File containing the BenchmarkMain entity definition.
+ */
+
+package pai.pract11.convexhull.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+import pai.pract11.convexhull.model.generator.PointGenerator;
+
+/**
+ * Class which contains the main method of the benchmarks. It runs JMH with the
+ * GC profiler, to measure the allocation rate, and writes the results as JSON,
+ * so they can be compared between runs. Any JMH command line option can be
+ * given, for example "-p size=1000,100000" to select the sizes or "-rf csv" to
+ * change the format of the results. It was created
+ * for the eleventh practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class BenchmarkMain {
+	/** File which receives the results. */
+	private static final String	RESULTS_FILE	= "benchmark-results.json";
+	/**
+	 * Side of the square of the generated points. The collinear points have
+	 * integer offsets, so it is also their amount of different locations.
+	 */
+	private static final double	SIDE					= 1 << 20;
+
+	/**
+	 * Main method.
+	 *
+	 * @param args
+	 *          JMH command line options.
+	 * @throws RunnerException
+	 *           If the benchmarks fail.
+	 * @throws CommandLineOptionException
+	 *           If the options are not valid.
+	 */
+	public static void main(String[] args)
+			throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLine)
+				.addProfiler(GCProfiler.class);
+		if (commandLine.getIncludes().isEmpty()) {
+			builder.include(BenchmarkMain.class.getPackage().getName());
+		}
+		if (!commandLine.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON).result(RESULTS_FILE);
+		}
+		new Runner(builder.build()).run();
+	}
+
+	/**
+	 * Generates the points of a benchmark in a square of side SIDE. The same
+	 * seed always produces the same points.
+	 *
+	 * @param distribution
+	 *          Distribution of the points.
+	 * @param size
+	 *          Amount of points.
+	 * @param seed
+	 *          Seed of the random generator.
+	 * @return Points.
+	 */
+	static PointStore generate(PointDistribution distribution, int size,
+			long seed) {
+		return new PointGenerator(distribution, 0, 0, SIDE, SIDE).generate(size,
+				seed);
+	}
+}
@@ -0,0 +1,163 @@
+/**
+ * File containing the DynamicHullBenchmark entity definition.
+ */
+
+package pai.pract11.convexhull.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+import pai.pract11.convexhull.model.engine.DynamicHull;
+import pai.pract11.convexhull.model.engine.MonotoneChainEngine;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+
+/**
+ * Class which compares the dynamic hull with calculating the convex hull of
+ * the whole set again after every batch of updates. The points are taken from
+ * a pool twice as big as the set. Every update deletes a random point of the
+ * set with the given probability and inserts a random point of the pool
+ * otherwise, but the size of the set is kept between the half and the
+ * double of its initial size. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class DynamicHullBenchmark {
+	/** Seed of the generated points and of the updates. */
+	private static final long	SEED	= 42;
+
+	/** Probability of an update being a deletion. */
+	@Param({ "0.0", "0.1", "0.5", "0.9" })
+	public double							deleteRatio;
+	/** Amount of updates between two queries of the convex hull. */
+	@Param({ "1", "100" })
+	public int								updates;
+	/** Distribution of the points. */
+	@Param({ "UNIFORM", "CIRCLE" })
+	public PointDistribution	distribution;
+	/** Initial amount of points of the set. */
+	@Param({ "100000", "1000000" })
+	public int								size;
+
+	/** Pool of points. */
+	private PointStore				points;
+	/** Points of the pool which are in the set, then the ones which are not. */
+	private int[]							members;
+	/** Position of every point of the pool in the members array. */
+	private int[]							positions;
+	/** Amount of points of the set. */
+	private int								liveSize;
+	/** Generator of the updates. */
+	private SplittableRandom	random;
+	/** Dynamic hull of the set. */
+	private DynamicHull				dynamicHull;
+	/** Engine which calculates the convex hull from scratch. */
+	private ConvexHullEngine	engine;
+
+	/**
+	 * Generates the pool and inserts the first half of it in the set.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		points = BenchmarkMain.generate(distribution, 2 * size, SEED);
+		members = new int[points.size()];
+		positions = new int[points.size()];
+		for (int i = 0; i < members.length; ++i) {
+			members[i] = i;
+			positions[i] = i;
+		}
+		liveSize = size;
+		random = new SplittableRandom(SEED);
+		dynamicHull = new DynamicHull(points);
+		for (int i = 0; i < liveSize; ++i) {
+			dynamicHull.insert(i);
+		}
+		engine = new MonotoneChainEngine();
+	}
+
+	/**
+	 * Measures the dynamic hull.
+	 *
+	 * @return Convex hull, consumed by JMH.
+	 */
+	@Benchmark
+	public int[] dynamicHull() {
+		for (int i = 0; i < updates; ++i) {
+			int point = update();
+			if (positions[point] < liveSize) {
+				dynamicHull.insert(point);
+			} else {
+				dynamicHull.delete(point);
+			}
+		}
+		return dynamicHull.getConvexHull();
+	}
+
+	/**
+	 * Measures calculating the convex hull of the set from scratch.
+	 *
+	 * @return Convex hull, consumed by JMH.
+	 */
+	@Benchmark
+	public int[] recompute() {
+		for (int i = 0; i < updates; ++i) {
+			update();
+		}
+		double[] xs = new double[liveSize];
+		double[] ys = new double[liveSize];
+		for (int i = 0; i < liveSize; ++i) {
+			xs[i] = points.getX(members[i]);
+			ys[i] = points.getY(members[i]);
+		}
+		return engine.computeHull(new PointStore(xs, ys));
+	}
+
+	/**
+	 * Deletes a random point from the set or inserts a random point of the pool
+	 * in it.
+	 *
+	 * @return Index of the point which has been deleted or inserted.
+	 */
+	private int update() {
+		boolean delete = random.nextDouble() < deleteRatio;
+		if (liveSize <= size / 2) {
+			delete = false;
+		} else if (liveSize == members.length) {
+			delete = true;
+		}
+		int position = delete ? random.nextInt(liveSize)
+				: random.nextInt(liveSize, members.length);
+		int target = delete ? liveSize - 1 : liveSize;
+		int point = members[position];
+		members[position] = members[target];
+		positions[members[position]] = position;
+		members[target] = point;
+		positions[point] = target;
+		liveSize += delete ? -1 : 1;
+		return point;
+	}
+}
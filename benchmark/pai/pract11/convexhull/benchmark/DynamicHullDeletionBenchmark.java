@@ -0,0 +1,105 @@
+/**
+ * File containing the DynamicHullDeletionBenchmark entity definition.
+ */
+
+package pai.pract11.convexhull.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+import pai.pract11.convexhull.model.engine.DynamicHull;
+import pai.pract11.convexhull.model.engine.MonotoneChainEngine;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+
+/**
+ * Class which measures the worst case of the dynamic hull: every operation
+ * deletes a vertex of the convex hull, queries it, inserts the vertex again
+ * and queries it again, so both updates change the convex hull. It is
+ * compared with calculating the convex hull of the whole set twice. It was
+ * created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class DynamicHullDeletionBenchmark {
+	/** Seed of the generated points. */
+	private static final long	SEED	= 42;
+
+	/** Distribution of the points. */
+	@Param({ "UNIFORM", "CIRCLE" })
+	public PointDistribution	distribution;
+	/** Amount of points of the set. */
+	@Param({ "100000", "1000000" })
+	public int								size;
+
+	/** Points of the set. */
+	private PointStore				points;
+	/** Dynamic hull of the set. */
+	private DynamicHull				dynamicHull;
+	/** Engine which calculates the convex hull from scratch. */
+	private ConvexHullEngine	engine;
+	/** Amount of operations done, which chooses the vertex to delete. */
+	private int								operations;
+
+	/**
+	 * Generates the points and inserts all of them in the set.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		points = BenchmarkMain.generate(distribution, size, SEED);
+		dynamicHull = new DynamicHull(points);
+		for (int i = 0; i < size; ++i) {
+			dynamicHull.insert(i);
+		}
+		engine = new MonotoneChainEngine();
+	}
+
+	/**
+	 * Measures the dynamic hull.
+	 *
+	 * @return Convex hull, consumed by JMH.
+	 */
+	@Benchmark
+	public int[] dynamicHull() {
+		int[] hull = dynamicHull.getConvexHull();
+		int vertex = hull[operations++ % hull.length];
+		dynamicHull.delete(vertex);
+		dynamicHull.getConvexHull();
+		dynamicHull.insert(vertex);
+		return dynamicHull.getConvexHull();
+	}
+
+	/**
+	 * Measures calculating the convex hull of the set from scratch after both
+	 * updates.
+	 *
+	 * @return Convex hull, consumed by JMH.
+	 */
+	@Benchmark
+	public int[] recompute() {
+		engine.computeHull(points);
+		return engine.computeHull(points);
+	}
+}
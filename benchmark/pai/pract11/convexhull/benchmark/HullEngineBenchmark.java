@@ -0,0 +1,125 @@
+/**
+ * File containing the HullEngineBenchmark entity definition.
+ */
+
+package pai.pract11.convexhull.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+import pai.pract11.convexhull.model.engine.FilteredHullEngine;
+import pai.pract11.convexhull.model.engine.HullAlgorithm;
+import pai.pract11.convexhull.model.engine.HullStepper;
+import pai.pract11.convexhull.model.engine.ParallelQuickHullEngine;
+import pai.pract11.convexhull.model.engine.QuickHullEngine;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+
+/**
+ * Class which measures the throughput of the convex hull engines over several
+ * point distributions and sizes. The default sizes fit in the heap of the
+ * fork, and bigger ones can be selected from the command line. It was created
+ * for the eleventh practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class HullEngineBenchmark {
+	/** Seed of the generated points, the same for every engine. */
+	private static final long	SEED	= 42;
+
+	/** Name of the engine, see createEngine. */
+	@Param({ "QUICK_HULL", "MONOTONE_CHAIN", "CHAN", "PARALLEL_QUICK_HULL",
+			"FILTERED_QUICK_HULL" })
+	public String							engineName;
+	/** Distribution of the points. */
+	@Param({ "UNIFORM", "DISK", "GAUSSIAN", "CLUSTERED", "CIRCLE", "COLLINEAR",
+			"DUPLICATES" })
+	public PointDistribution	distribution;
+	/**
+	 * Amount of points. Sizes of 10^8 points do not fit in the heap of the fork,
+	 * so they must be selected with -p size=100000000 and a bigger heap.
+	 */
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	public int								size;
+
+	/** Engine under measurement. */
+	private ConvexHullEngine	engine;
+	/** Points whose convex hull is calculated. */
+	private PointStore				points;
+
+	/**
+	 * Creates the engine with the given name. The names of HullAlgorithm are
+	 * accepted, as well as the engines which can not be selected in the GUI.
+	 *
+	 * @param name
+	 *          Name of the engine.
+	 * @return Engine.
+	 */
+	static ConvexHullEngine createEngine(String name) {
+		switch (name) {
+		case "PARALLEL_QUICK_HULL":
+			return new ParallelQuickHullEngine();
+		case "FILTERED_QUICK_HULL":
+			return new FilteredHullEngine(new QuickHullEngine());
+		default:
+			return HullAlgorithm.fromName(name).createEngine();
+		}
+	}
+
+	/**
+	 * Generates the points and creates the engine.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		engine = createEngine(engineName);
+		points = BenchmarkMain.generate(distribution, size, SEED);
+	}
+
+	/**
+	 * Measures the calculation of the whole convex hull.
+	 *
+	 * @return Convex hull, consumed by JMH.
+	 */
+	@Benchmark
+	public int[] computeHull() {
+		return engine.computeHull(points);
+	}
+
+	/**
+	 * Measures the step by step execution used by the GUI, where every step is
+	 * returned to the caller.
+	 *
+	 * @param blackhole
+	 *          Consumes the steps.
+	 */
+	@Benchmark
+	public void stepThrough(Blackhole blackhole) {
+		HullStepper stepper = engine.stepper(points);
+		while (stepper.hasNext()) {
+			blackhole.consume(stepper.next());
+		}
+	}
+}
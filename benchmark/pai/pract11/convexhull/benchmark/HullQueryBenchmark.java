@@ -0,0 +1,120 @@
+/**
+ * File containing the HullQueryBenchmark entity definition.
+ */
+
+package pai.pract11.convexhull.benchmark;
+
+import java.awt.Polygon;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.HullQueryIndex;
+import pai.pract11.convexhull.model.engine.MonotoneChainEngine;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+import pai.pract11.convexhull.model.generator.PointGenerator;
+
+/**
+ * Class which compares the point-in-hull queries of the index with the ones of
+ * java.awt.Polygon, which take O(h) time and need integer coordinates, so the
+ * points are scaled for it. The convex hull is the one of points on a circle,
+ * so it has as many vertices as points. It was created for the eleventh
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class HullQueryBenchmark {
+	/** Seed of the generated points. */
+	private static final long		SEED	= 42;
+	/** Scale of the coordinates of the polygon, which are integers. */
+	private static final double	SCALE	= 1 << 20;
+
+	/** Amount of vertices of the convex hull. */
+	@Param({ "16", "1024", "65536" })
+	public int								hullSize;
+	/** Amount of points to check. */
+	@Param({ "1000000" })
+	public int								probeCount;
+
+	/** Index of the convex hull. */
+	private HullQueryIndex		index;
+	/** Polygon of the convex hull. */
+	private Polygon						polygon;
+	/** Points to check. */
+	private PointStore				probes;
+
+	/**
+	 * Generates the convex hull and the points to check.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		// The unit circle around the origin, which covers the probes
+		PointStore points = new PointGenerator(PointDistribution.CIRCLE, -1, -1, 2,
+				2).generate(hullSize, SEED);
+		int[] hull = new MonotoneChainEngine().computeHull(points);
+		index = new HullQueryIndex(points, hull);
+		polygon = new Polygon();
+		for (int vertex : hull) {
+			polygon.addPoint((int) (points.getX(vertex) * SCALE),
+					(int) (points.getY(vertex) * SCALE));
+		}
+		probes = new PointGenerator(PointDistribution.UNIFORM, 0, 0, 1, 1)
+				.generate(probeCount, SEED + 1);
+	}
+
+	/**
+	 * Measures the queries of the index in the current thread.
+	 *
+	 * @return Results, consumed by JMH.
+	 */
+	@Benchmark
+	public boolean[] index() {
+		return index.contains(probes);
+	}
+
+	/**
+	 * Measures the parallel queries of the index.
+	 *
+	 * @return Results, consumed by JMH.
+	 */
+	@Benchmark
+	public boolean[] indexParallel() {
+		return index.containsParallel(probes);
+	}
+
+	/**
+	 * Measures the queries of the polygon.
+	 *
+	 * @return Results, consumed by JMH.
+	 */
+	@Benchmark
+	public boolean[] polygon() {
+		boolean[] inside = new boolean[probes.size()];
+		for (int i = 0; i < inside.length; ++i) {
+			inside[i] = polygon.contains(probes.getX(i) * SCALE,
+					probes.getY(i) * SCALE);
+		}
+		return inside;
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * File containing the ParallelScalingBenchmark entity definition.
+ */
+
+package pai.pract11.convexhull.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.AklToussaintFilter;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+import pai.pract11.convexhull.model.engine.ParallelQuickHullEngine;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+
+/**
+ * Class which measures how the parallel parts of the engines scale with the
+ * amount of threads. Every trial uses its own pool, so the common pool of the
+ * JVM does not limit the parallelism. It was created for the eleventh practice
+ * of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ParallelScalingBenchmark {
+	/** Seed of the generated points. */
+	private static final long	SEED	= 42;
+
+	/** Amount of threads of the pool. */
+	@Param({ "1", "2", "4", "8", "16" })
+	public int								threads;
+	/** Distribution of the points. */
+	@Param({ "UNIFORM", "CIRCLE" })
+	public PointDistribution	distribution;
+	/** Amount of points. */
+	@Param({ "1000000", "10000000" })
+	public int								size;
+
+	/** Pool which runs the tasks. */
+	private ForkJoinPool			pool;
+	/** Parallel engine which uses the pool. */
+	private ConvexHullEngine	engine;
+	/** Parallel filter. */
+	private AklToussaintFilter	filter;
+	/** Points whose convex hull is calculated. */
+	private PointStore				points;
+
+	/**
+	 * Generates the points and creates the pool.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		pool = new ForkJoinPool(threads);
+		engine = new ParallelQuickHullEngine(
+				ParallelQuickHullEngine.DEFAULT_THRESHOLD, pool);
+		filter = new AklToussaintFilter();
+		points = BenchmarkMain.generate(distribution, size, SEED);
+	}
+
+	/**
+	 * Shuts the pool down.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Measures the fork/join quick hull.
+	 *
+	 * @return Convex hull, consumed by JMH.
+	 */
+	@Benchmark
+	public int[] parallelQuickHull() {
+		return engine.computeHull(points);
+	}
+
+	/**
+	 * Measures the Akl-Toussaint filter. Its parallel streams run in the pool
+	 * because they are started from one of its tasks.
+	 *
+	 * @return Remaining points, consumed by JMH.
+	 */
+	@Benchmark
+	public int[] aklToussaintFilter() {
+		return pool.submit(() -> filter.filter(points)).join();
+	}
+}
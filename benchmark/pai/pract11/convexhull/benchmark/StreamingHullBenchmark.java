@@ -0,0 +1,118 @@
+/**
+ * File containing the StreamingHullBenchmark entity definition.
+ */
+
+package pai.pract11.convexhull.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+import pai.pract11.convexhull.model.engine.QuickHullEngine;
+import pai.pract11.convexhull.model.engine.StreamingHull;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+
+/**
+ * Class which compares the streaming hull with calculating the convex hull of
+ * the whole window again with the quick hull engine on every tick. Every tick
+ * adds a batch of points of a stream to a window of the last points and
+ * queries its convex hull. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class StreamingHullBenchmark {
+	/** Seed of the generated points. */
+	private static final long	SEED	= 42;
+
+	/** Amount of points of the window. */
+	@Param({ "10000", "1000000" })
+	public int								window;
+	/** Amount of points added on every tick. */
+	@Param({ "1", "1000" })
+	public int								pointsPerTick;
+	/** Distribution of the points. */
+	@Param({ "UNIFORM", "CIRCLE" })
+	public PointDistribution	distribution;
+
+	/** Points of the stream, which is repeated when it ends. */
+	private PointStore				stream;
+	/** Position of the stream of the next point. */
+	private int								next;
+	/** Streaming hull of the window. */
+	private StreamingHull			streamingHull;
+	/** Last points of the stream, as a circular buffer. */
+	private double[]					windowXs;
+	/** Last points of the stream, as a circular buffer. */
+	private double[]					windowYs;
+	/** Engine which calculates the convex hull from scratch. */
+	private ConvexHullEngine	engine;
+
+	/**
+	 * Generates the stream and fills the window.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		stream = BenchmarkMain.generate(distribution, 4 * window, SEED);
+		streamingHull = new StreamingHull(window);
+		windowXs = new double[window];
+		windowYs = new double[window];
+		engine = new QuickHullEngine();
+		for (next = 0; next < window; ++next) {
+			streamingHull.add(stream.getX(next), stream.getY(next));
+			windowXs[next] = stream.getX(next);
+			windowYs[next] = stream.getY(next);
+		}
+	}
+
+	/**
+	 * Measures the streaming hull.
+	 *
+	 * @return Convex hull, consumed by JMH.
+	 */
+	@Benchmark
+	public PointStore streamingHull() {
+		for (int i = 0; i < pointsPerTick; ++i) {
+			streamingHull.add(stream.getX(next), stream.getY(next));
+			next = (next + 1) % stream.size();
+		}
+		return streamingHull.getConvexHull();
+	}
+
+	/**
+	 * Measures calculating the convex hull of the window from scratch.
+	 *
+	 * @return Convex hull, consumed by JMH.
+	 */
+	@Benchmark
+	public int[] recompute() {
+		for (int i = 0; i < pointsPerTick; ++i) {
+			windowXs[next % window] = stream.getX(next);
+			windowYs[next % window] = stream.getY(next);
+			next = (next + 1) % stream.size();
+		}
+		return engine.computeHull(new PointStore(windowXs, windowYs));
+	}
+}
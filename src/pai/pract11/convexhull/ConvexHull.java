@@ -4,7 +4,10 @@
 
 package pai.pract11.convexhull;
 
+import java.util.Arrays;
+
 import pai.pract11.convexhull.controller.ConvexHullController;
+import pai.pract11.convexhull.model.engine.HullAlgorithm;
 
 /**
  * Class which contains the main method of the Convex Hull program. It was created 
@@ -25,14 +28,20 @@ public class ConvexHull {
 	 */
 	public static void main(String[] args) {
 		final int EXPECTED_ARGUMENTS = 2;
-		if (args.length != EXPECTED_ARGUMENTS) {
-			System.err.println("Use: java -jar amountOfPoints timerDelay(ms)");
+		final int OPTIONAL_ARGUMENTS = 1;
+		if (args.length < EXPECTED_ARGUMENTS
+				|| args.length > EXPECTED_ARGUMENTS + OPTIONAL_ARGUMENTS) {
+			System.err.println(
+					"Use: java -jar amountOfPoints timerDelay(ms) [algorithm]");
 			return;
 		}
 		
 		try {
 			final int POINTS = Integer.parseInt(args[0]);
 			final int TIMER_DELAY = Integer.parseInt(args[1]);
+			final HullAlgorithm ALGORITHM = (args.length > EXPECTED_ARGUMENTS)
+					? HullAlgorithm.fromName(args[EXPECTED_ARGUMENTS])
+					: HullAlgorithm.QUICK_HULL;
 			final int WIDTH = 700;
 			final int HEIGHT = 700;
 
@@ -46,10 +55,13 @@ public class ConvexHull {
 			}
 
 			ConvexHullController controller = new ConvexHullController(WIDTH, HEIGHT,
-					POINTS, TIMER_DELAY, false);
+					POINTS, TIMER_DELAY, false, ALGORITHM);
 
 		} catch (NumberFormatException e) {
 			System.err.println("Use: java -jar amountOfPoints timerDelay");
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage() + ". Available algorithms: "
+					+ Arrays.toString(HullAlgorithm.values()));
 		}
 		
 	}
@@ -5,20 +5,39 @@
 package pai.pract11.convexhull.controller;
 
 import java.awt.Color;
-import java.awt.Polygon;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.awt.geom.Point2D;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
 
+import javax.swing.JFileChooser;
 import javax.swing.JSlider;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
-import pai.pract11.convexhull.model.Line;
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+import pai.pract11.convexhull.model.engine.HullAlgorithm;
+import pai.pract11.convexhull.model.engine.HullMetrics;
+import pai.pract11.convexhull.model.engine.HullMetricsSummary;
+import pai.pract11.convexhull.model.engine.HullStep;
+import pai.pract11.convexhull.model.engine.HullStepPipeline;
+import pai.pract11.convexhull.model.engine.HullTimeline;
+import pai.pract11.convexhull.model.engine.IncrementalHull;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+import pai.pract11.convexhull.model.generator.PointGenerator;
+import pai.pract11.convexhull.model.io.HullTraceEngine;
+import pai.pract11.convexhull.model.io.HullTraceReader;
+import pai.pract11.convexhull.model.io.HullTraceWriter;
+import pai.pract11.convexhull.model.io.PointFileReader;
 import pai.pract11.convexhull.view.MainWindow;
 
 /**
@@ -49,87 +68,53 @@ public class ConvexHullController implements ActionListener, ChangeListener {
 		 */
 		@Override
 		public void actionPerformed(ActionEvent e) {
-			if (!ConvexHullController.this.initializedHull) {
-				ConvexHullController.this.initializeHull();
-			} else if(!ConvexHullController.this.callStack.isEmpty()) {
-				int previousConvexHullSize = ConvexHullController.this.convexHull.size();
-				while(previousConvexHullSize == ConvexHullController.this.convexHull.size()) {
-					if (ConvexHullController.this.callStack.isEmpty()) {
-						break;
-					}
-					ConvexHullController.this.addPointToHull();
-				}
-			} else {
-				System.out.println("Finished!");
-				ConvexHullController.this.stopSimulation();
-			}
-		}
-	}
-
-	/**
-	 * Auxiliary class created to store a Line and a set of points, it is used for
-	 * the quick hull algorithm. It was created for the eleventh practice of PAI
-	 * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de
-	 * la Laguna).
-	 * 
-	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
-	 * @version 1.0
-	 * @since 20 abr. 2018
-	 */
-	class LinePointsPair {
-		/** Line of the line-points pair. */
-		private Line							line;
-		/** Points of the line-points pair. */
-		private ArrayList<Point2D.Double>	points;
-
-		/**
-		 * Default constructor.
-		 * 
-		 * @param line
-		 *          Line.
-		 * @param points
-		 *          Points.
-		 */
-		public LinePointsPair(Line line, ArrayList<Point2D.Double> points) {
-			this.line = line;
-			this.points = points;
-		}
-
-		/**
-		 * Getter method for line attribute.
-		 * 
-		 * @return line
-		 */
-		public Line getLine() {
-			return line;
-		}
-
-		/**
-		 * Getter method for points attribute.
-		 * 
-		 * @return points
-		 */
-		public ArrayList<Point2D.Double> getPoints() {
-			return points;
+			ConvexHullController.this.nextFrame();
 		}
 	}
 
+	/** Delay between frames, the shortest one of the timer. */
+	private static final int						FRAME_DELAY				= 16;
+	/** Maximum amount of steps the worker calculates ahead of the view. */
+	private static final int						PIPELINE_CAPACITY	= 1 << 16;
 	/** Points of the convex hull. */
-	private ArrayList<Point2D.Double>				points;
+	private PointStore									points;
 	/** View of the program. */
 	private MainWindow									view;
-	/** Points which conforms the convex hull. */
-	private ArrayList<Point2D.Double>						convexHull;
-	/** Establishes if the hull is initialized. */
-	private boolean											initializedHull;
-	/** Simulates a stack of calls to the addPointToHull method. */
-	private LinkedList<LinePointsPair>	callStack;
+	/** Algorithm used to calculate the convex hull. */
+	private ConvexHullEngine						engine;
+	/**
+	 * Step by step execution of the algorithm in a worker thread, null if it is
+	 * not initialized.
+	 */
+	private HullStepPipeline						pipeline;
+	/**
+	 * Steps taken from the pipeline, which can be shown again, null if there is
+	 * no pipeline.
+	 */
+	private HullTimeline								timeline;
+	/** Measurements of the steps of the pipeline, null if there is none. */
+	private HullMetricsSummary					metrics;
+	/**
+	 * Convex hull extended with the points generated after the algorithm has
+	 * finished, null if no points have been generated since then.
+	 */
+	private IncrementalHull							incrementalHull;
 	/** Timer for the simulation. */
 	private Timer												timer;
-	/** Timer delay. */
+	/** Timer delay, the time between steps of the simulation. */
 	private int													timerDelay;
-	/** Establishes the position of the convex hull where the next point must be inserted. */
-	private int													insertionIndex;
+	/** Establishes if the simulation is running. */
+	private boolean											running;
+	/** Time of the last frame of the simulation, in nanoseconds. */
+	private long												lastFrameTime;
+	/** Time elapsed since the last frame which has not been spent in steps. */
+	private long												pendingTime;
+	/** Steps requested with the next step button which have not been shown. */
+	private int													requestedSteps;
+	/** Steps taken from the pipeline in a frame, reused between frames. */
+	private final List<HullStep>				frameSteps				= new ArrayList<>();
+	/** Seeds of the generated points. */
+	private final SplittableRandom			seeds							= new SplittableRandom();
 	/** Amount of points of the convex hull. */
 	private int numberOfPoints;
 	/** Available colors for view representation. */
@@ -152,14 +137,34 @@ public class ConvexHullController implements ActionListener, ChangeListener {
 	 */
 	public ConvexHullController(int width, int height, int numberOfPoints,
 			int timerDelay, boolean appletMode) {
+		this(width, height, numberOfPoints, timerDelay, appletMode,
+				HullAlgorithm.QUICK_HULL);
+	}
+
+	/**
+	 * Constructor for the application mode with the given algorithm.
+	 * 
+	 * @param width
+	 *          Width of the GUI.
+	 * @param height
+	 *          Height of the GUI.
+	 * @param numberOfPoints
+	 *          Initial amount of points of the convex hull panel.
+	 * @param timerDelay
+	 *          Delay for the timer.
+	 * @param appletMode
+	 * 					Establishes if the execution is in applet mode.
+	 * @param algorithm
+	 *          Algorithm initially used to calculate the convex hull.
+	 */
+	public ConvexHullController(int width, int height, int numberOfPoints,
+			int timerDelay, boolean appletMode, HullAlgorithm algorithm) {
 		this.numberOfPoints = numberOfPoints;
 		this.timerDelay = timerDelay;
-		this.points = new ArrayList<Point2D.Double>();
-		view = new MainWindow(width, height, new ArrayList<Point2D.Double>(), this, appletMode, this, timerDelay, numberOfPoints);
-		convexHull = new ArrayList<Point2D.Double>();
-		callStack = new LinkedList<LinePointsPair>();
-		insertionIndex = 0;
-		timer = new Timer(timerDelay, new TimerListener());
+		this.points = new PointStore();
+		engine = algorithm.createEngine();
+		view = new MainWindow(width, height, new PointStore(), this, appletMode, this, timerDelay, numberOfPoints, algorithm);
+		timer = new Timer(Math.max(timerDelay, FRAME_DELAY), new TimerListener());
 	}
 	
 	/**
@@ -167,6 +172,9 @@ public class ConvexHullController implements ActionListener, ChangeListener {
 	 */
 	private void startSimulation() {
 		view.getControlPanel().runningState();
+		running = true;
+		lastFrameTime = System.nanoTime();
+		pendingTime = 0;
 		timer.start();
 	}
 
@@ -174,11 +182,13 @@ public class ConvexHullController implements ActionListener, ChangeListener {
 	 * Stops the simulation.
 	 */
 	private void stopSimulation() {
-		if (callStack.isEmpty()) {
+		if (isFinished()) {
 			view.getControlPanel().finishedState();
 		} else {
 			view.getControlPanel().stoppedState();
 		}
+		running = false;
+		requestedSteps = 0;
 		timer.stop();
 	}
 
@@ -196,43 +206,104 @@ public class ConvexHullController implements ActionListener, ChangeListener {
 			} catch(NumberFormatException exception) {
 				System.err.println("Invalid amount of points.");
 			}
-			Random random = new Random();
-			for (int i = 0; i < numberOfPoints; ++i) {
-				view.getConvexHullPanel();
-				points.add(new Point2D.Double(
-						random.nextInt(view.getConvexHullPanel().getWidth()
-								- view.getConvexHullPanel().getDiameter()),
-						random.nextInt(view.getConvexHullPanel().getHeight()
-								- view.getConvexHullPanel().getDiameter())));
+			boolean finished = isFinished();
+			if (!finished && !closePipeline()) {
+				// The worker must not read the points while they are added, so if
+				// it has not stopped yet it keeps the old ones
+				points = points.copy();
 			}
+			int firstNewPoint = points.size();
+			PointDistribution distribution = (PointDistribution) view
+					.getControlPanel().getDistributionComboBox().getSelectedItem();
+			final int DIAMETER = view.getConvexHullPanel().getDiameter();
+			PointGenerator generator = new PointGenerator(distribution, 0, 0,
+					Math.max(0, view.getConvexHullPanel().getWidth() - DIAMETER),
+					Math.max(0, view.getConvexHullPanel().getHeight() - DIAMETER));
+			generator.generate(points, Math.max(numberOfPoints, 0),
+					seeds.nextLong());
 			view.getConvexHullPanel().setPoints(points);
-			view.getControlPanel().initializedState();
-			initializedHull = false;
-			insertionIndex = 0;
-			callStack.clear();
+			if (finished) {
+				// The finished convex hull is extended instead of calculated again
+				if (incrementalHull == null) {
+					incrementalHull = new IncrementalHull(points);
+					for (int vertex : pipeline.getConvexHull()) {
+						incrementalHull.insert(vertex);
+					}
+				}
+				incrementalHull.insertRange(firstNewPoint, points.size());
+				view.getConvexHullPanel().setConvexHull(incrementalHull.getConvexHull());
+			} else {
+				view.getConvexHullPanel().restartConvexHull();
+				view.getControlPanel().initializedState();
+				incrementalHull = null;
+			}
 		}
 		
-		if (e.getActionCommand().equals("Next step")) {
-			if (!initializedHull) {
-				initializeHull();
-			} else if(!callStack.isEmpty()) {
-				int previousConvexHullSize = convexHull.size();
-				while(previousConvexHullSize == convexHull.size()) {
-					if (callStack.isEmpty()) {
-						break;
+		if (e.getActionCommand().equals("Load points")) {
+			JFileChooser chooser = new JFileChooser();
+			if (chooser.showOpenDialog(view) == JFileChooser.APPROVE_OPTION) {
+				try {
+					points = PointFileReader.read(chooser.getSelectedFile().toPath());
+					view.getConvexHullPanel().setPoints(points);
+					view.getConvexHullPanel().restartConvexHull();
+					view.getControlPanel().initializedState();
+					closePipeline();
+					incrementalHull = null;
+				} catch (IOException exception) {
+					System.err.println("Invalid point file: " + exception.getMessage());
+				}
+			}
+		}
+		
+		if (e.getActionCommand().equals("Save trace")) {
+			JFileChooser chooser = new JFileChooser();
+			if (chooser.showSaveDialog(view) == JFileChooser.APPROVE_OPTION) {
+				saveTrace(chooser.getSelectedFile().toPath());
+			}
+		}
+		
+		if (e.getActionCommand().equals("Load trace")) {
+			JFileChooser chooser = new JFileChooser();
+			if (chooser.showOpenDialog(view) == JFileChooser.APPROVE_OPTION) {
+				Path path = chooser.getSelectedFile().toPath();
+				try (HullTraceReader reader = new HullTraceReader(path)) {
+					if (reader.matches(points)) {
+						// The trace replaces the algorithm until another one is selected
+						engine = new HullTraceEngine(path);
+						view.getConvexHullPanel().restartConvexHull();
+						view.getControlPanel().initializedState();
+						closePipeline();
+						incrementalHull = null;
+					} else {
+						System.err.println("The trace was recorded over "
+								+ reader.getPointCount() + " different points.");
 					}
-					addPointToHull();
+				} catch (IOException exception) {
+					System.err.println("Invalid trace: " + exception.getMessage());
 				}
-			} else {
-				System.out.println("Finished!");
-				stopSimulation();
 			}
 		}
 		
-		if (e.getActionCommand().equals("Run")) {
-			if (!initializedHull) {
-				initializeHull();
+		if (e.getActionCommand().equals("Previous step")) {
+			if (timeline != null && timeline.getPosition() > 0) {
+				seekStep(timeline.getPosition() - 1);
 			}
+		}
+		
+		if (e.getActionCommand().equals("Next step")) {
+			nextStep();
+		}
+		
+		if (e.getActionCommand().equals("Go to step")) {
+			try {
+				seekStep(Math.max(Integer.parseInt(
+						view.getControlPanel().getStepTextField().getText()), 0));
+			} catch(NumberFormatException exception) {
+				System.err.println("Invalid step.");
+			}
+		}
+		
+		if (e.getActionCommand().equals("Run")) {
 			startSimulation();
 		}
 		
@@ -241,14 +312,25 @@ public class ConvexHullController implements ActionListener, ChangeListener {
 		}
 		
 		if (e.getActionCommand().equals("Reset")) {
-			points = new ArrayList<Point2D.Double>();
+			points = new PointStore();
 			view.getConvexHullPanel().setPoints(points);
-			convexHull = new ArrayList<>();
 			view.getConvexHullPanel().restartConvexHull();
 			view.getControlPanel().restartState();
-			initializedHull = false;
-			insertionIndex = 0;
-			callStack.clear();
+			closePipeline();
+			incrementalHull = null;
+		}
+		
+		if (e.getActionCommand().equals("Algorithm")) {
+			HullAlgorithm algorithm = (HullAlgorithm) view.getControlPanel()
+					.getAlgorithmComboBox().getSelectedItem();
+			engine = algorithm.createEngine();
+			if (pipeline != null) {
+				view.getConvexHullPanel().restartConvexHull();
+				view.getConvexHullPanel().repaint();
+				view.getControlPanel().initializedState();
+				closePipeline();
+				incrementalHull = null;
+			}
 		}
 		
 		if (e.getActionCommand().equals("Lines color")) {
@@ -263,137 +345,190 @@ public class ConvexHullController implements ActionListener, ChangeListener {
 	}
 
 	/**
-	 * This method prepares the data structures needed by the quick hull
-	 * algorithm.
+	 * Records the steps of the algorithm over the current points in a trace
+	 * file. The algorithm runs in a background thread, so the view keeps
+	 * responding, over a copy of the points, which can be changed meanwhile.
+	 * The save trace button is disabled until the trace is written.
+	 *
+	 * @param path
+	 *          Path of the file.
 	 */
-	private void initializeHull() {
-		convexHull = new ArrayList<>();
-		view.getConvexHullPanel().restartConvexHull();
-		Point2D.Double firstPoint = new Point2D.Double(view.getConvexHullPanel().getWidth(), 0);
-		Point2D.Double lastPoint = new Point2D.Double(0, 0);
-		initializedHull = true;
-		for (int i = 0; i < points.size(); ++i) {
-			if (points.get(i).getX() < firstPoint.getX()) {
-				firstPoint = points.get(i);
-			}
-			if (points.get(i).getX() > lastPoint.getX()) {
-				lastPoint = points.get(i);
+	private void saveTrace(Path path) {
+		final ConvexHullEngine ENGINE = engine;
+		final PointStore POINTS = points.copy();
+		view.getControlPanel().setSavingTrace(true);
+		Thread recorder = new Thread(() -> {
+			try {
+				HullTraceWriter.record(ENGINE, POINTS, path);
+			} catch (IOException | UncheckedIOException exception) {
+				System.err.println("The trace can not be saved: "
+						+ exception.getMessage());
+			} finally {
+				SwingUtilities.invokeLater(
+						() -> view.getControlPanel().setSavingTrace(false));
 			}
+		}, "Convex hull trace recorder");
+		recorder.setDaemon(true);
+		recorder.start();
+	}
+
+	/**
+	 * Shows the next change of the convex hull in the view. The algorithm is
+	 * initialized if needed. If the worker has not calculated the step yet, it
+	 * is shown by the timer as soon as it is available.
+	 */
+	private void nextStep() {
+		requestedSteps++;
+		requestedSteps -= showSteps(requestedSteps);
+		if (!stopIfFinished() && requestedSteps > 0 && !running) {
+			timer.start();
 		}
-		
-		convexHull.add(insertionIndex, firstPoint);
-		view.getConvexHullPanel().addPointToConvexHull(insertionIndex,
-				firstPoint);
-		insertionIndex++;
-		convexHull.add(insertionIndex, lastPoint);
-		view.getConvexHullPanel().addPointToConvexHull(insertionIndex,
-				lastPoint);
-		
-		Line initialLine = new Line(firstPoint, lastPoint);
-		ArrayList<Point2D.Double> abovePointsSet = new ArrayList<>();
-		ArrayList<Point2D.Double> belowPointsSet = new ArrayList<>();
-		for (Point2D.Double point : points) {
-			if (convexHull.contains(point)) {
-				continue;
-			}
-			if (Line.isPointAboveLine(initialLine, point)) {
-				abovePointsSet.add(point);
+	}
+
+	/**
+	 * Shows the convex hull after the given amount of steps. The steps already
+	 * taken are restored from the timeline, and the following ones are shown
+	 * by the timer as soon as the worker calculates them.
+	 *
+	 * @param step
+	 *          Amount of steps.
+	 */
+	private void seekStep(int step) {
+		if (timeline == null) {
+			requestedSteps = step;
+		} else {
+			timeline.seek(Math.min(step, timeline.getLength()));
+			view.getConvexHullPanel().setConvexHull(timeline.getConvexHull());
+			requestedSteps = step - timeline.getPosition();
+			if (isFinished()) {
+				view.getControlPanel().finishedState();
 			} else {
-				belowPointsSet.add(point);
+				view.getControlPanel().stoppedState();
+			}
+		}
+		if (requestedSteps > 0) {
+			requestedSteps -= showSteps(requestedSteps);
+			if (!stopIfFinished() && requestedSteps > 0) {
+				timer.start();
 			}
-			
 		}
-		callStack.addFirst(new LinePointsPair(initialLine, belowPointsSet));
-		callStack.addFirst(new LinePointsPair(new Line(initialLine.getSecondPoint(), initialLine.getFirstPoint()), abovePointsSet));
 	}
 
 	/**
-	 * This method simulates an iteration of the quick hull algorithm.
+	 * Shows the steps of a frame in the view. While the simulation is running,
+	 * the selected amount of steps is shown for every timerDelay milliseconds
+	 * elapsed since the last frame, so the steps of the late frames and of the
+	 * fast speeds are shown together in a single repaint. Otherwise the steps
+	 * requested with the next step button are shown.
 	 */
-	private void addPointToHull() {
-		Line currentLine = callStack.getFirst().getLine();
-		ArrayList<Point2D.Double> points = callStack.getFirst().getPoints();
-		callStack.removeFirst();
-		
-		// Delete the points that are inside the current convex hull
-		Polygon currentConvexHull = new Polygon();
-		ArrayList<Point2D.Double> pointsToRemove = new ArrayList<>();
-		for (Point2D.Double point: convexHull) {
-			currentConvexHull.addPoint((int)point.getX(), (int)point.getY());
-		}
-		for (Point2D.Double point: points) {
-			if (currentConvexHull.contains(point)) {
-				pointsToRemove.add(point);
+	private void nextFrame() {
+		if (!running) {
+			requestedSteps -= showSteps(requestedSteps);
+			if (!stopIfFinished() && requestedSteps == 0) {
+				timer.stop();
 			}
+			return;
 		}
-		points.removeAll(pointsToRemove);
-		
-		Point2D.Double farthestPoint = null;
-		double farthestDistance = -1;
-		for(Point2D.Double point: points) {
-			if (convexHull.contains(point)) {
-				continue;
-			}
-			if (Line.distanceToPoint(currentLine, point) > farthestDistance) {
-				farthestDistance = Line.distanceToPoint(currentLine, point);
-				farthestPoint = point;
-			}
+		long now = System.nanoTime();
+		pendingTime += now - lastFrameTime;
+		lastFrameTime = now;
+		final long DELAY_TIME = TimeUnit.MILLISECONDS.toNanos(timerDelay);
+		final int STEPS_PER_DELAY = (Integer) view.getControlPanel()
+				.getSpeedComboBox().getSelectedItem();
+		int dueSteps = (int) Math.min(pendingTime * STEPS_PER_DELAY / DELAY_TIME,
+				Integer.MAX_VALUE);
+		int shownSteps = showSteps(dueSteps);
+		// The time is not accumulated while the worker is behind
+		pendingTime = (shownSteps < dueSteps) ? 0
+				: pendingTime - dueSteps * DELAY_TIME / STEPS_PER_DELAY;
+		stopIfFinished();
+	}
+
+	/**
+	 * Applies to the view up to the given amount of steps. The steps after the
+	 * current one of the timeline are replayed from it, and then the ones
+	 * already calculated by the worker, which is started if needed, are taken.
+	 *
+	 * @param maxSteps
+	 *          Maximum amount of steps to show.
+	 * @return Amount of steps shown.
+	 */
+	private int showSteps(int maxSteps) {
+		if (pipeline == null) {
+			// The steps are also emitted as Flight Recorder events
+			metrics = new HullMetricsSummary();
+			pipeline = new HullStepPipeline(engine, points,
+					PIPELINE_CAPACITY,
+					HullMetrics.FLIGHT_RECORDER.andThen(metrics));
+			pipeline.start();
+			timeline = new HullTimeline();
 		}
-		
-		if (farthestPoint == null) {
-			return;
+		int replayedSteps = Math.min(maxSteps,
+				timeline.getLength() - timeline.getPosition());
+		if (replayedSteps > 0) {
+			timeline.seek(timeline.getPosition() + replayedSteps);
+			view.getConvexHullPanel().setConvexHull(timeline.getConvexHull());
 		}
-		
-		Polygon triangle = new Polygon();
-		triangle.addPoint((int)currentLine.getFirstPoint().getX(), (int)currentLine.getFirstPoint().getY());
-		triangle.addPoint((int)farthestPoint.x, (int)farthestPoint.y);
-		triangle.addPoint((int)currentLine.getSecondPoint().getX(), (int)currentLine.getSecondPoint().getY());
-		
-		ArrayList<Point2D.Double> inside = new ArrayList<>();
-		ArrayList<Point2D.Double> outside = new ArrayList<>();
-		
-		for (Point2D.Double p: points) {
-			if (triangle.contains(p)) {
-				inside.add(p);
+		frameSteps.clear();
+		pipeline.drainTo(frameSteps, maxSteps - replayedSteps);
+		for (HullStep step : frameSteps) {
+			timeline.append(step);
+			if (step.isRemoval()) {
+				view.getConvexHullPanel().removePointFromConvexHull(
+						step.getPointIndex());
 			} else {
-				outside.add(p);
+				view.getConvexHullPanel().addPointToConvexHull(step.getPointIndex(),
+						step.getNextPoint());
 			}
 		}
-		
-		insertionIndex = convexHull.indexOf(currentLine.getSecondPoint());
-		convexHull.add(insertionIndex, farthestPoint);
-		view.getConvexHullPanel().addPointToConvexHull(insertionIndex, farthestPoint);
-		
-		boolean farthestPointAvobeLine = Line.isPointAboveLine(currentLine, farthestPoint);
-		ArrayList<Point2D.Double> firstPointsSet = new ArrayList<>();
-		ArrayList<Point2D.Double> secondPointsSet = new ArrayList<>();
-		for(Point2D.Double point: points) {
-			if (triangle.contains(point)) {
-				continue;
-			}
-			if (farthestPointAvobeLine) {
-				if (Line.isPointAboveLine(new Line(currentLine.getFirstPoint(), farthestPoint), point)) {
-					firstPointsSet.add(point);
-				}
-				if (Line.isPointAboveLine(new Line(farthestPoint, currentLine.getSecondPoint()), point)) {
-					secondPointsSet.add(point);
-				}
-			} else {
-				if (!Line.isPointAboveLine(new Line(currentLine.getFirstPoint(), farthestPoint), point)) {
-					firstPointsSet.add(point);
-				}
-				if (!Line.isPointAboveLine(new Line(farthestPoint, currentLine.getSecondPoint()), point)) {
-					secondPointsSet.add(point);
-				}
-			}
+		if (!frameSteps.isEmpty()) {
+			view.getControlPanel().showMetrics(metrics);
 		}
-		
-		if (!firstPointsSet.isEmpty()) {
-			callStack.addFirst(new LinePointsPair(new Line(currentLine.getFirstPoint(), farthestPoint), firstPointsSet));
+		return replayedSteps + frameSteps.size();
+	}
+
+	/**
+	 * Stops the simulation if the algorithm has finished or failed.
+	 *
+	 * @return Establishes if the simulation has been stopped.
+	 */
+	private boolean stopIfFinished() {
+		if (pipeline.getFailure() != null) {
+			System.err.println("The algorithm has failed: "
+					+ pipeline.getFailure().getMessage());
+		} else if (!isFinished()) {
+			return false;
 		}
-		if (!secondPointsSet.isEmpty()) {
-			callStack.addFirst(new LinePointsPair(new Line(farthestPoint, currentLine.getSecondPoint()), secondPointsSet));
+		stopSimulation();
+		return true;
+	}
+
+	/**
+	 * Checks if the algorithm has finished and its last step is shown.
+	 *
+	 * @return Result.
+	 */
+	private boolean isFinished() {
+		return pipeline != null && pipeline.isFinished() && timeline.isAtEnd();
+	}
+
+	/**
+	 * Stops the worker of the algorithm and discards its steps.
+	 *
+	 * @return Establishes if the worker has stopped reading the points.
+	 */
+	private boolean closePipeline() {
+		boolean terminated = true;
+		if (pipeline != null) {
+			pipeline.close();
+			terminated = pipeline.isTerminated();
+			pipeline = null;
+			timeline = null;
+			metrics = null;
+			view.getControlPanel().showMetrics(null);
 		}
+		requestedSteps = 0;
+		return terminated;
 	}
 
 	/**
@@ -415,7 +550,7 @@ public class ConvexHullController implements ActionListener, ChangeListener {
 			JSlider source = (JSlider)e.getSource();
 	    if (!source.getValueIsAdjusting()) {
 	        timerDelay = source.getValue();
-	        timer.setDelay(timerDelay);
+	        timer.setDelay(Math.max(timerDelay, FRAME_DELAY));
 	    }
 		} else if (e.getSource().equals(view.getControlPanel().getPointsDiameterSlider())) {
 			JSlider source = (JSlider)e.getSource();
@@ -0,0 +1,134 @@
+/**
+ * File containing the IndexList entity definition.
+ */
+
+package pai.pract11.convexhull.model;
+
+import java.util.Arrays;
+
+/**
+ * Class which represents a growable list of point indices backed by an int
+ * array. It is used to store convex hulls as indices of a PointStore. It was
+ * created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class IndexList {
+	/** Default capacity of a new list. */
+	private static final int	DEFAULT_CAPACITY	= 16;
+	/** Indices of the list. */
+	private int[]							indices;
+	/** Amount of indices of the list. */
+	private int								size;
+
+	/**
+	 * Default constructor.
+	 */
+	public IndexList() {
+		this.indices = new int[DEFAULT_CAPACITY];
+		this.size = 0;
+	}
+
+	/**
+	 * Adds an index at the end of the list.
+	 *
+	 * @param index
+	 *          Index to add.
+	 */
+	public void add(int index) {
+		add(size, index);
+	}
+
+	/**
+	 * Inserts an index in the given position of the list.
+	 *
+	 * @param position
+	 *          Position of the list.
+	 * @param index
+	 *          Index to add.
+	 */
+	public void add(int position, int index) {
+		if (position < 0 || position > size) {
+			throw new IndexOutOfBoundsException("Invalid position " + position);
+		}
+		if (size == indices.length) {
+			indices = Arrays.copyOf(indices, indices.length * 2);
+		}
+		System.arraycopy(indices, position, indices, position + 1, size - position);
+		indices[position] = index;
+		size++;
+	}
+
+	/**
+	 * Removes the index stored in the given position of the list.
+	 *
+	 * @param position
+	 *          Position of the list.
+	 * @return Removed index.
+	 */
+	public int remove(int position) {
+		int index = get(position);
+		System.arraycopy(indices, position + 1, indices, position,
+				size - position - 1);
+		size--;
+		return index;
+	}
+
+	/**
+	 * Returns the index stored in the given position of the list.
+	 *
+	 * @param position
+	 *          Position of the list.
+	 * @return Index.
+	 */
+	public int get(int position) {
+		if (position < 0 || position >= size) {
+			throw new IndexOutOfBoundsException("Invalid position " + position);
+		}
+		return indices[position];
+	}
+
+	/**
+	 * Returns the position of the first occurrence of the given index.
+	 *
+	 * @param index
+	 *          Index to find.
+	 * @return Position, or -1 if the list does not contain the index.
+	 */
+	public int indexOf(int index) {
+		for (int i = 0; i < size; ++i) {
+			if (indices[i] == index) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Getter method for size attribute.
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Deletes all the indices of the list.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Returns a copy of the indices of the list.
+	 *
+	 * @return Indices.
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(indices, size);
+	}
+}
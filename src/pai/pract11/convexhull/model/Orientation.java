@@ -0,0 +1,375 @@
+/**
+ * File containing the Orientation entity definition.
+ */
+
+package pai.pract11.convexhull.model;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class which contains the orientation predicates used by the convex hull
+ * algorithms. All of them work with primitive coordinates, so they can be
+ * called once per point in the hot loops. The signs of the results are exact:
+ * the products are calculated in double precision and checked against a bound
+ * of their rounding error, as proposed by Shewchuk, and only the rare cases
+ * which are too close to zero are calculated again with exact arithmetic. It
+ * was created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public final class Orientation {
+	/** The point is on the left side of the directed line. */
+	public static final int	LEFT				= 1;
+	/** The point is on the right side of the directed line. */
+	public static final int	RIGHT				= -1;
+	/** The point is on the line. */
+	public static final int	COLLINEAR	= 0;
+
+	/** Half of the distance between 1 and the next double, 2^-53. */
+	private static final double			EPSILON						= Math.ulp(1.0) / 2;
+	/** Relative error bound of a determinant calculated with doubles. */
+	private static final double			ERROR_BOUND				= (3 + 16 * EPSILON)
+			* EPSILON;
+	/** Products below this could lose bits because of the underflow. */
+	private static final double			UNDERFLOW_LIMIT		= 0x1p-900;
+	/** Products above this could overflow. */
+	private static final double			OVERFLOW_LIMIT		= 0x1p900;
+	/** Amount of determinants which could not be decided by the filter. */
+	private static final LongAdder	FALLBACKS					= new LongAdder();
+
+	/**
+	 * Private constructor, this class only contains static methods.
+	 */
+	private Orientation() {
+	}
+
+	/**
+	 * Returns the cross product of the vectors (b - a) and (c - a), that is,
+	 * twice the signed area of the triangle abc. It is positive when c is on the
+	 * left side of the directed line ab, negative when it is on the right side
+	 * and zero when the three points are collinear. Its absolute value is
+	 * proportional to the distance between c and the line ab, so it can be
+	 * used to compare distances to the same line. The sign is always exact, the
+	 * value has at most the error given by crossErrorBound.
+	 *
+	 * Note that the GUI uses a coordinate system where the y axis grows
+	 * downwards, so "left" is seen as "right" on the screen.
+	 *
+	 * @param ax
+	 *          X coordinate of the first point of the line.
+	 * @param ay
+	 *          Y coordinate of the first point of the line.
+	 * @param bx
+	 *          X coordinate of the second point of the line.
+	 * @param by
+	 *          Y coordinate of the second point of the line.
+	 * @param cx
+	 *          X coordinate of the point to check.
+	 * @param cy
+	 *          Y coordinate of the point to check.
+	 * @return Cross product.
+	 */
+	public static double cross(double ax, double ay, double bx, double by,
+			double cx, double cy) {
+		return determinant(bx, ax, by, ay, cx, ax, cy, ay);
+	}
+
+	/**
+	 * Returns the cross product of three points of a store given by their
+	 * coordinate arrays.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param a
+	 *          Index of the first point of the line.
+	 * @param b
+	 *          Index of the second point of the line.
+	 * @param c
+	 *          Index of the point to check.
+	 * @return Cross product.
+	 * @see #cross(double, double, double, double, double, double)
+	 */
+	public static double cross(double[] xs, double[] ys, int a, int b, int c) {
+		return cross(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+	}
+
+	/**
+	 * Returns the difference between the cross products of the points p and q
+	 * with the directed line ab, that is, a value which is positive when p is
+	 * farther than q on the left side of the line. The sign is always exact, so
+	 * it breaks the ties of the cross products which are too close.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param a
+	 *          Index of the first point of the line.
+	 * @param b
+	 *          Index of the second point of the line.
+	 * @param p
+	 *          Index of the first point to compare.
+	 * @param q
+	 *          Index of the second point to compare.
+	 * @return Difference between the cross products.
+	 */
+	public static double crossDifference(double[] xs, double[] ys, int a, int b,
+			int p, int q) {
+		return determinant(xs[b], xs[a], ys[b], ys[a], xs[p], xs[q], ys[p], ys[q]);
+	}
+
+	/**
+	 * Returns a bound of the error of the cross product of three points of a
+	 * store.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param a
+	 *          Index of the first point of the line.
+	 * @param b
+	 *          Index of the second point of the line.
+	 * @param c
+	 *          Index of the point to check.
+	 * @return Maximum absolute error.
+	 * @see #cross(double[], double[], int, int, int)
+	 */
+	public static double crossErrorBound(double[] xs, double[] ys, int a, int b,
+			int c) {
+		return ERROR_BOUND * (Math.abs((xs[b] - xs[a]) * (ys[c] - ys[a]))
+				+ Math.abs((ys[b] - ys[a]) * (xs[c] - xs[a])));
+	}
+
+	/**
+	 * Returns the amount of determinants which have been too close to zero to
+	 * trust their double precision value since the program started or the
+	 * counter was reset.
+	 *
+	 * @return Amount of determinants.
+	 */
+	public static long getFallbackCount() {
+		return FALLBACKS.sum();
+	}
+
+	/**
+	 * Resets the counter of determinants which have not been decided by the
+	 * double precision filter.
+	 */
+	public static void resetFallbackCount() {
+		FALLBACKS.reset();
+	}
+
+	/**
+	 * Returns the determinant (ux1 - ux0) * (vy1 - vy0) - (uy1 - uy0) *
+	 * (vx1 - vx0) with the exact sign. It is calculated in double precision
+	 * first, and its value is returned if it is greater than the bound of its
+	 * rounding error, or if it is exactly zero because both products have a
+	 * zero factor. Otherwise, if all the differences are exact, it is
+	 * calculated again with fused multiply-adds, whose relative error is lower
+	 * than 1, so they have the right sign. Only if a difference was rounded or
+	 * the products could underflow, it is calculated with BigDecimal.
+	 *
+	 * @param ux1
+	 *          Minuend of the x coordinate of the first vector.
+	 * @param ux0
+	 *          Subtrahend of the x coordinate of the first vector.
+	 * @param uy1
+	 *          Minuend of the y coordinate of the first vector.
+	 * @param uy0
+	 *          Subtrahend of the y coordinate of the first vector.
+	 * @param vx1
+	 *          Minuend of the x coordinate of the second vector.
+	 * @param vx0
+	 *          Subtrahend of the x coordinate of the second vector.
+	 * @param vy1
+	 *          Minuend of the y coordinate of the second vector.
+	 * @param vy0
+	 *          Subtrahend of the y coordinate of the second vector.
+	 * @return Determinant.
+	 */
+	private static double determinant(double ux1, double ux0, double uy1,
+			double uy0, double vx1, double vx0, double vy1, double vy0) {
+		double ux = ux1 - ux0;
+		double uy = uy1 - uy0;
+		double vx = vx1 - vx0;
+		double vy = vy1 - vy0;
+		double left = ux * vy;
+		double right = uy * vx;
+		double determinant = left - right;
+		double bound = ERROR_BOUND * (Math.abs(left) + Math.abs(right));
+		if (determinant > bound || -determinant > bound) {
+			return determinant;
+		}
+		// Both products are exactly zero if each one has a zero difference, as
+		// with points on a horizontal or vertical line or repeated points, and
+		// the difference of two doubles is only zero if they are equal
+		if (bound == 0 && (ux == 0 || vy == 0) && (uy == 0 || vx == 0)) {
+			return 0;
+		}
+		return slowDeterminant(ux1, ux0, uy1, uy0, vx1, vx0, vy1, vy0);
+	}
+
+	/**
+	 * Returns the determinant with the exact sign when the filter has failed.
+	 * It is kept apart from the filter, so the filter can be inlined.
+	 *
+	 * @param ux1
+	 *          Minuend of the x coordinate of the first vector.
+	 * @param ux0
+	 *          Subtrahend of the x coordinate of the first vector.
+	 * @param uy1
+	 *          Minuend of the y coordinate of the first vector.
+	 * @param uy0
+	 *          Subtrahend of the y coordinate of the first vector.
+	 * @param vx1
+	 *          Minuend of the x coordinate of the second vector.
+	 * @param vx0
+	 *          Subtrahend of the x coordinate of the second vector.
+	 * @param vy1
+	 *          Minuend of the y coordinate of the second vector.
+	 * @param vy0
+	 *          Subtrahend of the y coordinate of the second vector.
+	 * @return Determinant.
+	 * @see #determinant(double, double, double, double, double, double, double,
+	 *      double)
+	 */
+	private static double slowDeterminant(double ux1, double ux0, double uy1,
+			double uy0, double vx1, double vx0, double vy1, double vy0) {
+		FALLBACKS.increment();
+		double ux = ux1 - ux0;
+		double uy = uy1 - uy0;
+		double vx = vx1 - vx0;
+		double vy = vy1 - vy0;
+		if (!isFinite(ux1, ux0, uy1, uy0) || !isFinite(vx1, vx0, vy1, vy0)) {
+			// There is no exact value for infinite or NaN coordinates
+			return ux * vy - uy * vx;
+		}
+		if (isExactDifference(ux1, ux0, ux) && isExactDifference(uy1, uy0, uy)
+				&& isExactDifference(vx1, vx0, vx) && isExactDifference(vy1, vy0, vy)
+				&& isSafeProduct(ux, vy) && isSafeProduct(uy, vx)) {
+			// Kahan's algorithm, the error of the right product is kept apart
+			double right = uy * vx;
+			double rightError = Math.fma(-uy, vx, right);
+			return Math.fma(ux, vy, -right) + rightError;
+		}
+		BigDecimal exact = new BigDecimal(ux1).subtract(new BigDecimal(ux0))
+				.multiply(new BigDecimal(vy1).subtract(new BigDecimal(vy0)))
+				.subtract(new BigDecimal(uy1).subtract(new BigDecimal(uy0))
+						.multiply(new BigDecimal(vx1).subtract(new BigDecimal(vx0))));
+		double value = exact.doubleValue();
+		if (value == 0 && exact.signum() != 0) {
+			return Math.copySign(Double.MIN_VALUE, exact.signum());
+		}
+		return value;
+	}
+
+	/**
+	 * Checks if four coordinates are finite.
+	 *
+	 * @param a
+	 *          First coordinate.
+	 * @param b
+	 *          Second coordinate.
+	 * @param c
+	 *          Third coordinate.
+	 * @param d
+	 *          Fourth coordinate.
+	 * @return Result.
+	 */
+	private static boolean isFinite(double a, double b, double c, double d) {
+		return Double.isFinite(a) && Double.isFinite(b) && Double.isFinite(c)
+				&& Double.isFinite(d);
+	}
+
+	/**
+	 * Checks if a difference of doubles has been calculated without rounding.
+	 *
+	 * @param minuend
+	 *          Minuend.
+	 * @param subtrahend
+	 *          Subtrahend.
+	 * @param difference
+	 *          Difference calculated in double precision.
+	 * @return Result.
+	 */
+	private static boolean isExactDifference(double minuend, double subtrahend,
+			double difference) {
+		// Knuth's two-difference, the rounding error is zero if it is exact
+		double subtrahendVirtual = minuend - difference;
+		double minuendVirtual = difference + subtrahendVirtual;
+		return (minuend - minuendVirtual) + (subtrahendVirtual - subtrahend) == 0;
+	}
+
+	/**
+	 * Checks if a product of doubles and its rounding error can be calculated
+	 * without underflow or overflow.
+	 *
+	 * @param a
+	 *          First factor.
+	 * @param b
+	 *          Second factor.
+	 * @return Result.
+	 */
+	private static boolean isSafeProduct(double a, double b) {
+		double product = Math.abs(a * b);
+		return (product == 0 && (a == 0 || b == 0))
+				|| (product > UNDERFLOW_LIMIT && product < OVERFLOW_LIMIT);
+	}
+
+	/**
+	 * Returns the signed area of the triangle abc.
+	 *
+	 * @param ax
+	 *          X coordinate of the first point.
+	 * @param ay
+	 *          Y coordinate of the first point.
+	 * @param bx
+	 *          X coordinate of the second point.
+	 * @param by
+	 *          Y coordinate of the second point.
+	 * @param cx
+	 *          X coordinate of the third point.
+	 * @param cy
+	 *          Y coordinate of the third point.
+	 * @return Signed area.
+	 */
+	public static double signedArea(double ax, double ay, double bx, double by,
+			double cx, double cy) {
+		return cross(ax, ay, bx, by, cx, cy) / 2;
+	}
+
+	/**
+	 * Returns the side of the directed line ab where the point c is.
+	 *
+	 * @param ax
+	 *          X coordinate of the first point of the line.
+	 * @param ay
+	 *          Y coordinate of the first point of the line.
+	 * @param bx
+	 *          X coordinate of the second point of the line.
+	 * @param by
+	 *          Y coordinate of the second point of the line.
+	 * @param cx
+	 *          X coordinate of the point to check.
+	 * @param cy
+	 *          Y coordinate of the point to check.
+	 * @return LEFT, RIGHT or COLLINEAR.
+	 */
+	public static int orientation(double ax, double ay, double bx, double by,
+			double cx, double cy) {
+		double cross = cross(ax, ay, bx, by, cx, cy);
+		if (cross > 0) {
+			return LEFT;
+		} else if (cross < 0) {
+			return RIGHT;
+		}
+		return COLLINEAR;
+	}
+}
@@ -0,0 +1,170 @@
+/**
+ * File containing the OrientationTest entity definition.
+ */
+
+package pai.pract11.convexhull.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class OrientationTest {
+
+	/** Amount of points used by the allocation test. */
+	private static final int	POINTS		= 100000;
+	/** Amount of warm up rounds of the allocation test. */
+	private static final int	WARM_UP	= 50;
+
+	/**
+	 * Test method for cross method of the Orientation class.
+	 */
+	@Test
+	public final void testCross() {
+		assertEquals(50, Orientation.cross(0, 0, 10, 0, 5, 5), 0);
+		assertEquals(-50, Orientation.cross(0, 0, 10, 0, 5, -5), 0);
+		assertEquals(0, Orientation.cross(0, 0, 10, 10, 5, 5), 0);
+		assertEquals(25, Orientation.signedArea(0, 0, 10, 0, 5, 5), 0);
+	}
+
+	/**
+	 * Test method for orientation method of the Orientation class. Vertical
+	 * lines do not need a special case.
+	 */
+	@Test
+	public final void testOrientation() {
+		assertEquals(Orientation.LEFT, Orientation.orientation(2, 2, 2, 3, 1, 0));
+		assertEquals(Orientation.RIGHT, Orientation.orientation(2, 2, 2, 3, 3, 0));
+		assertEquals(Orientation.COLLINEAR,
+				Orientation.orientation(2, 2, 2, 3, 2, -7));
+		assertEquals(Orientation.RIGHT, Orientation.orientation(2, 3, 2, 2, 1, 0));
+	}
+
+	/**
+	 * Test method for cross method of the Orientation class with points which
+	 * are almost collinear. The sign must be the exact one.
+	 */
+	@Test
+	public final void testCrossExactSign() {
+		Random random = new Random(0);
+		for (int i = 0; i < 10000; ++i) {
+			// Points on a line moved a few units in the last place
+			double t = random.nextDouble();
+			double ax = 0.5 + random.nextInt(5) * Math.ulp(0.5);
+			double ay = 0.5 + random.nextInt(5) * Math.ulp(0.5);
+			double cx = 12 * t + random.nextInt(3) * Math.ulp(12.0);
+			double cy = 12 * t;
+			BigDecimal exact = new BigDecimal(24).subtract(new BigDecimal(ax))
+					.multiply(new BigDecimal(cy).subtract(new BigDecimal(ay)))
+					.subtract(new BigDecimal(24).subtract(new BigDecimal(ay))
+							.multiply(new BigDecimal(cx).subtract(new BigDecimal(ax))));
+			assertEquals(exact.signum(),
+					Orientation.orientation(ax, ay, 24, 24, cx, cy));
+		}
+	}
+
+	/**
+	 * Test method for getFallbackCount method of the Orientation class. Almost
+	 * no random orientation needs the exact arithmetic.
+	 */
+	@Test
+	public final void testFallbackRate() {
+		Random random = new Random(0);
+		double[] xs = new double[POINTS];
+		double[] ys = new double[POINTS];
+		for (int i = 0; i < POINTS; ++i) {
+			xs[i] = random.nextDouble();
+			ys[i] = random.nextDouble();
+		}
+		Orientation.resetFallbackCount();
+		countLeft(xs, ys);
+		assertTrue(Orientation.getFallbackCount() <= 2 * POINTS / 10000);
+		Orientation.cross(0, 0, 1, 1, 2, 2);
+		assertTrue(Orientation.getFallbackCount() >= 1);
+	}
+
+	/**
+	 * Test method for getFallbackCount method of the Orientation class with
+	 * points of a grid on horizontal and vertical lines and repeated points,
+	 * whose determinants are exactly zero without the exact arithmetic.
+	 */
+	@Test
+	public final void testCollinearNoFallback() {
+		Orientation.resetFallbackCount();
+		for (int i = 0; i < 100; ++i) {
+			assertEquals(Orientation.COLLINEAR,
+					Orientation.orientation(0, 3, 10, 3, i, 3));
+			assertEquals(Orientation.COLLINEAR,
+					Orientation.orientation(7, 0, 7, 10, 7, i));
+			assertEquals(0, Orientation.cross(i, i, i, i, 5, 9), 0);
+			assertEquals(0, Orientation.cross(0.1, 0.2, 0.1, 0.2, 0.1, 0.2), 0);
+		}
+		assertEquals(0, Orientation.getFallbackCount());
+		// A product may also underflow to zero, that one is not trusted
+		assertEquals(Orientation.LEFT,
+				Orientation.orientation(0, 0, 1e-200, 0, 0, 1e-200));
+	}
+
+	/**
+	 * Counts the points on the left side of a line using the kernel.
+	 *
+	 * @param xs
+	 *          X coordinates.
+	 * @param ys
+	 *          Y coordinates.
+	 * @return Amount of points on the left side.
+	 */
+	private static int countLeft(double[] xs, double[] ys) {
+		int left = 0;
+		for (int i = 2; i < xs.length; ++i) {
+			if (Orientation.orientation(xs[0], ys[0], xs[1], ys[1], xs[i],
+					ys[i]) == Orientation.LEFT) {
+				left++;
+			}
+			if (Orientation.cross(xs, ys, 0, 1, i) > 0) {
+				left++;
+			}
+		}
+		return left;
+	}
+
+	/**
+	 * Checks that the kernel does not allocate memory per point once the code
+	 * has been compiled.
+	 */
+	@Test
+	public final void testNoAllocationPerPoint() {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		Random random = new Random(0);
+		double[] xs = new double[POINTS];
+		double[] ys = new double[POINTS];
+		for (int i = 0; i < POINTS; ++i) {
+			xs[i] = random.nextDouble();
+			ys[i] = random.nextDouble();
+		}
+		int left = 0;
+		for (int i = 0; i < WARM_UP; ++i) {
+			left += countLeft(xs, ys);
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		left += countLeft(xs, ys);
+		long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+		assertTrue(left > 0);
+		assertTrue("Allocated " + allocated + " bytes for " + POINTS + " points",
+				allocated < POINTS);
+	}
+
+}
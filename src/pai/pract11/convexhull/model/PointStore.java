@@ -0,0 +1,208 @@
+/**
+ * File containing the PointStore entity definition.
+ */
+
+package pai.pract11.convexhull.model;
+
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+
+/**
+ * Class which stores a set of points as two parallel arrays of coordinates
+ * instead of one object per point. The points are identified by their index
+ * in the store. It was created for the eleventh practice of PAI (Programación
+ * de Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class PointStore {
+	/** Default capacity of a new store. */
+	private static final int	DEFAULT_CAPACITY	= 16;
+	/** X coordinates of the points. */
+	private double[]					xs;
+	/** Y coordinates of the points. */
+	private double[]					ys;
+	/** Amount of points of the store. */
+	private int								size;
+
+	/**
+	 * Default constructor.
+	 */
+	public PointStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty store with room for the given amount of points.
+	 *
+	 * @param capacity
+	 *          Initial capacity.
+	 */
+	public PointStore(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The capacity must be positive!");
+		}
+		this.xs = new double[capacity];
+		this.ys = new double[capacity];
+		this.size = 0;
+	}
+
+	/**
+	 * Constructs a store which wraps the given coordinates. The arrays are not
+	 * copied.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 */
+	public PointStore(double[] xs, double[] ys) {
+		if (xs.length != ys.length) {
+			throw new IllegalArgumentException(
+					"The amount of x and y coordinates must be the same!");
+		}
+		this.xs = xs;
+		this.ys = ys;
+		this.size = xs.length;
+	}
+
+	/**
+	 * Adds a point to the store.
+	 *
+	 * @param x
+	 *          X coordinate of the point.
+	 * @param y
+	 *          Y coordinate of the point.
+	 * @return Index of the new point.
+	 */
+	public int add(double x, double y) {
+		ensureCapacity(size + 1);
+		xs[size] = x;
+		ys[size] = y;
+		return size++;
+	}
+
+	/**
+	 * Adds the given amount of points at the end of the store. Their
+	 * coordinates are not initialized, they must be written directly in the
+	 * arrays returned by getXs() and getYs().
+	 *
+	 * @param amount
+	 *          Amount of points to add.
+	 * @return Index of the first new point.
+	 */
+	public int extend(int amount) {
+		if (amount < 0) {
+			throw new IllegalArgumentException("The amount must be positive!");
+		}
+		ensureCapacity(size + amount);
+		int first = size;
+		size += amount;
+		return first;
+	}
+
+	/**
+	 * Makes sure that the store can hold the given amount of points without
+	 * growing again.
+	 *
+	 * @param capacity
+	 *          Needed capacity.
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity > xs.length) {
+			int newCapacity = Math.max(capacity, xs.length + (xs.length >> 1) + 1);
+			xs = Arrays.copyOf(xs, newCapacity);
+			ys = Arrays.copyOf(ys, newCapacity);
+		}
+	}
+
+	/**
+	 * Returns the x coordinate of a point.
+	 *
+	 * @param index
+	 *          Index of the point.
+	 * @return X coordinate.
+	 */
+	public double getX(int index) {
+		return xs[index];
+	}
+
+	/**
+	 * Returns the y coordinate of a point.
+	 *
+	 * @param index
+	 *          Index of the point.
+	 * @return Y coordinate.
+	 */
+	public double getY(int index) {
+		return ys[index];
+	}
+
+	/**
+	 * Returns a copy of a point as a Point2D object.
+	 *
+	 * @param index
+	 *          Index of the point.
+	 * @return Point.
+	 */
+	public Point2D.Double getPoint(int index) {
+		return new Point2D.Double(xs[index], ys[index]);
+	}
+
+	/**
+	 * Returns the array of x coordinates. Only the first size() positions are
+	 * valid and the array is replaced when the store grows.
+	 *
+	 * @return X coordinates.
+	 */
+	public double[] getXs() {
+		return xs;
+	}
+
+	/**
+	 * Returns the array of y coordinates. Only the first size() positions are
+	 * valid and the array is replaced when the store grows.
+	 *
+	 * @return Y coordinates.
+	 */
+	public double[] getYs() {
+		return ys;
+	}
+
+	/**
+	 * Getter method for size attribute.
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the store has no points.
+	 *
+	 * @return Result.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns a new store with the same points, which does not share its
+	 * arrays with this one.
+	 *
+	 * @return Copy of the store.
+	 */
+	public PointStore copy() {
+		return new PointStore(Arrays.copyOf(xs, size), Arrays.copyOf(ys, size));
+	}
+
+	/**
+	 * Deletes all the points of the store.
+	 */
+	public void clear() {
+		size = 0;
+	}
+}
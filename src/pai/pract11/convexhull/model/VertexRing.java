@@ -0,0 +1,295 @@
+/**
+ * File containing the VertexRing entity definition.
+ */
+
+package pai.pract11.convexhull.model;
+
+import java.util.Arrays;
+
+/**
+ * Class which represents the vertices of a convex hull as a doubly linked ring
+ * of point indices. The vertices are identified by their point, so a point is
+ * inserted before another one or removed in constant time, without searching
+ * its position. The nodes are stored in parallel int arrays and reused after
+ * they are removed. A point may be in the ring more than once, as it happens
+ * while a monotone chain is built; then it refers to its most recently
+ * inserted copy. It was created for the eleventh practice of PAI (Programación
+ * de Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class VertexRing {
+	/** Default capacity of a new ring. */
+	private static final int	DEFAULT_CAPACITY	= 16;
+	/** Value of the links which do not point to any node. */
+	private static final int	NONE							= -1;
+	/** Point of every node. */
+	private int[]							points;
+	/** Next node of every node, or the next free node of a free node. */
+	private int[]							next;
+	/** Previous node of every node. */
+	private int[]							previous;
+	/** Previous copy of the point of every node, or NONE. */
+	private int[]							olderCopy;
+	/** Most recent node of every point, or NONE if it is not in the ring. */
+	private int[]							nodeOfPoint;
+	/** First node of the ring, or NONE if it is empty. */
+	private int								head;
+	/** First free node, or NONE if all the allocated nodes are used. */
+	private int								freeNode;
+	/** Amount of nodes ever allocated. */
+	private int								allocated;
+	/** Amount of vertices of the ring. */
+	private int								size;
+	/** Vertices in order, null if the ring has changed since it was taken. */
+	private int[]							snapshot;
+
+	/**
+	 * Default constructor.
+	 */
+	public VertexRing() {
+		this.points = new int[DEFAULT_CAPACITY];
+		this.next = new int[DEFAULT_CAPACITY];
+		this.previous = new int[DEFAULT_CAPACITY];
+		this.olderCopy = new int[DEFAULT_CAPACITY];
+		this.nodeOfPoint = new int[0];
+		this.head = NONE;
+		this.freeNode = NONE;
+	}
+
+	/**
+	 * Adds a vertex at the end of the ring, that is, before its first vertex.
+	 *
+	 * @param point
+	 *          Index of the point to add.
+	 */
+	public void add(int point) {
+		insertBefore(point, NONE);
+	}
+
+	/**
+	 * Inserts a vertex before another one. If the other one is the first vertex
+	 * of the ring, the new one becomes the first.
+	 *
+	 * @param point
+	 *          Index of the point to insert.
+	 * @param nextPoint
+	 *          Index of the point of the ring which follows the new vertex, or
+	 *          -1 to add it at the end of the ring.
+	 * @throws IllegalArgumentException
+	 *           If the next point is not in the ring.
+	 */
+	public void insertBefore(int point, int nextPoint) {
+		if (point < 0) {
+			throw new IllegalArgumentException("Invalid point " + point);
+		}
+		int following = (nextPoint == NONE) ? head : nodeOf(nextPoint);
+		int node = allocateNode();
+		ensurePointCapacity(point + 1);
+		points[node] = point;
+		olderCopy[node] = nodeOfPoint[point];
+		nodeOfPoint[point] = node;
+		if (following == NONE) {
+			next[node] = node;
+			previous[node] = node;
+			head = node;
+		} else {
+			int preceding = previous[following];
+			next[node] = following;
+			previous[node] = preceding;
+			next[preceding] = node;
+			previous[following] = node;
+			if (following == head && nextPoint != NONE) {
+				head = node;
+			}
+		}
+		size++;
+		snapshot = null;
+	}
+
+	/**
+	 * Removes the most recently inserted copy of a vertex.
+	 *
+	 * @param point
+	 *          Index of the point to remove.
+	 * @throws IllegalArgumentException
+	 *           If the point is not in the ring.
+	 */
+	public void remove(int point) {
+		int node = nodeOf(point);
+		nodeOfPoint[point] = olderCopy[node];
+		if (next[node] == node) {
+			head = NONE;
+		} else {
+			next[previous[node]] = next[node];
+			previous[next[node]] = previous[node];
+			if (node == head) {
+				head = next[node];
+			}
+		}
+		next[node] = freeNode;
+		freeNode = node;
+		size--;
+		snapshot = null;
+	}
+
+	/**
+	 * Checks if a point is a vertex of the ring.
+	 *
+	 * @param point
+	 *          Index of the point.
+	 * @return Result.
+	 */
+	public boolean contains(int point) {
+		return point >= 0 && point < nodeOfPoint.length
+				&& nodeOfPoint[point] != NONE;
+	}
+
+	/**
+	 * Returns the vertex which follows another one in the ring.
+	 *
+	 * @param point
+	 *          Index of the point of the vertex.
+	 * @return Index of the point of the next vertex.
+	 */
+	public int next(int point) {
+		return points[next[nodeOf(point)]];
+	}
+
+	/**
+	 * Returns the vertex which precedes another one in the ring.
+	 *
+	 * @param point
+	 *          Index of the point of the vertex.
+	 * @return Index of the point of the previous vertex.
+	 */
+	public int previous(int point) {
+		return points[previous[nodeOf(point)]];
+	}
+
+	/**
+	 * Returns the first vertex of the ring.
+	 *
+	 * @return Index of the point, or -1 if the ring is empty.
+	 */
+	public int getFirst() {
+		return (head == NONE) ? NONE : points[head];
+	}
+
+	/**
+	 * Getter method for size attribute.
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the ring has no vertices.
+	 *
+	 * @return Result.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Deletes all the vertices of the ring.
+	 */
+	public void clear() {
+		// Every point with a node has been in the ring, so no other is reset
+		for (int node = 0; node < allocated; ++node) {
+			nodeOfPoint[points[node]] = NONE;
+		}
+		head = NONE;
+		freeNode = NONE;
+		allocated = 0;
+		size = 0;
+		snapshot = null;
+	}
+
+	/**
+	 * Returns a copy of the vertices of the ring, from the first one.
+	 *
+	 * @return Indices of the points.
+	 */
+	public int[] toArray() {
+		return snapshot().clone();
+	}
+
+	/**
+	 * Returns the vertices of the ring, from the first one. The array is shared
+	 * by all the calls until the ring changes, so it must not be modified.
+	 *
+	 * @return Indices of the points.
+	 */
+	public int[] snapshot() {
+		if (snapshot == null) {
+			int[] vertices = new int[size];
+			int node = head;
+			for (int i = 0; i < size; ++i) {
+				vertices[i] = points[node];
+				node = next[node];
+			}
+			snapshot = vertices;
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Returns the most recent node of a point.
+	 *
+	 * @param point
+	 *          Index of the point.
+	 * @return Node.
+	 * @throws IllegalArgumentException
+	 *           If the point is not in the ring.
+	 */
+	private int nodeOf(int point) {
+		if (!contains(point)) {
+			throw new IllegalArgumentException("The point " + point
+					+ " is not in the ring!");
+		}
+		return nodeOfPoint[point];
+	}
+
+	/**
+	 * Takes a free node, allocating a new one if there is none.
+	 *
+	 * @return Node.
+	 */
+	private int allocateNode() {
+		if (freeNode != NONE) {
+			int node = freeNode;
+			freeNode = next[node];
+			return node;
+		}
+		if (allocated == points.length) {
+			final int CAPACITY = points.length * 2;
+			points = Arrays.copyOf(points, CAPACITY);
+			next = Arrays.copyOf(next, CAPACITY);
+			previous = Arrays.copyOf(previous, CAPACITY);
+			olderCopy = Arrays.copyOf(olderCopy, CAPACITY);
+		}
+		return allocated++;
+	}
+
+	/**
+	 * Makes sure that the points with an index lower than the given one can be
+	 * inserted.
+	 *
+	 * @param capacity
+	 *          Needed amount of points.
+	 */
+	private void ensurePointCapacity(int capacity) {
+		if (capacity > nodeOfPoint.length) {
+			final int OLD_CAPACITY = nodeOfPoint.length;
+			nodeOfPoint = Arrays.copyOf(nodeOfPoint,
+					Math.max(capacity, OLD_CAPACITY + (OLD_CAPACITY >> 1) + 1));
+			Arrays.fill(nodeOfPoint, OLD_CAPACITY, nodeOfPoint.length, NONE);
+		}
+	}
+}
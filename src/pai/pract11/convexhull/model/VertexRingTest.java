@@ -0,0 +1,97 @@
+/**
+ * File containing the VertexRingTest entity definition.
+ */
+
+package pai.pract11.convexhull.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class VertexRingTest {
+
+	/**
+	 * Test method for insertBefore method of the VertexRing class. Inserting
+	 * before the first vertex makes the new one the first.
+	 */
+	@Test
+	public final void testInsertBefore() {
+		VertexRing ring = new VertexRing();
+		ring.add(3);
+		ring.add(7);
+		ring.insertBefore(5, 7);
+		assertArrayEquals(new int[] { 3, 5, 7 }, ring.toArray());
+		ring.insertBefore(1, 3);
+		assertArrayEquals(new int[] { 1, 3, 5, 7 }, ring.toArray());
+		assertEquals(1, ring.next(7));
+		assertEquals(7, ring.previous(1));
+		assertEquals(4, ring.size());
+	}
+
+	/**
+	 * Test method for remove method of the VertexRing class. The nodes of the
+	 * removed vertices are reused.
+	 */
+	@Test
+	public final void testRemove() {
+		VertexRing ring = new VertexRing();
+		for (int i = 0; i < 100; ++i) {
+			ring.add(i);
+		}
+		for (int i = 0; i < 100; i += 2) {
+			ring.remove(i);
+		}
+		assertEquals(50, ring.size());
+		assertEquals(1, ring.getFirst());
+		assertFalse(ring.contains(0));
+		ring.insertBefore(0, 1);
+		assertArrayEquals(new int[] { 0, 1, 3 },
+				Arrays.copyOf(ring.toArray(), 3));
+		ring.clear();
+		assertTrue(ring.isEmpty());
+		assertFalse(ring.contains(1));
+		assertEquals(-1, ring.getFirst());
+	}
+
+	/**
+	 * Test method for remove method of the VertexRing class. A point inserted
+	 * twice is removed from its most recent position.
+	 */
+	@Test
+	public final void testRemoveRepeatedPoint() {
+		VertexRing ring = new VertexRing();
+		ring.add(0);
+		ring.add(4);
+		ring.add(2);
+		ring.add(0);
+		ring.remove(0);
+		assertArrayEquals(new int[] { 0, 4, 2 }, ring.toArray());
+		ring.remove(0);
+		assertArrayEquals(new int[] { 4, 2 }, ring.toArray());
+	}
+
+	/**
+	 * Test method for snapshot method of the VertexRing class. The snapshot is
+	 * only taken again when the ring changes.
+	 */
+	@Test
+	public final void testSnapshot() {
+		VertexRing ring = new VertexRing();
+		ring.add(2);
+		ring.add(9);
+		int[] snapshot = ring.snapshot();
+		assertTrue(snapshot == ring.snapshot());
+		ring.remove(9);
+		assertArrayEquals(new int[] { 2 }, ring.snapshot());
+	}
+}
@@ -0,0 +1,256 @@
+/**
+ * File containing the AklToussaintFilter entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import pai.pract11.convexhull.model.Orientation;
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which implements the Akl-Toussaint heuristic. It finds the extreme
+ * points in eight directions (x, y, x + y and x - y) and discards the points
+ * which are strictly inside the octagon formed by them, as they can not be
+ * part of the convex hull. The points are processed in chunks which can be
+ * scanned in parallel. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class AklToussaintFilter {
+	/** Amount of points scanned by every task. */
+	private static final int		CHUNK_SIZE	= 1 << 16;
+	/** X component of the directions, in counterclockwise order. */
+	private static final int[]	DX					= { 1, 1, 0, -1, -1, -1, 0, 1 };
+	/** Y component of the directions, in counterclockwise order. */
+	private static final int[]	DY					= { 0, 1, 1, 1, 0, -1, -1, -1 };
+
+	/** Establishes if the chunks are scanned in parallel. */
+	private final boolean				parallel;
+
+	/**
+	 * Default constructor. The chunks are scanned in parallel.
+	 */
+	public AklToussaintFilter() {
+		this(true);
+	}
+
+	/**
+	 * Constructs a filter.
+	 *
+	 * @param parallel
+	 *          Establishes if the chunks are scanned in parallel.
+	 */
+	public AklToussaintFilter(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns the indices of the points which are not strictly inside the
+	 * octagon of extreme points, in increasing order.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Indices of the remaining points.
+	 */
+	public int[] filter(PointStore points) {
+		final int SIZE = points.size();
+		if (SIZE == 0) {
+			return new int[0];
+		}
+		final int CHUNKS = (SIZE + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+
+		int[][] chunkExtremes = chunks(CHUNKS)
+				.mapToObj(chunk -> extremePoints(xs, ys, chunk * CHUNK_SIZE,
+						Math.min(SIZE, (chunk + 1) * CHUNK_SIZE)))
+				.toArray(int[][]::new);
+		int[] extremes = chunkExtremes[0];
+		for (int[] candidates : chunkExtremes) {
+			for (int direction = 0; direction < DX.length; ++direction) {
+				if (projection(xs, ys, candidates[direction],
+						direction) > projection(xs, ys, extremes[direction], direction)) {
+					extremes[direction] = candidates[direction];
+				}
+			}
+		}
+		int[] octagon = removeRepeated(xs, ys, extremes);
+		if (octagon.length < 3) {
+			return QuickHullKernel.identity(SIZE);
+		}
+
+		int[][] survivors = chunks(CHUNKS)
+				.mapToObj(chunk -> outsidePoints(xs, ys, octagon, chunk * CHUNK_SIZE,
+						Math.min(SIZE, (chunk + 1) * CHUNK_SIZE)))
+				.toArray(int[][]::new);
+		int total = 0;
+		for (int[] chunk : survivors) {
+			total += chunk.length;
+		}
+		int[] result = new int[total];
+		int position = 0;
+		for (int[] chunk : survivors) {
+			System.arraycopy(chunk, 0, result, position, chunk.length);
+			position += chunk.length;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the stream of chunk numbers, parallel if the filter is parallel.
+	 *
+	 * @param chunks
+	 *          Amount of chunks.
+	 * @return Stream.
+	 */
+	private IntStream chunks(int chunks) {
+		IntStream stream = IntStream.range(0, chunks);
+		return parallel ? stream.parallel() : stream;
+	}
+
+	/**
+	 * Returns the projection of a point over a direction.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param point
+	 *          Index of the point.
+	 * @param direction
+	 *          Number of the direction.
+	 * @return Projection.
+	 */
+	private static double projection(double[] xs, double[] ys, int point,
+			int direction) {
+		return DX[direction] * xs[point] + DY[direction] * ys[point];
+	}
+
+	/**
+	 * Returns the extreme point of a range in every direction.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param from
+	 *          Start of the range, inclusive.
+	 * @param to
+	 *          End of the range, exclusive.
+	 * @return Index of the extreme point of every direction.
+	 */
+	private static int[] extremePoints(double[] xs, double[] ys, int from,
+			int to) {
+		int[] extremes = new int[DX.length];
+		Arrays.fill(extremes, from);
+		double[] maximums = new double[DX.length];
+		for (int direction = 0; direction < DX.length; ++direction) {
+			maximums[direction] = projection(xs, ys, from, direction);
+		}
+		for (int i = from + 1; i < to; ++i) {
+			double x = xs[i];
+			double y = ys[i];
+			double sum = x + y;
+			double difference = x - y;
+			// Same order as DX and DY, one call per direction so no array is
+			// created for every point
+			updateExtreme(maximums, extremes, 0, x, i);
+			updateExtreme(maximums, extremes, 1, sum, i);
+			updateExtreme(maximums, extremes, 2, y, i);
+			updateExtreme(maximums, extremes, 3, -difference, i);
+			updateExtreme(maximums, extremes, 4, -x, i);
+			updateExtreme(maximums, extremes, 5, -sum, i);
+			updateExtreme(maximums, extremes, 6, -y, i);
+			updateExtreme(maximums, extremes, 7, difference, i);
+		}
+		return extremes;
+	}
+
+	/**
+	 * Replaces the extreme point of a direction if a point is farther.
+	 *
+	 * @param maximums
+	 *          Projection of the extreme point of every direction.
+	 * @param extremes
+	 *          Index of the extreme point of every direction.
+	 * @param direction
+	 *          Number of the direction.
+	 * @param projection
+	 *          Projection of the point over the direction.
+	 * @param point
+	 *          Index of the point.
+	 */
+	private static void updateExtreme(double[] maximums, int[] extremes,
+			int direction, double projection, int point) {
+		if (projection > maximums[direction]) {
+			maximums[direction] = projection;
+			extremes[direction] = point;
+		}
+	}
+
+	/**
+	 * Removes the consecutive extreme points with the same coordinates.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param extremes
+	 *          Extreme points, in counterclockwise order.
+	 * @return Vertices of the octagon, in counterclockwise order.
+	 */
+	private static int[] removeRepeated(double[] xs, double[] ys,
+			int[] extremes) {
+		int[] vertices = new int[extremes.length];
+		int size = 0;
+		for (int point : extremes) {
+			if (size == 0 || xs[point] != xs[vertices[size - 1]]
+					|| ys[point] != ys[vertices[size - 1]]) {
+				vertices[size++] = point;
+			}
+		}
+		while (size > 1 && xs[vertices[0]] == xs[vertices[size - 1]]
+				&& ys[vertices[0]] == ys[vertices[size - 1]]) {
+			size--;
+		}
+		return Arrays.copyOf(vertices, size);
+	}
+
+	/**
+	 * Returns the points of a range which are not strictly inside the octagon.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param octagon
+	 *          Vertices of the octagon, in counterclockwise order.
+	 * @param from
+	 *          Start of the range, inclusive.
+	 * @param to
+	 *          End of the range, exclusive.
+	 * @return Indices of the points.
+	 */
+	private static int[] outsidePoints(double[] xs, double[] ys, int[] octagon,
+			int from, int to) {
+		int[] outside = new int[to - from];
+		int size = 0;
+		for (int i = from; i < to; ++i) {
+			for (int vertex = 0; vertex < octagon.length; ++vertex) {
+				int next = octagon[(vertex + 1) % octagon.length];
+				if (Orientation.cross(xs, ys, octagon[vertex], next, i) <= 0) {
+					outside[size++] = i;
+					break;
+				}
+			}
+		}
+		return Arrays.copyOf(outside, size);
+	}
+}
@@ -0,0 +1,205 @@
+/**
+ * File containing the BatchHullService entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which calculates the convex hulls of many independent sets of points
+ * concurrently, one task per set. The tasks run in virtual threads when the
+ * JVM supports them, and in a pool with one platform thread per processor
+ * otherwise. The amount of sets submitted but not finished is limited, so the
+ * producers wait instead of filling the memory when they are faster than the
+ * service. It was created for the eleventh practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class BatchHullService implements AutoCloseable {
+	/** Default maximum amount of sets submitted but not finished. */
+	public static final int					DEFAULT_MAX_PENDING	= 1024;
+
+	/** Engine which calculates the convex hulls. */
+	private final ConvexHullEngine	engine;
+	/** Executor which runs the tasks. */
+	private final ExecutorService		executor;
+	/** Permits of the sets which can be submitted. */
+	private final Semaphore					pending;
+
+	/**
+	 * Default constructor. The convex hulls are calculated with the monotone
+	 * chain engine, which is the fastest one for small sets.
+	 */
+	public BatchHullService() {
+		this(new MonotoneChainEngine(), DEFAULT_MAX_PENDING,
+				newVirtualThreadExecutor());
+	}
+
+	/**
+	 * Constructs a service with the given engine, limit and executor, which is
+	 * shut down when the service is closed.
+	 *
+	 * @param engine
+	 *          Engine which calculates the convex hulls, used by several
+	 *          threads at the same time.
+	 * @param maxPending
+	 *          Maximum amount of sets submitted but not finished.
+	 * @param executor
+	 *          Executor which runs the tasks.
+	 */
+	public BatchHullService(ConvexHullEngine engine, int maxPending,
+			ExecutorService executor) {
+		if (maxPending < 1) {
+			throw new IllegalArgumentException(
+					"The maximum amount of pending sets must be positive!");
+		}
+		this.engine = engine;
+		this.executor = executor;
+		this.pending = new Semaphore(maxPending);
+	}
+
+	/**
+	 * Checks if the JVM supports virtual threads.
+	 *
+	 * @return Result.
+	 */
+	public static boolean supportsVirtualThreads() {
+		try {
+			Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return true;
+		} catch (NoSuchMethodException exception) {
+			return false;
+		}
+	}
+
+	/**
+	 * Creates an executor which starts a virtual thread per task. It is looked
+	 * up by reflection, so the program still runs in JVMs without virtual
+	 * threads, where a pool with one platform thread per processor is created.
+	 *
+	 * @return Executor.
+	 */
+	public static ExecutorService newVirtualThreadExecutor() {
+		try {
+			Method factory = Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (ReflectiveOperationException exception) {
+			return Executors
+					.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		}
+	}
+
+	/**
+	 * Returns the amount of sets which can be submitted without waiting.
+	 *
+	 * @return Amount of sets.
+	 */
+	public int availablePermits() {
+		return pending.availablePermits();
+	}
+
+	/**
+	 * Submits a set of points, waiting if there are too many sets pending.
+	 *
+	 * @param points
+	 *          Points, which must not change until the convex hull is finished.
+	 * @return Future convex hull, as indices of the points in order.
+	 * @throws InterruptedException
+	 *           If the thread is interrupted while waiting.
+	 */
+	public CompletableFuture<int[]> submit(PointStore points)
+			throws InterruptedException {
+		pending.acquire();
+		return start(points);
+	}
+
+	/**
+	 * Submits a set of points if it can be done without waiting.
+	 *
+	 * @param points
+	 *          Points, which must not change until the convex hull is finished.
+	 * @return Future convex hull, or null if there are too many sets pending.
+	 */
+	public CompletableFuture<int[]> trySubmit(PointStore points) {
+		return pending.tryAcquire() ? start(points) : null;
+	}
+
+	/**
+	 * Submits many sets of points, waiting when there are too many sets
+	 * pending.
+	 *
+	 * @param pointSets
+	 *          Sets of points.
+	 * @return Future convex hulls, in the same order as the sets.
+	 * @throws InterruptedException
+	 *           If the thread is interrupted while waiting.
+	 */
+	public List<CompletableFuture<int[]>> submitAll(List<PointStore> pointSets)
+			throws InterruptedException {
+		List<CompletableFuture<int[]>> hulls = new ArrayList<>(pointSets.size());
+		for (PointStore points : pointSets) {
+			hulls.add(submit(points));
+		}
+		return hulls;
+	}
+
+	/**
+	 * Stops accepting sets and waits until the pending ones are finished.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+				// Keeps waiting for the pending sets
+			}
+		} catch (InterruptedException exception) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Starts the task of a set whose permit has been acquired.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Future convex hull.
+	 */
+	private CompletableFuture<int[]> start(PointStore points) {
+		CompletableFuture<int[]> hull = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				// The permit is released before completing, so the callbacks of
+				// the future can submit another set without waiting
+				try {
+					int[] result = engine.computeHull(points);
+					pending.release();
+					hull.complete(result);
+				} catch (RuntimeException | Error exception) {
+					pending.release();
+					hull.completeExceptionally(exception);
+				}
+			});
+		} catch (RejectedExecutionException exception) {
+			pending.release();
+			throw exception;
+		}
+		return hull;
+	}
+}
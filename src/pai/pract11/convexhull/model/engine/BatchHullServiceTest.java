@@ -0,0 +1,132 @@
+/**
+ * File containing the BatchHullServiceTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class BatchHullServiceTest {
+
+	/**
+	 * Test method for submitAll method of the BatchHullService class. The hulls
+	 * must be the same as the ones calculated sequentially, in the same order.
+	 *
+	 * @throws Exception
+	 *           If a hull fails.
+	 */
+	@Test
+	public final void testSubmitAll() throws Exception {
+		Random random = new Random(0);
+		List<PointStore> pointSets = new ArrayList<>();
+		for (int i = 0; i < 500; ++i) {
+			PointStore points = new PointStore();
+			for (int j = random.nextInt(100); j >= 0; --j) {
+				points.add(random.nextDouble(), random.nextDouble());
+			}
+			pointSets.add(points);
+		}
+		ConvexHullEngine engine = new MonotoneChainEngine();
+		try (BatchHullService service = new BatchHullService(engine, 8,
+				BatchHullService.newVirtualThreadExecutor())) {
+			List<CompletableFuture<int[]>> hulls = service.submitAll(pointSets);
+			assertEquals(pointSets.size(), hulls.size());
+			for (int i = 0; i < pointSets.size(); ++i) {
+				assertArrayEquals(engine.computeHull(pointSets.get(i)),
+						hulls.get(i).get());
+			}
+		}
+	}
+
+	/**
+	 * Test method for trySubmit method of the BatchHullService class. No set
+	 * can be submitted while the pending ones fill the limit.
+	 *
+	 * @throws Exception
+	 *           If a hull fails.
+	 */
+	@Test
+	public final void testBackpressure() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ConvexHullEngine blockingEngine = new MonotoneChainEngine() {
+			@Override
+			public int[] computeHull(PointStore points) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+				return super.computeHull(points);
+			}
+		};
+		try (BatchHullService service = new BatchHullService(blockingEngine, 1,
+				Executors.newSingleThreadExecutor())) {
+			CompletableFuture<int[]> first = service.submit(new PointStore());
+			started.await();
+			assertEquals(0, service.availablePermits());
+			assertNull(service.trySubmit(new PointStore()));
+			release.countDown();
+			assertEquals(0, first.get().length);
+			assertNotNull(service.submit(new PointStore()));
+		}
+	}
+
+	/**
+	 * Test method for submit method of the BatchHullService class with an
+	 * engine which fails.
+	 *
+	 * @throws Exception
+	 *           If the submission is interrupted.
+	 */
+	@Test
+	public final void testFailure() throws Exception {
+		ConvexHullEngine failingEngine = new MonotoneChainEngine() {
+			@Override
+			public int[] computeHull(PointStore points) {
+				throw new IllegalStateException("Failed!");
+			}
+		};
+		BatchHullService service = new BatchHullService(failingEngine, 1,
+				Executors.newSingleThreadExecutor());
+		try {
+			service.submit(new PointStore()).get();
+			fail("The hull did not fail!");
+		} catch (ExecutionException exception) {
+			assertTrue(exception.getCause() instanceof IllegalStateException);
+		}
+		// The permit must have been released
+		service.submit(new PointStore());
+		service.close();
+		try {
+			service.submit(new PointStore());
+			fail("The closed service accepted a set!");
+		} catch (RejectedExecutionException exception) {
+			assertEquals(1, service.availablePermits());
+		}
+	}
+}
@@ -0,0 +1,338 @@
+/**
+ * File containing the ChanEngine entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Arrays;
+
+import pai.pract11.convexhull.model.Orientation;
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which implements Chan's algorithm, which takes O(n log h) time, being
+ * h the amount of vertices of the convex hull. The points are split in groups
+ * of m points whose convex hulls are calculated with the monotone chain
+ * algorithm. Then a gift wrapping march finds the next vertex by searching the
+ * tangent of every sub-hull with a binary search. If the convex hull has more
+ * than m vertices the march stops and the process is repeated with m squared.
+ * It was created for the eleventh practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class ChanEngine implements ConvexHullEngine {
+	/** Sub-hulls with less vertices than this are searched linearly. */
+	private static final int	LINEAR_SEARCH_THRESHOLD	= 8;
+	/** Exponent of the size of the groups of the first guess. */
+	private static final int	FIRST_EXPONENT					= 2;
+
+	/**
+	 * Calculates the convex hull of the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] computeHull(PointStore points) {
+		final int SIZE = points.size();
+		if (SIZE == 0) {
+			return new int[0];
+		}
+		for (int exponent = FIRST_EXPONENT;; exponent *= 2) {
+			int groupSize = (exponent >= Integer.SIZE - 1) ? SIZE
+					: Math.min(SIZE, 1 << exponent);
+			int[] hull = computeHull(points, groupSize);
+			if (hull != null) {
+				return hull;
+			}
+		}
+	}
+
+	/**
+	 * Tries to calculate the convex hull with groups of the given size.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param groupSize
+	 *          Size of the groups, which is also the maximum amount of vertices
+	 *          of the convex hull.
+	 * @return Indices of the points which conforms the convex hull, in order, or
+	 *         null if it has more vertices than the size of the groups.
+	 */
+	private static int[] computeHull(PointStore points, int groupSize) {
+		final int SIZE = points.size();
+		final int GROUPS = (SIZE + groupSize - 1) / groupSize;
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+
+		// Every group has room for twice its size, as the monotone chain needs
+		int[] order = QuickHullKernel.identity(SIZE);
+		int[] subHulls = new int[2 * SIZE];
+		int[] buffer = new int[groupSize];
+		int[] offsets = new int[GROUPS];
+		int[] sizes = new int[GROUPS];
+		for (int group = 0; group < GROUPS; ++group) {
+			int from = group * groupSize;
+			int to = Math.min(SIZE, from + groupSize);
+			MonotoneChainEngine.sort(xs, ys, order, buffer, from, to);
+			int end = MonotoneChainEngine.removeDuplicates(xs, ys, order, from, to);
+			offsets[group] = 2 * from;
+			sizes[group] = MonotoneChainEngine.chain(xs, ys, order, from, end,
+					subHulls, offsets[group]);
+		}
+		if (GROUPS == 1) {
+			return Arrays.copyOf(subHulls, sizes[0]);
+		}
+
+		// The first vertex of every sub-hull is the lexicographic minimum of its
+		// group, the smallest x with ties broken by the smallest y, not the
+		// lowest point
+		int currentGroup = 0;
+		for (int group = 1; group < GROUPS; ++group) {
+			if (MonotoneChainEngine.compare(xs, ys, subHulls[offsets[group]],
+					subHulls[offsets[currentGroup]]) < 0) {
+				currentGroup = group;
+			}
+		}
+		int currentPosition = 0;
+		int first = subHulls[offsets[currentGroup]];
+		int[] hull = new int[groupSize];
+		int hullSize = 0;
+		while (true) {
+			int current = subHulls[offsets[currentGroup] + currentPosition];
+			hull[hullSize++] = current;
+
+			// The next vertex of its own sub-hull is always a candidate
+			int nextGroup = currentGroup;
+			int nextPosition = (currentPosition + 1) % sizes[currentGroup];
+			int next = subHulls[offsets[nextGroup] + nextPosition];
+			for (int group = 0; group < GROUPS; ++group) {
+				if (group == currentGroup) {
+					continue;
+				}
+				int position = tangent(xs, ys, subHulls, offsets[group], sizes[group],
+						current);
+				int candidate = subHulls[offsets[group] + position];
+				if (isBetter(xs, ys, current, candidate, next)) {
+					nextGroup = group;
+					nextPosition = position;
+					next = candidate;
+				}
+			}
+
+			if (MonotoneChainEngine.compare(xs, ys, next, first) == 0) {
+				return Arrays.copyOf(hull, hullSize);
+			}
+			if (hullSize == groupSize) {
+				return null;
+			}
+			currentGroup = nextGroup;
+			currentPosition = nextPosition;
+		}
+	}
+
+	/**
+	 * Checks if a candidate is a better next vertex than another one for the
+	 * gift wrapping march from the given vertex. The candidate is better if it
+	 * is on the left side of the line to the other one, or if it is on the line
+	 * and farther, so collinear points are skipped.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param vertex
+	 *          Index of the last vertex of the convex hull.
+	 * @param candidate
+	 *          Index of the candidate.
+	 * @param best
+	 *          Index of the best point found until now.
+	 * @return Result.
+	 */
+	private static boolean isBetter(double[] xs, double[] ys, int vertex,
+			int candidate, int best) {
+		double cross = Orientation.cross(xs, ys, vertex, best, candidate);
+		if (cross != 0) {
+			return cross > 0;
+		}
+		return squaredDistance(xs, ys, vertex, candidate) > squaredDistance(xs, ys,
+				vertex, best);
+	}
+
+	/**
+	 * Returns the squared distance between two points.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param a
+	 *          Index of the first point.
+	 * @param b
+	 *          Index of the second point.
+	 * @return Squared distance.
+	 */
+	private static double squaredDistance(double[] xs, double[] ys, int a,
+			int b) {
+		double dx = xs[b] - xs[a];
+		double dy = ys[b] - ys[a];
+		return dx * dx + dy * dy;
+	}
+
+	/**
+	 * Returns the position of the vertex of a sub-hull which is the best next
+	 * vertex for the march from the given point. Going around the sub-hull the
+	 * vertices get better until the tangent and then worse, so it is found with
+	 * a binary search. The result is checked, so a linear search is used in the
+	 * degenerate cases where the binary search can fail.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param subHulls
+	 *          Vertices of the sub-hulls.
+	 * @param offset
+	 *          Position of the first vertex of the sub-hull.
+	 * @param size
+	 *          Amount of vertices of the sub-hull.
+	 * @param point
+	 *          Index of the point.
+	 * @return Position of the vertex in the sub-hull.
+	 */
+	static int tangent(double[] xs, double[] ys, int[] subHulls, int offset,
+			int size, int point) {
+		if (size < LINEAR_SEARCH_THRESHOLD) {
+			return linearTangent(xs, ys, subHulls, offset, size, point);
+		}
+		if (isTangent(xs, ys, subHulls, offset, size, point, 0)) {
+			return 0;
+		}
+		int low = 0;
+		int high = size;
+		while (high - low > 1) {
+			int middle = (low + high) >>> 1;
+			boolean middleRises = rises(xs, ys, subHulls, offset, size, point,
+					middle);
+			if (!middleRises && !isBetter(xs, ys, point,
+					subHulls[offset + middle - 1], subHulls[offset + middle])) {
+				return middle;
+			}
+			boolean middleBelowLow = isBetter(xs, ys, point, subHulls[offset + low],
+					subHulls[offset + middle]);
+			if (rises(xs, ys, subHulls, offset, size, point, low)) {
+				if (!middleRises || middleBelowLow) {
+					high = middle;
+				} else {
+					low = middle;
+				}
+			} else {
+				if (middleRises || middleBelowLow) {
+					low = middle;
+				} else {
+					high = middle;
+				}
+			}
+		}
+		return linearTangent(xs, ys, subHulls, offset, size, point);
+	}
+
+	/**
+	 * Checks if the vertex after the given one of a sub-hull is better than it.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param subHulls
+	 *          Vertices of the sub-hulls.
+	 * @param offset
+	 *          Position of the first vertex of the sub-hull.
+	 * @param size
+	 *          Amount of vertices of the sub-hull.
+	 * @param point
+	 *          Index of the point the march starts from.
+	 * @param position
+	 *          Position of the vertex in the sub-hull.
+	 * @return Result.
+	 */
+	private static boolean rises(double[] xs, double[] ys, int[] subHulls,
+			int offset, int size, int point, int position) {
+		return isBetter(xs, ys, point, subHulls[offset + (position + 1) % size],
+				subHulls[offset + position]);
+	}
+
+	/**
+	 * Checks if none of the neighbours of a vertex of a sub-hull is better than
+	 * it.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param subHulls
+	 *          Vertices of the sub-hulls.
+	 * @param offset
+	 *          Position of the first vertex of the sub-hull.
+	 * @param size
+	 *          Amount of vertices of the sub-hull.
+	 * @param point
+	 *          Index of the point the march starts from.
+	 * @param position
+	 *          Position of the vertex in the sub-hull.
+	 * @return Result.
+	 */
+	private static boolean isTangent(double[] xs, double[] ys, int[] subHulls,
+			int offset, int size, int point, int position) {
+		int previous = subHulls[offset + (position + size - 1) % size];
+		return !rises(xs, ys, subHulls, offset, size, point, position)
+				&& !isBetter(xs, ys, point, previous, subHulls[offset + position]);
+	}
+
+	/**
+	 * Returns the position of the best vertex of a sub-hull checking all of
+	 * them.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param subHulls
+	 *          Vertices of the sub-hulls.
+	 * @param offset
+	 *          Position of the first vertex of the sub-hull.
+	 * @param size
+	 *          Amount of vertices of the sub-hull.
+	 * @param point
+	 *          Index of the point the march starts from.
+	 * @return Position of the vertex in the sub-hull.
+	 */
+	private static int linearTangent(double[] xs, double[] ys, int[] subHulls,
+			int offset, int size, int point) {
+		int best = 0;
+		for (int position = 1; position < size; ++position) {
+			if (isBetter(xs, ys, point, subHulls[offset + position],
+					subHulls[offset + best])) {
+				best = position;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Creates a step by step execution of the algorithm over the given points.
+	 * Only the march of the guess which succeeds is shown, one vertex per step.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points) {
+		return new HullReplayStepper(this, points);
+	}
+}
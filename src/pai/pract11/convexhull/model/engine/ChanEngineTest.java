@@ -0,0 +1,94 @@
+/**
+ * File containing the ChanEngineTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class ChanEngineTest {
+
+	/** Engine under test. */
+	ConvexHullEngine engine = new ChanEngine();
+
+	/**
+	 * Returns the given hull rotated so it starts with its lowest index.
+	 *
+	 * @param hull
+	 *          Indices of the hull.
+	 * @return Rotated hull.
+	 */
+	private static int[] normalized(int[] hull) {
+		int start = 0;
+		for (int i = 0; i < hull.length; ++i) {
+			if (hull[i] < hull[start]) {
+				start = i;
+			}
+		}
+		int[] rotated = new int[hull.length];
+		for (int i = 0; i < hull.length; ++i) {
+			rotated[i] = hull[(start + i) % hull.length];
+		}
+		return rotated;
+	}
+
+	/**
+	 * Test method for computeHull method of the ChanEngine class. The points on
+	 * the circle need several guesses.
+	 */
+	@Test
+	public final void testComputeHullSameAsMonotoneChain() {
+		Random random = new Random(0);
+		ConvexHullEngine monotoneChain = new MonotoneChainEngine();
+		for (int test = 0; test < 20; ++test) {
+			PointStore points = new PointStore();
+			for (int i = 0; i < 2000; ++i) {
+				if (test % 2 == 0) {
+					points.add(random.nextDouble(), random.nextDouble());
+				} else {
+					double angle = random.nextDouble() * 2 * Math.PI;
+					points.add(Math.cos(angle), Math.sin(angle));
+				}
+			}
+			assertArrayEquals(normalized(monotoneChain.computeHull(points)),
+					normalized(this.engine.computeHull(points)));
+		}
+	}
+
+	/**
+	 * Test method for computeHull method with duplicated and collinear points.
+	 */
+	@Test
+	public final void testComputeHullDegenerate() {
+		assertEquals(0, this.engine.computeHull(new PointStore()).length);
+		PointStore points = new PointStore();
+		for (int i = 0; i < 100; ++i) {
+			points.add(3, 3);
+		}
+		assertEquals(1, this.engine.computeHull(points).length);
+
+		// Square grid with repeated points, only the corners are vertices
+		points = new PointStore();
+		for (int i = 0; i < 2; ++i) {
+			for (int x = 0; x <= 10; ++x) {
+				for (int y = 0; y <= 10; ++y) {
+					points.add(x, y);
+				}
+			}
+		}
+		assertEquals(4, this.engine.computeHull(points).length);
+	}
+
+}
@@ -0,0 +1,71 @@
+/**
+ * File containing the ConvexHullEngine entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Interface which represents an algorithm that calculates the convex hull of a
+ * set of points. Implementations must not depend on the GUI, so they can be
+ * used in headless environments. It was created for the eleventh practice of
+ * PAI (Programación de Aplicaciones Interactivas) course of ULL (Universidad de
+ * la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public interface ConvexHullEngine {
+
+	/**
+	 * Calculates the convex hull of the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	int[] computeHull(PointStore points);
+
+	/**
+	 * Calculates the convex hull of the given points and fills the statistics
+	 * of the calculation.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param statistics
+	 *          Statistics to fill.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	default int[] computeHull(PointStore points, HullStatistics statistics) {
+		int[] hull = computeHull(points);
+		statistics.setInputPoints(points.size());
+		statistics.setHullVertices(hull.length);
+		return hull;
+	}
+
+	/**
+	 * Creates a step by step execution of the algorithm over the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Stepper.
+	 */
+	HullStepper stepper(PointStore points);
+
+	/**
+	 * Creates a step by step execution of the algorithm over the given points
+	 * which records the measurements of every step in the given metrics. By
+	 * default only the time of the steps is measured.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param metrics
+	 *          Metrics which receive the steps.
+	 * @return Stepper.
+	 */
+	default HullStepper stepper(PointStore points, HullMetrics metrics) {
+		return new MeasuredStepper(stepper(points), metrics);
+	}
+}
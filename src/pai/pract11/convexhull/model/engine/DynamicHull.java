@@ -0,0 +1,341 @@
+/**
+ * File containing the DynamicHull entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import pai.pract11.convexhull.model.Orientation;
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which keeps the convex hull of a set of points which can be inserted
+ * and deleted. The points are split in buckets of bounded size and the convex
+ * hull of every bucket is cached, so the convex hull of the whole set is the
+ * convex hull of the vertices of the buckets. A bucket is only calculated
+ * again when one of its vertices is deleted or a point is inserted in it, and
+ * the whole set is only calculated again when an operation changes its convex
+ * hull. When deletions leave too many buckets half empty, all of them are
+ * rebuilt, which is amortized over those deletions.
+ *
+ * An insertion takes O(log h) time to check if the point is inside the cached
+ * convex hull, and a deletion takes O(1) time to check if the point is one of
+ * its vertices. The bounds are not polylogarithmic: the first query after an
+ * insertion outside the convex hull or a deletion of one of its vertices
+ * calculates the convex hull of the bucket in O(b log b) time and the one of
+ * the vertices of all the buckets in O(k log k) time, k being their amount,
+ * so deleting the vertices of the convex hull one after another costs about
+ * as much as calculating it from scratch over k points every time. It was
+ * created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class DynamicHull {
+
+	/**
+	 * Bucket of points with its cached convex hull. It was created for the
+	 * eleventh practice of PAI (Programación de Aplicaciones Interactivas)
+	 * course of ULL (Universidad de la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	private static class Bucket {
+		/** Indices of the points of the bucket. */
+		private final int[]	members;
+		/** Amount of points of the bucket. */
+		private int					size;
+		/** Convex hull of the bucket, null if it must be calculated again. */
+		private int[]				hull;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param capacity
+		 *          Maximum amount of points of the bucket.
+		 */
+		Bucket(int capacity) {
+			this.members = new int[capacity];
+		}
+	}
+
+	/** Default maximum amount of points of every bucket. */
+	public static final int						DEFAULT_BUCKET_SIZE	= 1024;
+	/** Marks the points which are not in the set. */
+	private static final int					ABSENT							= -1;
+	/** Flag of the points which are vertices of the convex hull of a bucket. */
+	private static final byte					BUCKET_VERTEX				= 1;
+	/** Flag of the points which are vertices of the convex hull of the set. */
+	private static final byte					HULL_VERTEX					= 2;
+
+	/** Points, the set stores their indices. */
+	private final PointStore					points;
+	/** Maximum amount of points of every bucket. */
+	private final int									bucketSize;
+	/** Engine which calculates the convex hulls. */
+	private final ConvexHullEngine		engine;
+	/** Buckets of points. */
+	private final ArrayList<Bucket>		buckets;
+	/** Bucket of every point of the store, or ABSENT. */
+	private int[]											bucketOf;
+	/** Position of every point of the store in its bucket. */
+	private int[]											positionOf;
+	/** Vertex flags of every point of the store. */
+	private byte[]										vertexFlags;
+	/** Convex hull of the set, null if it must be calculated again. */
+	private int[]											hull;
+	/** Amount of points of the set. */
+	private int												size;
+
+	/**
+	 * Default constructor. The set is empty, the points of the store must be
+	 * inserted.
+	 *
+	 * @param points
+	 *          Points, the set stores their indices.
+	 */
+	public DynamicHull(PointStore points) {
+		this(points, DEFAULT_BUCKET_SIZE);
+	}
+
+	/**
+	 * Constructs an empty set with the given bucket size.
+	 *
+	 * @param points
+	 *          Points, the set stores their indices.
+	 * @param bucketSize
+	 *          Maximum amount of points of every bucket.
+	 */
+	public DynamicHull(PointStore points, int bucketSize) {
+		if (bucketSize < 1) {
+			throw new IllegalArgumentException("Invalid bucket size " + bucketSize);
+		}
+		this.points = points;
+		this.bucketSize = bucketSize;
+		this.engine = new MonotoneChainEngine();
+		this.buckets = new ArrayList<>();
+		this.bucketOf = new int[0];
+		this.positionOf = new int[0];
+		this.vertexFlags = new byte[0];
+		this.hull = new int[0];
+	}
+
+	/**
+	 * Getter method for size attribute.
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if a point of the store is in the set.
+	 *
+	 * @param point
+	 *          Index of the point.
+	 * @return Result.
+	 */
+	public boolean contains(int point) {
+		return point < bucketOf.length && bucketOf[point] != ABSENT;
+	}
+
+	/**
+	 * Inserts a point of the store in the set.
+	 *
+	 * @param point
+	 *          Index of the point.
+	 * @return False if the point was already in the set.
+	 */
+	public boolean insert(int point) {
+		if (point < 0 || point >= points.size()) {
+			throw new IndexOutOfBoundsException("Invalid point " + point);
+		}
+		if (contains(point)) {
+			return false;
+		}
+		if (point >= bucketOf.length) {
+			int length = Math.max(points.size(), 2 * bucketOf.length);
+			int oldLength = bucketOf.length;
+			bucketOf = Arrays.copyOf(bucketOf, length);
+			positionOf = Arrays.copyOf(positionOf, length);
+			vertexFlags = Arrays.copyOf(vertexFlags, length);
+			Arrays.fill(bucketOf, oldLength, length, ABSENT);
+		}
+		if (buckets.isEmpty()
+				|| buckets.get(buckets.size() - 1).size == bucketSize) {
+			buckets.add(new Bucket(bucketSize));
+		}
+		int bucketNumber = buckets.size() - 1;
+		Bucket bucket = buckets.get(bucketNumber);
+		bucketOf[point] = bucketNumber;
+		positionOf[point] = bucket.size;
+		bucket.members[bucket.size++] = point;
+		invalidate(bucket);
+		size++;
+		if (hull != null && !isStrictlyInside(point)) {
+			invalidateHull();
+		}
+		return true;
+	}
+
+	/**
+	 * Deletes a point from the set.
+	 *
+	 * @param point
+	 *          Index of the point.
+	 * @return False if the point was not in the set.
+	 */
+	public boolean delete(int point) {
+		if (!contains(point)) {
+			return false;
+		}
+		Bucket bucket = buckets.get(bucketOf[point]);
+		int position = positionOf[point];
+		int last = bucket.members[--bucket.size];
+		bucket.members[position] = last;
+		positionOf[last] = position;
+		bucketOf[point] = ABSENT;
+		size--;
+		// Only the vertices of a bucket can be vertices of the whole set
+		if ((vertexFlags[point] & BUCKET_VERTEX) != 0) {
+			invalidate(bucket);
+		}
+		if ((vertexFlags[point] & HULL_VERTEX) != 0) {
+			invalidateHull();
+		}
+		if (buckets.size() > 2 * ((size + bucketSize - 1) / bucketSize) + 1) {
+			rebuild();
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the convex hull of the set.
+	 *
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	public int[] getConvexHull() {
+		if (hull == null) {
+			int candidates = 0;
+			for (Bucket bucket : buckets) {
+				if (bucket.hull == null) {
+					int[] members = Arrays.copyOf(bucket.members, bucket.size);
+					bucket.hull = FilteredHullEngine.translate(
+							engine.computeHull(FilteredHullEngine.subset(points, members)),
+							members);
+					for (int vertex : bucket.hull) {
+						vertexFlags[vertex] |= BUCKET_VERTEX;
+					}
+				}
+				candidates += bucket.hull.length;
+			}
+			int[] vertices = new int[candidates];
+			int position = 0;
+			for (Bucket bucket : buckets) {
+				System.arraycopy(bucket.hull, 0, vertices, position,
+						bucket.hull.length);
+				position += bucket.hull.length;
+			}
+			hull = FilteredHullEngine.translate(
+					engine.computeHull(FilteredHullEngine.subset(points, vertices)),
+					vertices);
+			for (int vertex : hull) {
+				vertexFlags[vertex] |= HULL_VERTEX;
+			}
+		}
+		return hull.clone();
+	}
+
+	/**
+	 * Moves all the points to full buckets, whose convex hulls will be
+	 * calculated again.
+	 */
+	private void rebuild() {
+		int[] members = new int[size];
+		int position = 0;
+		for (Bucket bucket : buckets) {
+			System.arraycopy(bucket.members, 0, members, position, bucket.size);
+			position += bucket.size;
+		}
+		for (Bucket bucket : buckets) {
+			invalidate(bucket);
+		}
+		buckets.clear();
+		size = 0;
+		int[] currentHull = hull;
+		hull = null;
+		for (int point : members) {
+			bucketOf[point] = ABSENT;
+			insert(point);
+		}
+		// The set is the same, so its convex hull and its flags too
+		hull = currentHull;
+	}
+
+	/**
+	 * Discards the convex hull of a bucket and the flags of its vertices.
+	 *
+	 * @param bucket
+	 *          Bucket.
+	 */
+	private void invalidate(Bucket bucket) {
+		if (bucket.hull != null) {
+			for (int vertex : bucket.hull) {
+				vertexFlags[vertex] &= ~BUCKET_VERTEX;
+			}
+			bucket.hull = null;
+		}
+	}
+
+	/**
+	 * Discards the convex hull of the set and the flags of its vertices.
+	 */
+	private void invalidateHull() {
+		for (int vertex : hull) {
+			vertexFlags[vertex] &= ~HULL_VERTEX;
+		}
+		hull = null;
+	}
+
+	/**
+	 * Checks if a point is strictly inside the convex hull of the set, that is,
+	 * inside it and not on its border. The point is located in the fan of
+	 * triangles of the first vertex with a binary search, so it takes O(log h)
+	 * time.
+	 *
+	 * @param point
+	 *          Index of the point.
+	 * @return Result.
+	 */
+	private boolean isStrictlyInside(int point) {
+		final int SIZE = hull.length;
+		if (SIZE < 3) {
+			return false;
+		}
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+		// The interior is on the right side of the edges
+		if (Orientation.cross(xs, ys, hull[0], hull[1], point) >= 0
+				|| Orientation.cross(xs, ys, hull[0], hull[SIZE - 1], point) <= 0) {
+			return false;
+		}
+		int low = 1;
+		int high = SIZE - 1;
+		while (high - low > 1) {
+			int middle = (low + high) >>> 1;
+			if (Orientation.cross(xs, ys, hull[0], hull[middle], point) <= 0) {
+				low = middle;
+			} else {
+				high = middle;
+			}
+		}
+		return Orientation.cross(xs, ys, hull[low], hull[high], point) < 0;
+	}
+}
@@ -0,0 +1,167 @@
+/**
+ * File containing the DynamicHullTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class DynamicHullTest {
+
+	/**
+	 * Test method for insert and delete methods of the DynamicHull class. The
+	 * hull must be the same as the monotone chain one of the points in the set
+	 * after every operation.
+	 */
+	@Test
+	public final void testInsertDelete() {
+		Random random = new Random(0);
+		ConvexHullEngine engine = new MonotoneChainEngine();
+		PointStore points = new PointStore();
+		for (int i = 0; i < 400; ++i) {
+			points.add(random.nextDouble(), random.nextDouble());
+		}
+		DynamicHull hull = new DynamicHull(points, 16);
+		boolean[] inSet = new boolean[points.size()];
+		int size = 0;
+		for (int operation = 0; operation < 2000; ++operation) {
+			int point = random.nextInt(points.size());
+			// Deletions are more frequent while the set is big
+			if (random.nextInt(points.size()) < size) {
+				assertEquals(inSet[point], hull.delete(point));
+				size -= inSet[point] ? 1 : 0;
+				inSet[point] = false;
+			} else {
+				assertEquals(!inSet[point], hull.insert(point));
+				size += inSet[point] ? 0 : 1;
+				inSet[point] = true;
+			}
+			assertEquals(size, hull.size());
+			assertEquals(inSet[point], hull.contains(point));
+			assertArrayEquals(rotate(expectedHull(engine, points, inSet)),
+					rotate(hull.getConvexHull()));
+		}
+	}
+
+	/**
+	 * Test method for delete method of the DynamicHull class when all the
+	 * points are deleted.
+	 */
+	@Test
+	public final void testDeleteAll() {
+		PointStore points = new PointStore();
+		for (int x = 0; x < 10; ++x) {
+			for (int y = 0; y < 10; ++y) {
+				points.add(x, y);
+			}
+		}
+		DynamicHull hull = new DynamicHull(points, 8);
+		for (int i = 0; i < points.size(); ++i) {
+			hull.insert(i);
+		}
+		assertEquals(4, hull.getConvexHull().length);
+		for (int i = 0; i < points.size(); ++i) {
+			assertTrue(hull.delete(i));
+		}
+		assertFalse(hull.delete(0));
+		assertEquals(0, hull.size());
+		assertArrayEquals(new int[0], hull.getConvexHull());
+	}
+
+	/**
+	 * Test method for delete method of the DynamicHull class when the vertices
+	 * of the convex hull are deleted one after another, with points on the
+	 * border of the convex hull inserted meanwhile.
+	 */
+	@Test
+	public final void testDeleteHullVertices() {
+		ConvexHullEngine engine = new MonotoneChainEngine();
+		PointStore points = new PointStore();
+		for (int i = 0; i < 300; ++i) {
+			double angle = 2 * Math.PI * i / 300;
+			points.add(Math.cos(angle), Math.sin(angle));
+		}
+		DynamicHull hull = new DynamicHull(points, 16);
+		boolean[] inSet = new boolean[points.size() + 150];
+		for (int i = 0; i < 300; ++i) {
+			hull.insert(i);
+			inSet[i] = true;
+		}
+		for (int i = 0; i < 150; ++i) {
+			int vertex = hull.getConvexHull()[0];
+			assertTrue(hull.delete(vertex));
+			inSet[vertex] = false;
+			// The middle of an edge does not change the convex hull
+			int[] vertices = hull.getConvexHull();
+			int middle = points.add((points.getX(vertices[0])
+					+ points.getX(vertices[1])) / 2, (points.getY(vertices[0])
+							+ points.getY(vertices[1])) / 2);
+			hull.insert(middle);
+			inSet[middle] = true;
+			assertArrayEquals(rotate(expectedHull(engine, points, inSet)),
+					rotate(hull.getConvexHull()));
+		}
+	}
+
+	/**
+	 * Calculates the convex hull of the points in the set from scratch.
+	 *
+	 * @param engine
+	 *          Engine.
+	 * @param points
+	 *          Points.
+	 * @param inSet
+	 *          Establishes which points are in the set.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	private static int[] expectedHull(ConvexHullEngine engine,
+			PointStore points, boolean[] inSet) {
+		int[] members = new int[points.size()];
+		int size = 0;
+		for (int i = 0; i < inSet.length; ++i) {
+			if (inSet[i]) {
+				members[size++] = i;
+			}
+		}
+		members = Arrays.copyOf(members, size);
+		return FilteredHullEngine.translate(
+				engine.computeHull(FilteredHullEngine.subset(points, members)),
+				members);
+	}
+
+	/**
+	 * Rotates a convex hull so it starts with its lowest index.
+	 *
+	 * @param hull
+	 *          Convex hull.
+	 * @return Rotated convex hull.
+	 */
+	private static int[] rotate(int[] hull) {
+		int shift = 0;
+		for (int i = 1; i < hull.length; ++i) {
+			if (hull[i] < hull[shift]) {
+				shift = i;
+			}
+		}
+		int[] rotated = new int[hull.length];
+		for (int i = 0; i < hull.length; ++i) {
+			rotated[i] = hull[(shift + i) % hull.length];
+		}
+		return rotated;
+	}
+}
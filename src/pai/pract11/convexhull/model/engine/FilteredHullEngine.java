@@ -0,0 +1,214 @@
+/**
+ * File containing the FilteredHullEngine entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which runs an Akl-Toussaint filter before another engine. The engine
+ * only receives the points which survive the filter, and the indices of its
+ * results are translated back to the original points. It was created for the
+ * eleventh practice of PAI (Programación de Aplicaciones Interactivas) course
+ * of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class FilteredHullEngine implements ConvexHullEngine {
+
+	/**
+	 * Step by step execution of the filtered engine, which translates the
+	 * indices of the steps of the inner engine. It was created for the eleventh
+	 * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+	 * (Universidad de la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	static class FilteredStepper implements HullStepper {
+		/** Stepper of the inner engine. */
+		private final HullStepper	stepper;
+		/** Original index of every point given to the inner engine. */
+		private final int[]				survivors;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param stepper
+		 *          Stepper of the inner engine.
+		 * @param survivors
+		 *          Original index of every point given to the inner engine.
+		 */
+		FilteredStepper(HullStepper stepper, int[] survivors) {
+			this.stepper = stepper;
+			this.survivors = survivors;
+		}
+
+		/**
+		 * Checks if there are more points to insert in the convex hull.
+		 *
+		 * @return Result.
+		 */
+		@Override
+		public boolean hasNext() {
+			return stepper.hasNext();
+		}
+
+		/**
+		 * Executes the algorithm until the convex hull changes.
+		 *
+		 * @return Step which describes the change.
+		 */
+		@Override
+		public HullStep next() {
+			HullStep step = stepper.next();
+			int nextPoint = step.getNextPoint();
+			return new HullStep(step.getKind(), survivors[step.getPointIndex()],
+					(nextPoint == -1) ? -1 : survivors[nextPoint]);
+		}
+
+		/**
+		 * Returns the convex hull built until the current step.
+		 *
+		 * @return Indices of the points which conforms the convex hull, in order.
+		 */
+		@Override
+		public int[] getConvexHull() {
+			return translate(stepper.getConvexHull(), survivors);
+		}
+	}
+
+	/** Engine which calculates the convex hull of the remaining points. */
+	private final ConvexHullEngine		engine;
+	/** Filter which discards the interior points. */
+	private final AklToussaintFilter	filter;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param engine
+	 *          Engine which calculates the convex hull of the remaining points.
+	 */
+	public FilteredHullEngine(ConvexHullEngine engine) {
+		this(engine, new AklToussaintFilter());
+	}
+
+	/**
+	 * Constructs an engine with the given filter.
+	 *
+	 * @param engine
+	 *          Engine which calculates the convex hull of the remaining points.
+	 * @param filter
+	 *          Filter which discards the interior points.
+	 */
+	public FilteredHullEngine(ConvexHullEngine engine,
+			AklToussaintFilter filter) {
+		this.engine = engine;
+		this.filter = filter;
+	}
+
+	/**
+	 * Returns a store which only contains the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param survivors
+	 *          Indices of the points to copy.
+	 * @return Store.
+	 */
+	static PointStore subset(PointStore points, int[] survivors) {
+		double[] xs = new double[survivors.length];
+		double[] ys = new double[survivors.length];
+		for (int i = 0; i < survivors.length; ++i) {
+			xs[i] = points.getX(survivors[i]);
+			ys[i] = points.getY(survivors[i]);
+		}
+		return new PointStore(xs, ys);
+	}
+
+	/**
+	 * Translates indices of the filtered store to indices of the original one.
+	 *
+	 * @param hull
+	 *          Indices of the filtered store.
+	 * @param survivors
+	 *          Original index of every point of the filtered store.
+	 * @return Original indices.
+	 */
+	static int[] translate(int[] hull, int[] survivors) {
+		for (int i = 0; i < hull.length; ++i) {
+			hull[i] = survivors[hull[i]];
+		}
+		return hull;
+	}
+
+	/**
+	 * Calculates the convex hull of the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] computeHull(PointStore points) {
+		return computeHull(points, new HullStatistics());
+	}
+
+	/**
+	 * Calculates the convex hull of the given points and fills the statistics
+	 * of the calculation, including the amount of points removed by the filter.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param statistics
+	 *          Statistics to fill.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] computeHull(PointStore points, HullStatistics statistics) {
+		int[] survivors = filter.filter(points);
+		int[] hull = translate(engine.computeHull(subset(points, survivors)),
+				survivors);
+		statistics.setInputPoints(points.size());
+		statistics.setFilteredPoints(points.size() - survivors.length);
+		statistics.setHullVertices(hull.length);
+		return hull;
+	}
+
+	/**
+	 * Creates a step by step execution of the inner engine over the points
+	 * which survive the filter.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points) {
+		int[] survivors = filter.filter(points);
+		return new FilteredStepper(engine.stepper(subset(points, survivors)),
+				survivors);
+	}
+
+	/**
+	 * Creates a step by step execution of the inner engine over the points
+	 * which survive the filter, which records the measurements of every step
+	 * of the inner engine.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param metrics
+	 *          Metrics which receive the steps.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points, HullMetrics metrics) {
+		int[] survivors = filter.filter(points);
+		return new FilteredStepper(
+				engine.stepper(subset(points, survivors), metrics), survivors);
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ * File containing the FilteredHullEngineTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class FilteredHullEngineTest {
+
+	/** Testing points. Square with a grid of points inside */
+	PointStore points;
+
+	/**
+	 * Initializes the points used for testing.
+	 */
+	@Before
+	public final void setUp() {
+		this.points = new PointStore();
+		for (int x = 0; x <= 10; ++x) {
+			for (int y = 0; y <= 10; ++y) {
+				this.points.add(x, y);
+			}
+		}
+	}
+
+	/**
+	 * Test method for filter method of the AklToussaintFilter class. Only the
+	 * points on the border of the square survive.
+	 */
+	@Test
+	public final void testFilter() {
+		assertEquals(40, new AklToussaintFilter().filter(this.points).length);
+		assertEquals(40, new AklToussaintFilter(false).filter(this.points).length);
+	}
+
+	/**
+	 * Test method for computeHull method of the FilteredHullEngine class.
+	 */
+	@Test
+	public final void testComputeHull() {
+		HullStatistics statistics = new HullStatistics();
+		int[] hull = new FilteredHullEngine(new QuickHullEngine())
+				.computeHull(this.points, statistics);
+		Arrays.sort(hull);
+		assertArrayEquals(new int[] { 0, 10, 110, 120 }, hull);
+		assertEquals(121, statistics.getInputPoints());
+		assertEquals(81, statistics.getFilteredPoints());
+		assertEquals(4, statistics.getHullVertices());
+	}
+
+}
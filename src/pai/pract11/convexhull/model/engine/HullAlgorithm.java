@@ -0,0 +1,85 @@
+/**
+ * File containing the HullAlgorithm entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Enumeration of the convex hull algorithms which can be selected by the user.
+ * It was created for the eleventh practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public enum HullAlgorithm {
+	/** Quick hull algorithm. */
+	QUICK_HULL("Quick hull", QuickHullEngine::new),
+	/** Andrew's monotone chain algorithm. */
+	MONOTONE_CHAIN("Monotone chain", MonotoneChainEngine::new),
+	/** Chan's output sensitive algorithm. */
+	CHAN("Chan", ChanEngine::new);
+
+	/** Name shown to the user. */
+	private final String										label;
+	/** Creates the engines of the algorithm. */
+	private final Supplier<ConvexHullEngine>	factory;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param label
+	 *          Name shown to the user.
+	 * @param factory
+	 *          Creates the engines of the algorithm.
+	 */
+	HullAlgorithm(String label, Supplier<ConvexHullEngine> factory) {
+		this.label = label;
+		this.factory = factory;
+	}
+
+	/**
+	 * Creates a new engine which implements the algorithm.
+	 *
+	 * @return Engine.
+	 */
+	public ConvexHullEngine createEngine() {
+		return factory.get();
+	}
+
+	/**
+	 * Returns the algorithm with the given name. The name is not case sensitive
+	 * and words may be separated by spaces, hyphens or underscores, for example
+	 * "monotone-chain".
+	 *
+	 * @param name
+	 *          Name of the algorithm.
+	 * @return Algorithm.
+	 * @throws IllegalArgumentException
+	 *           If there is no algorithm with the given name.
+	 */
+	public static HullAlgorithm fromName(String name) {
+		String normalized = name.trim().toUpperCase(Locale.ROOT)
+				.replaceAll("[\\s-]+", "_");
+		for (HullAlgorithm algorithm : values()) {
+			if (algorithm.name().equals(normalized)) {
+				return algorithm;
+			}
+		}
+		throw new IllegalArgumentException("Unknown algorithm " + name);
+	}
+
+	/**
+	 * Returns the name shown to the user.
+	 *
+	 * @return Name.
+	 */
+	@Override
+	public String toString() {
+		return label;
+	}
+}
@@ -0,0 +1,46 @@
+/**
+ * File containing the HullMetrics entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+/**
+ * Interface which receives the measurements of every step of a step by step
+ * execution of a convex hull algorithm. The steps are recorded by the thread
+ * which runs the algorithm, so the implementations read by other threads must
+ * be thread safe. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@FunctionalInterface
+public interface HullMetrics {
+	/** Metrics which emit every step as a HullStepEvent of Flight Recorder. */
+	HullMetrics FLIGHT_RECORDER = HullStepEvent::emit;
+
+	/**
+	 * Records the measurements of a step.
+	 *
+	 * @param step
+	 *          Measurements of the step.
+	 */
+	void record(HullStepMetrics step);
+
+	/**
+	 * Returns metrics which record every step in this metrics and then in the
+	 * given ones.
+	 *
+	 * @param other
+	 *          Metrics which record the steps after this one.
+	 * @return Combined metrics.
+	 */
+	default HullMetrics andThen(HullMetrics other) {
+		return step -> {
+			record(step);
+			other.record(step);
+		};
+	}
+}
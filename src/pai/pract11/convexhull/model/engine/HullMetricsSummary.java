@@ -0,0 +1,126 @@
+/**
+ * File containing the HullMetricsSummary entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+/**
+ * Class which adds up the measurements of the steps of an execution, so they
+ * can be shown while the algorithm is running. The steps are recorded by the
+ * thread which runs the algorithm and read by any other one. It was created
+ * for the eleventh practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullMetricsSummary implements HullMetrics {
+	/** Amount of steps recorded. */
+	private long						steps;
+	/** Amount of points read by all the steps. */
+	private long						pointsScanned;
+	/** Amount of orientation tests of all the steps. */
+	private long						orientationTests;
+	/** Highest amount of subproblems pending after a step. */
+	private int							maximumStackDepth;
+	/** Time spent in all the steps, in nanoseconds. */
+	private long						nanoseconds;
+	/** Time spent in the slowest step, in nanoseconds. */
+	private long						maximumNanoseconds;
+	/** Measurements of the last step, null if there is none. */
+	private HullStepMetrics	lastStep;
+
+	/**
+	 * Adds the measurements of a step.
+	 *
+	 * @param step
+	 *          Measurements of the step.
+	 */
+	@Override
+	public synchronized void record(HullStepMetrics step) {
+		steps++;
+		pointsScanned += step.getPointsScanned();
+		orientationTests += step.getOrientationTests();
+		maximumStackDepth = Math.max(maximumStackDepth, step.getStackDepth());
+		nanoseconds += step.getNanoseconds();
+		maximumNanoseconds = Math.max(maximumNanoseconds, step.getNanoseconds());
+		lastStep = step;
+	}
+
+	/**
+	 * Getter method for steps attribute.
+	 *
+	 * @return steps
+	 */
+	public synchronized long getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Getter method for pointsScanned attribute.
+	 *
+	 * @return pointsScanned
+	 */
+	public synchronized long getPointsScanned() {
+		return pointsScanned;
+	}
+
+	/**
+	 * Getter method for orientationTests attribute.
+	 *
+	 * @return orientationTests
+	 */
+	public synchronized long getOrientationTests() {
+		return orientationTests;
+	}
+
+	/**
+	 * Getter method for maximumStackDepth attribute.
+	 *
+	 * @return maximumStackDepth
+	 */
+	public synchronized int getMaximumStackDepth() {
+		return maximumStackDepth;
+	}
+
+	/**
+	 * Getter method for nanoseconds attribute.
+	 *
+	 * @return nanoseconds
+	 */
+	public synchronized long getNanoseconds() {
+		return nanoseconds;
+	}
+
+	/**
+	 * Getter method for maximumNanoseconds attribute.
+	 *
+	 * @return maximumNanoseconds
+	 */
+	public synchronized long getMaximumNanoseconds() {
+		return maximumNanoseconds;
+	}
+
+	/**
+	 * Getter method for lastStep attribute.
+	 *
+	 * @return lastStep
+	 */
+	public synchronized HullStepMetrics getLastStep() {
+		return lastStep;
+	}
+
+	/**
+	 * Returns the string representation of the summary.
+	 *
+	 * @return String representation.
+	 */
+	@Override
+	public synchronized String toString() {
+		return steps + " steps, scanned " + pointsScanned + ", orientation tests "
+				+ orientationTests + ", maximum depth " + maximumStackDepth + ", "
+				+ nanoseconds / 1000 + " us (slowest step " + maximumNanoseconds / 1000
+				+ " us)";
+	}
+}
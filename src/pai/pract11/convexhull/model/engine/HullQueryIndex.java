@@ -0,0 +1,162 @@
+/**
+ * File containing the HullQueryIndex entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.stream.IntStream;
+
+import pai.pract11.convexhull.model.Orientation;
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which answers if points are inside a convex hull in O(log h) time,
+ * being h the amount of vertices. The diagonals from the first vertex split
+ * the convex hull in a fan of triangles, so a binary search over the angle of
+ * the point finds the only triangle which can contain it and a last test
+ * against its outer edge gives the answer. The coordinates are not rounded
+ * and the points on the border are inside. It was created for the eleventh
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullQueryIndex {
+	/** X coordinates of the vertices, in the order of the convex hull. */
+	private final double[]	xs;
+	/** Y coordinates of the vertices, in the order of the convex hull. */
+	private final double[]	ys;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param convexHull
+	 *          Indices of the points which conforms the convex hull, in the
+	 *          order of the engines.
+	 */
+	public HullQueryIndex(PointStore points, int[] convexHull) {
+		this.xs = new double[convexHull.length];
+		this.ys = new double[convexHull.length];
+		for (int i = 0; i < convexHull.length; ++i) {
+			xs[i] = points.getX(convexHull[i]);
+			ys[i] = points.getY(convexHull[i]);
+		}
+	}
+
+	/**
+	 * Returns the amount of vertices of the convex hull.
+	 *
+	 * @return Amount of vertices.
+	 */
+	public int size() {
+		return xs.length;
+	}
+
+	/**
+	 * Checks if a point is inside the convex hull or on its border.
+	 *
+	 * @param x
+	 *          X coordinate of the point.
+	 * @param y
+	 *          Y coordinate of the point.
+	 * @return Result.
+	 */
+	public boolean contains(double x, double y) {
+		final int SIZE = xs.length;
+		if (SIZE < 3) {
+			return containsDegenerate(x, y);
+		}
+		// The interior is on the right side of the edges, so the diagonals turn
+		// clockwise and the point must be between the first and the last one
+		if (Orientation.cross(xs[0], ys[0], xs[1], ys[1], x, y) > 0
+				|| Orientation.cross(xs[0], ys[0], xs[SIZE - 1], ys[SIZE - 1], x,
+						y) < 0) {
+			return false;
+		}
+		int low = 1;
+		int high = SIZE - 1;
+		while (high - low > 1) {
+			int middle = (low + high) >>> 1;
+			if (Orientation.cross(xs[0], ys[0], xs[middle], ys[middle], x, y) <= 0) {
+				low = middle;
+			} else {
+				high = middle;
+			}
+		}
+		return Orientation.cross(xs[low], ys[low], xs[high], ys[high], x, y) <= 0;
+	}
+
+	/**
+	 * Checks which points of a store are inside the convex hull.
+	 *
+	 * @param probes
+	 *          Points to check.
+	 * @return Result for every point.
+	 */
+	public boolean[] contains(PointStore probes) {
+		boolean[] inside = new boolean[probes.size()];
+		for (int i = 0; i < inside.length; ++i) {
+			inside[i] = contains(probes.getX(i), probes.getY(i));
+		}
+		return inside;
+	}
+
+	/**
+	 * Checks which points of a store are inside the convex hull using all the
+	 * processors. The index is immutable, so it can be queried by several
+	 * threads at the same time.
+	 *
+	 * @param probes
+	 *          Points to check.
+	 * @return Result for every point.
+	 */
+	public boolean[] containsParallel(PointStore probes) {
+		boolean[] inside = new boolean[probes.size()];
+		double[] probeXs = probes.getXs();
+		double[] probeYs = probes.getYs();
+		IntStream.range(0, inside.length).parallel()
+				.forEach(i -> inside[i] = contains(probeXs[i], probeYs[i]));
+		return inside;
+	}
+
+	/**
+	 * Counts the points of a store which are inside the convex hull using all
+	 * the processors.
+	 *
+	 * @param probes
+	 *          Points to check.
+	 * @return Amount of points inside.
+	 */
+	public long countInside(PointStore probes) {
+		double[] probeXs = probes.getXs();
+		double[] probeYs = probes.getYs();
+		return IntStream.range(0, probes.size()).parallel()
+				.filter(i -> contains(probeXs[i], probeYs[i])).count();
+	}
+
+	/**
+	 * Checks if a point is inside a convex hull with less than three vertices,
+	 * that is, if it is the only vertex or it is on the segment between both.
+	 *
+	 * @param x
+	 *          X coordinate of the point.
+	 * @param y
+	 *          Y coordinate of the point.
+	 * @return Result.
+	 */
+	private boolean containsDegenerate(double x, double y) {
+		if (xs.length == 0) {
+			return false;
+		}
+		if (xs.length == 1) {
+			return x == xs[0] && y == ys[0];
+		}
+		return Orientation.cross(xs[0], ys[0], xs[1], ys[1], x, y) == 0
+				&& Math.min(xs[0], xs[1]) <= x && x <= Math.max(xs[0], xs[1])
+				&& Math.min(ys[0], ys[1]) <= y && y <= Math.max(ys[0], ys[1]);
+	}
+}
@@ -0,0 +1,104 @@
+/**
+ * File containing the HullQueryIndexTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.Orientation;
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullQueryIndexTest {
+
+	/**
+	 * Test method for contains methods of the HullQueryIndex class. The integer
+	 * coordinates make the cross products exact, so the points on the border
+	 * must be found too.
+	 */
+	@Test
+	public final void testContains() {
+		Random random = new Random(0);
+		ConvexHullEngine engine = new MonotoneChainEngine();
+		for (int trial = 0; trial < 50; ++trial) {
+			PointStore points = new PointStore();
+			for (int i = random.nextInt(200) + 10; i >= 0; --i) {
+				points.add(random.nextInt(100), random.nextInt(100));
+			}
+			int[] hull = engine.computeHull(points);
+			HullQueryIndex index = new HullQueryIndex(points, hull);
+			assertEquals(hull.length, index.size());
+			PointStore probes = new PointStore();
+			for (int x = -5; x <= 105; ++x) {
+				for (int y = -5; y <= 105; ++y) {
+					probes.add(x, y);
+				}
+			}
+			boolean[] inside = index.contains(probes);
+			boolean[] insideParallel = index.containsParallel(probes);
+			long count = 0;
+			for (int i = 0; i < probes.size(); ++i) {
+				boolean expected = bruteForceContains(points, hull, probes.getX(i),
+						probes.getY(i));
+				assertEquals(expected, inside[i]);
+				assertEquals(expected, insideParallel[i]);
+				count += expected ? 1 : 0;
+			}
+			assertEquals(count, index.countInside(probes));
+		}
+	}
+
+	/**
+	 * Test method for contains method of the HullQueryIndex class with convex
+	 * hulls of less than three vertices.
+	 */
+	@Test
+	public final void testContainsDegenerate() {
+		PointStore points = new PointStore();
+		points.add(0, 0);
+		points.add(4, 2);
+		assertFalse(new HullQueryIndex(points, new int[0]).contains(0, 0));
+		assertTrue(new HullQueryIndex(points, new int[] { 0 }).contains(0, 0));
+		assertFalse(new HullQueryIndex(points, new int[] { 0 }).contains(1, 0));
+		HullQueryIndex segment = new HullQueryIndex(points, new int[] { 0, 1 });
+		assertTrue(segment.contains(2, 1));
+		assertFalse(segment.contains(6, 3));
+		assertFalse(segment.contains(2, 0));
+	}
+
+	/**
+	 * Checks if a point is inside a convex hull testing all its edges.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param hull
+	 *          Convex hull with at least three vertices.
+	 * @param x
+	 *          X coordinate of the point.
+	 * @param y
+	 *          Y coordinate of the point.
+	 * @return Result.
+	 */
+	private static boolean bruteForceContains(PointStore points, int[] hull,
+			double x, double y) {
+		for (int i = 0; i < hull.length; ++i) {
+			int next = hull[(i + 1) % hull.length];
+			if (Orientation.cross(points.getX(hull[i]), points.getY(hull[i]),
+					points.getX(next), points.getY(next), x, y) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * File containing the HullReplayStepper entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.NoSuchElementException;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Step by step execution of an engine which builds the convex hull in order,
+ * appending one vertex after another. The convex hull is calculated when the
+ * first step is requested and its vertices are returned as insertions at the
+ * end of the hull. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+class HullReplayStepper implements HullStepper {
+	/** Engine which calculates the convex hull. */
+	private final ConvexHullEngine	engine;
+	/** Points whose convex hull is calculated. */
+	private final PointStore				points;
+	/** Vertices of the convex hull, null until it is calculated. */
+	private int[]										hull;
+	/** Amount of vertices already inserted. */
+	private int											inserted;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param engine
+	 *          Engine which calculates the convex hull.
+	 * @param points
+	 *          Points whose convex hull is calculated.
+	 */
+	HullReplayStepper(ConvexHullEngine engine, PointStore points) {
+		this.engine = engine;
+		this.points = points;
+	}
+
+	/**
+	 * Checks if there are more points to insert in the convex hull.
+	 *
+	 * @return Result.
+	 */
+	@Override
+	public boolean hasNext() {
+		if (hull == null) {
+			hull = engine.computeHull(points);
+		}
+		return inserted < hull.length;
+	}
+
+	/**
+	 * Inserts the next vertex at the end of the convex hull.
+	 *
+	 * @return Step which describes the insertion.
+	 */
+	@Override
+	public HullStep next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("The convex hull is finished!");
+		}
+		HullStep step = new HullStep(hull[inserted], -1);
+		inserted++;
+		return step;
+	}
+
+	/**
+	 * Returns the convex hull built until the current step.
+	 *
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] getConvexHull() {
+		int[] convexHull = new int[inserted];
+		if (inserted > 0) {
+			System.arraycopy(hull, 0, convexHull, 0, inserted);
+		}
+		return convexHull;
+	}
+}
@@ -0,0 +1,88 @@
+/**
+ * File containing the HullStatistics entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+/**
+ * Class which stores the statistics of a convex hull calculation. It was
+ * created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullStatistics {
+	/** Amount of points given to the engine. */
+	private int	inputPoints;
+	/** Amount of points discarded before running the algorithm. */
+	private int	filteredPoints;
+	/** Amount of points which conforms the convex hull. */
+	private int	hullVertices;
+
+	/**
+	 * Getter method for inputPoints attribute.
+	 *
+	 * @return inputPoints
+	 */
+	public int getInputPoints() {
+		return inputPoints;
+	}
+
+	/**
+	 * Setter method for inputPoints attribute.
+	 *
+	 * @param inputPoints
+	 */
+	public void setInputPoints(int inputPoints) {
+		this.inputPoints = inputPoints;
+	}
+
+	/**
+	 * Getter method for filteredPoints attribute.
+	 *
+	 * @return filteredPoints
+	 */
+	public int getFilteredPoints() {
+		return filteredPoints;
+	}
+
+	/**
+	 * Setter method for filteredPoints attribute.
+	 *
+	 * @param filteredPoints
+	 */
+	public void setFilteredPoints(int filteredPoints) {
+		this.filteredPoints = filteredPoints;
+	}
+
+	/**
+	 * Getter method for hullVertices attribute.
+	 *
+	 * @return hullVertices
+	 */
+	public int getHullVertices() {
+		return hullVertices;
+	}
+
+	/**
+	 * Setter method for hullVertices attribute.
+	 *
+	 * @param hullVertices
+	 */
+	public void setHullVertices(int hullVertices) {
+		this.hullVertices = hullVertices;
+	}
+
+	/**
+	 * Returns the string representation of the statistics.
+	 *
+	 * @return String representation.
+	 */
+	@Override
+	public String toString() {
+		return "points: " + getInputPoints() + ", filtered: " + getFilteredPoints()
+				+ ", hull: " + getHullVertices();
+	}
+}
@@ -0,0 +1,143 @@
+/**
+ * File containing the HullStep entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import pai.pract11.convexhull.model.VertexRing;
+
+/**
+ * Class which represents a step of a convex hull algorithm, that is, the
+ * insertion of a new point in the convex hull or the removal of a point which
+ * was inserted before. The steps refer to the vertices by their points instead
+ * of their positions, so they can be applied to a VertexRing in constant time.
+ * If a point is in the convex hull more than once, they refer to its most
+ * recently inserted copy. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullStep {
+
+	/**
+	 * Kinds of step.
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	public enum Kind {
+		/** A point is inserted in the convex hull. */
+		INSERTION,
+		/** A point is removed from the convex hull. */
+		REMOVAL
+	}
+
+	/** Kind of the step. */
+	private final Kind	kind;
+	/** Index of the point inserted in or removed from the convex hull. */
+	private final int		pointIndex;
+	/**
+	 * Index of the vertex which follows the inserted point, or -1 if it was
+	 * inserted at the end of the convex hull or the step is a removal.
+	 */
+	private final int		nextPoint;
+
+	/**
+	 * Default constructor. The step is an insertion.
+	 *
+	 * @param pointIndex
+	 *          Index of the point inserted in the convex hull.
+	 * @param nextPoint
+	 *          Index of the vertex which follows the inserted point, or -1 if it
+	 *          was inserted at the end of the convex hull.
+	 */
+	public HullStep(int pointIndex, int nextPoint) {
+		this(Kind.INSERTION, pointIndex, nextPoint);
+	}
+
+	/**
+	 * Constructs a step of the given kind.
+	 *
+	 * @param kind
+	 *          Kind of the step.
+	 * @param pointIndex
+	 *          Index of the point inserted in or removed from the convex hull.
+	 * @param nextPoint
+	 *          Index of the vertex which follows the inserted point, or -1 if it
+	 *          was inserted at the end of the convex hull or the step is a
+	 *          removal.
+	 */
+	public HullStep(Kind kind, int pointIndex, int nextPoint) {
+		this.kind = kind;
+		this.pointIndex = pointIndex;
+		this.nextPoint = nextPoint;
+	}
+
+	/**
+	 * Getter method for kind attribute.
+	 *
+	 * @return kind
+	 */
+	public Kind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * Checks if the step removes a point from the convex hull.
+	 *
+	 * @return Result.
+	 */
+	public boolean isRemoval() {
+		return this.kind == Kind.REMOVAL;
+	}
+
+	/**
+	 * Getter method for pointIndex attribute.
+	 *
+	 * @return pointIndex
+	 */
+	public int getPointIndex() {
+		return this.pointIndex;
+	}
+
+	/**
+	 * Getter method for nextPoint attribute.
+	 *
+	 * @return nextPoint
+	 */
+	public int getNextPoint() {
+		return this.nextPoint;
+	}
+
+	/**
+	 * Applies the step to a convex hull.
+	 *
+	 * @param convexHull
+	 *          Convex hull built until the previous step.
+	 */
+	public void applyTo(VertexRing convexHull) {
+		if (isRemoval()) {
+			convexHull.remove(this.pointIndex);
+		} else {
+			convexHull.insertBefore(this.pointIndex, this.nextPoint);
+		}
+	}
+
+	/**
+	 * Returns the string representation of the step.
+	 *
+	 * @return String representation.
+	 */
+	@Override
+	public String toString() {
+		if (isRemoval()) {
+			return "remove point " + this.getPointIndex();
+		}
+		return "insert point " + this.getPointIndex() + ((this.nextPoint == -1)
+				? " at the end" : " before point " + this.nextPoint);
+	}
+}
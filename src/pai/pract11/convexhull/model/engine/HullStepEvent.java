@@ -0,0 +1,76 @@
+/**
+ * File containing the HullStepEvent entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Class which represents the Java Flight Recorder event of a step of a convex
+ * hull algorithm. The events are recorded by starting the JVM with
+ * -XX:StartFlightRecording, also in headless environments, and they cost
+ * almost nothing when no recording is running. It was created for the
+ * eleventh practice of PAI (Programación de Aplicaciones Interactivas) course
+ * of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@Name(HullStepEvent.NAME)
+@Label("Convex Hull Step")
+@Category({ "Convex Hull" })
+@Description("Work done by a convex hull algorithm to calculate a step")
+@StackTrace(false)
+public class HullStepEvent extends Event {
+	/** Name of the event in the recordings. */
+	public static final String	NAME	= "pai.convexhull.HullStep";
+
+	/** Amount of points read, once per pass over a subproblem. */
+	@Label("Points Scanned")
+	long												pointsScanned;
+	/** Amount of orientation tests. */
+	@Label("Orientation Tests")
+	long												orientationTests;
+	/** Amount of points of the last subproblem on the left of the new point. */
+	@Label("Left Partition Size")
+	int													leftPartitionSize;
+	/** Amount of points of the last subproblem on the right of the new point. */
+	@Label("Right Partition Size")
+	int													rightPartitionSize;
+	/** Amount of subproblems pending after the step. */
+	@Label("Stack Depth")
+	int													stackDepth;
+	/** Time spent in the step. */
+	@Label("Step Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long												stepTime;
+
+	/**
+	 * Records the measurements of a step if the event is enabled in a running
+	 * recording.
+	 *
+	 * @param step
+	 *          Measurements of the step.
+	 */
+	static void emit(HullStepMetrics step) {
+		HullStepEvent event = new HullStepEvent();
+		if (!event.isEnabled()) {
+			return;
+		}
+		event.pointsScanned = step.getPointsScanned();
+		event.orientationTests = step.getOrientationTests();
+		event.leftPartitionSize = step.getLeftPartitionSize();
+		event.rightPartitionSize = step.getRightPartitionSize();
+		event.stackDepth = step.getStackDepth();
+		event.stepTime = step.getNanoseconds();
+		event.commit();
+	}
+}
@@ -0,0 +1,126 @@
+/**
+ * File containing the HullStepMetrics entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+/**
+ * Class which stores the work done by a convex hull algorithm to calculate a
+ * step, that is, since the previous step was returned. The counters which an
+ * engine does not measure are zero. It was created for the eleventh practice
+ * of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullStepMetrics {
+	/** Amount of points read, once per pass over a subproblem. */
+	private final long	pointsScanned;
+	/** Amount of orientation tests. */
+	private final long	orientationTests;
+	/** Amount of points of the last subproblem on the left of the new point. */
+	private final int		leftPartitionSize;
+	/** Amount of points of the last subproblem on the right of the new point. */
+	private final int		rightPartitionSize;
+	/** Amount of subproblems pending after the step. */
+	private final int		stackDepth;
+	/** Time spent in the step, in nanoseconds. */
+	private final long	nanoseconds;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param pointsScanned
+	 *          Amount of points read, once per pass over a subproblem.
+	 * @param orientationTests
+	 *          Amount of orientation tests.
+	 * @param leftPartitionSize
+	 *          Amount of points of the last subproblem on the left of the new
+	 *          point.
+	 * @param rightPartitionSize
+	 *          Amount of points of the last subproblem on the right of the new
+	 *          point.
+	 * @param stackDepth
+	 *          Amount of subproblems pending after the step.
+	 * @param nanoseconds
+	 *          Time spent in the step, in nanoseconds.
+	 */
+	public HullStepMetrics(long pointsScanned, long orientationTests,
+			int leftPartitionSize, int rightPartitionSize, int stackDepth,
+			long nanoseconds) {
+		this.pointsScanned = pointsScanned;
+		this.orientationTests = orientationTests;
+		this.leftPartitionSize = leftPartitionSize;
+		this.rightPartitionSize = rightPartitionSize;
+		this.stackDepth = stackDepth;
+		this.nanoseconds = nanoseconds;
+	}
+
+	/**
+	 * Getter method for pointsScanned attribute.
+	 *
+	 * @return pointsScanned
+	 */
+	public long getPointsScanned() {
+		return pointsScanned;
+	}
+
+	/**
+	 * Getter method for orientationTests attribute.
+	 *
+	 * @return orientationTests
+	 */
+	public long getOrientationTests() {
+		return orientationTests;
+	}
+
+	/**
+	 * Getter method for leftPartitionSize attribute.
+	 *
+	 * @return leftPartitionSize
+	 */
+	public int getLeftPartitionSize() {
+		return leftPartitionSize;
+	}
+
+	/**
+	 * Getter method for rightPartitionSize attribute.
+	 *
+	 * @return rightPartitionSize
+	 */
+	public int getRightPartitionSize() {
+		return rightPartitionSize;
+	}
+
+	/**
+	 * Getter method for stackDepth attribute.
+	 *
+	 * @return stackDepth
+	 */
+	public int getStackDepth() {
+		return stackDepth;
+	}
+
+	/**
+	 * Getter method for nanoseconds attribute.
+	 *
+	 * @return nanoseconds
+	 */
+	public long getNanoseconds() {
+		return nanoseconds;
+	}
+
+	/**
+	 * Returns the string representation of the measurements.
+	 *
+	 * @return String representation.
+	 */
+	@Override
+	public String toString() {
+		return "scanned " + pointsScanned + ", orientation tests "
+				+ orientationTests + ", partitions " + leftPartitionSize + "/" + rightPartitionSize
+				+ ", depth " + stackDepth + ", " + nanoseconds + " ns";
+	}
+}
@@ -0,0 +1,240 @@
+/**
+ * File containing the HullStepPipeline entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which runs a step by step execution of a convex hull algorithm in a
+ * worker thread and publishes its steps in a bounded queue. The consumer, for
+ * example the event dispatch thread, takes the steps at its own pace without
+ * waiting for the algorithm, and the worker waits when the queue is full, so
+ * it is never more than the capacity of the queue ahead of the consumer. It
+ * was created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullStepPipeline implements AutoCloseable {
+	/** Default maximum amount of steps calculated but not taken. */
+	public static final int						DEFAULT_CAPACITY	= 4096;
+	/** Maximum time close() waits for the worker, in milliseconds. */
+	public static final long					CLOSE_TIMEOUT			= 1000;
+
+	/** Engine which creates the step by step execution. */
+	private final ConvexHullEngine		engine;
+	/** Points, which must not change while the worker is running. */
+	private final PointStore					points;
+	/** Metrics which receive the steps, null if they are not measured. */
+	private final HullMetrics					metrics;
+	/** Steps calculated but not taken. */
+	private final BlockingQueue<HullStep>	steps;
+	/** Thread which runs the algorithm. */
+	private final Thread							worker;
+	/** Step by step execution, only used by the worker until it finishes. */
+	private HullStepper								stepper;
+	/** Establishes if the worker has published all the steps. */
+	private volatile boolean					completed;
+	/** Establishes if the pipeline has been closed. */
+	private volatile boolean					closed;
+	/** Exception thrown by the algorithm, null if there was not any. */
+	private volatile RuntimeException	failure;
+
+	/**
+	 * Default constructor. The worker is not started until start() is called.
+	 *
+	 * @param engine
+	 *          Engine which creates the step by step execution.
+	 * @param points
+	 *          Points, which must not change while the worker is running.
+	 */
+	public HullStepPipeline(ConvexHullEngine engine, PointStore points) {
+		this(engine, points, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a pipeline with the given capacity. The worker is not started
+	 * until start() is called.
+	 *
+	 * @param engine
+	 *          Engine which creates the step by step execution.
+	 * @param points
+	 *          Points, which must not change while the worker is running.
+	 * @param capacity
+	 *          Maximum amount of steps calculated but not taken.
+	 */
+	public HullStepPipeline(ConvexHullEngine engine, PointStore points,
+			int capacity) {
+		this(engine, points, capacity, null);
+	}
+
+	/**
+	 * Constructs a pipeline which records the measurements of every step in
+	 * the given metrics, from the worker thread. The worker is not started
+	 * until start() is called.
+	 *
+	 * @param engine
+	 *          Engine which creates the step by step execution.
+	 * @param points
+	 *          Points, which must not change while the worker is running.
+	 * @param capacity
+	 *          Maximum amount of steps calculated but not taken.
+	 * @param metrics
+	 *          Metrics which receive the steps, null if they are not measured.
+	 */
+	public HullStepPipeline(ConvexHullEngine engine, PointStore points,
+			int capacity, HullMetrics metrics) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("The capacity must be positive!");
+		}
+		this.engine = engine;
+		this.points = points;
+		this.metrics = metrics;
+		this.steps = new ArrayBlockingQueue<>(capacity);
+		this.worker = new Thread(this::produce, "Convex hull worker");
+		this.worker.setDaemon(true);
+	}
+
+	/**
+	 * Starts the worker. The step by step execution is created by the worker
+	 * too, because some engines calculate the whole convex hull first.
+	 */
+	public void start() {
+		worker.start();
+	}
+
+	/**
+	 * Takes the next step if it has been calculated already, without waiting.
+	 *
+	 * @return Step, or null if there is none available now.
+	 */
+	public HullStep poll() {
+		return steps.poll();
+	}
+
+	/**
+	 * Takes up to the given amount of steps which have been calculated
+	 * already, without waiting.
+	 *
+	 * @param destination
+	 *          Collection where the steps are added, in order.
+	 * @param maxSteps
+	 *          Maximum amount of steps to take.
+	 * @return Amount of steps taken.
+	 */
+	public int drainTo(Collection<? super HullStep> destination, int maxSteps) {
+		return steps.drainTo(destination, maxSteps);
+	}
+
+	/**
+	 * Checks if all the steps have been taken, so the algorithm has finished.
+	 *
+	 * @return Result.
+	 */
+	public boolean isFinished() {
+		// The flag is read first, the worker does not publish after setting it
+		return completed && steps.isEmpty();
+	}
+
+	/**
+	 * Returns the exception thrown by the algorithm, which stops the worker.
+	 *
+	 * @return Exception, or null if there was not any.
+	 */
+	public RuntimeException getFailure() {
+		return failure;
+	}
+
+	/**
+	 * Returns the convex hull calculated by the algorithm once it has finished.
+	 *
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	public int[] getConvexHull() {
+		if (!isFinished()) {
+			throw new IllegalStateException("The algorithm has not finished!");
+		}
+		return stepper.getConvexHull();
+	}
+
+	/**
+	 * Stops the worker and waits up to CLOSE_TIMEOUT milliseconds for it. The
+	 * steps not taken are discarded. A step which does not check the
+	 * interruption, like the whole calculation of some engines, may take
+	 * longer, so isTerminated() must be checked before changing the points.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		worker.interrupt();
+		steps.clear();
+		try {
+			worker.join(CLOSE_TIMEOUT);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Checks if the worker has stopped, or has not been started, so it does
+	 * not read the points anymore.
+	 *
+	 * @return Result.
+	 */
+	public boolean isTerminated() {
+		return !worker.isAlive();
+	}
+
+	/**
+	 * Runs the algorithm in the worker, publishing every step and waiting while
+	 * the queue is full.
+	 */
+	private void produce() {
+		try {
+			HullStepper execution = (metrics == null) ? engine.stepper(points)
+					: engine.stepper(points, metrics);
+			stepper = execution;
+			while (!closed && execution.hasNext()) {
+				steps.put(execution.next());
+			}
+			completed = !closed;
+		} catch (InterruptedException exception) {
+			// Closed while waiting for the consumer
+		} catch (RuntimeException exception) {
+			failure = exception;
+		} finally {
+			if (closed) {
+				// A put woken by the consumer may have finished after close()
+				steps.clear();
+			}
+			closeStepper();
+		}
+	}
+
+	/**
+	 * Releases the resources of the stepper, like the file of a replayed trace.
+	 * Its convex hull can still be requested afterwards.
+	 */
+	private void closeStepper() {
+		if (stepper instanceof Closeable) {
+			try {
+				((Closeable) stepper).close();
+			} catch (IOException exception) {
+				if (failure == null) {
+					failure = new UncheckedIOException(exception);
+				}
+			}
+		}
+	}
+}
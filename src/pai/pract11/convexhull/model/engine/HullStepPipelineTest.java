@@ -0,0 +1,125 @@
+/**
+ * File containing the HullStepPipelineTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.VertexRing;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullStepPipelineTest {
+
+	/**
+	 * Returns random points.
+	 *
+	 * @param size
+	 *          Amount of points.
+	 * @return Points.
+	 */
+	private static PointStore randomPoints(int size) {
+		Random random = new Random(0);
+		PointStore points = new PointStore();
+		for (int i = 0; i < size; ++i) {
+			points.add(random.nextDouble(), random.nextDouble());
+		}
+		return points;
+	}
+
+	/**
+	 * Test method for drainTo method of the HullStepPipeline class. The steps
+	 * taken through a small queue must be the steps of the engine, in order.
+	 *
+	 * @throws InterruptedException
+	 *           If the test is interrupted.
+	 */
+	@Test
+	public final void testDrainTo() throws InterruptedException {
+		PointStore points = randomPoints(2000);
+		ConvexHullEngine engine = new MonotoneChainEngine();
+		List<HullStep> expected = new ArrayList<>();
+		engine.stepper(points).forEachRemaining(expected::add);
+		try (HullStepPipeline pipeline = new HullStepPipeline(engine, points, 4)) {
+			pipeline.start();
+			List<HullStep> steps = new ArrayList<>();
+			while (!pipeline.isFinished()) {
+				if (pipeline.drainTo(steps, 3) == 0) {
+					Thread.sleep(1);
+				}
+			}
+			assertEquals(expected.size(), steps.size());
+			VertexRing replayedHull = new VertexRing();
+			for (int i = 0; i < steps.size(); ++i) {
+				assertEquals(expected.get(i).toString(), steps.get(i).toString());
+				steps.get(i).applyTo(replayedHull);
+			}
+			assertNull(pipeline.getFailure());
+			assertArrayEquals(engine.computeHull(points), pipeline.getConvexHull());
+			assertArrayEquals(pipeline.getConvexHull(), replayedHull.toArray());
+		}
+	}
+
+	/**
+	 * Test method for close method of the HullStepPipeline class. A worker
+	 * waiting for the consumer must stop without finishing the algorithm, and
+	 * close must wait for it.
+	 *
+	 * @throws InterruptedException
+	 *           If the test is interrupted.
+	 */
+	@Test
+	public final void testClose() throws InterruptedException {
+		HullStepPipeline pipeline = new HullStepPipeline(new QuickHullEngine(),
+				randomPoints(2000), 1);
+		pipeline.start();
+		while (pipeline.poll() == null) {
+			Thread.sleep(1);
+		}
+		pipeline.close();
+		assertTrue(pipeline.isTerminated());
+		assertNull(pipeline.poll());
+		assertFalse(pipeline.isFinished());
+		assertNull(pipeline.getFailure());
+	}
+
+	/**
+	 * Test method for getFailure method of the HullStepPipeline class. The
+	 * exception of the algorithm must be published instead of lost.
+	 *
+	 * @throws InterruptedException
+	 *           If the test is interrupted.
+	 */
+	@Test
+	public final void testGetFailure() throws InterruptedException {
+		ConvexHullEngine failingEngine = new MonotoneChainEngine() {
+			@Override
+			public HullStepper stepper(PointStore points) {
+				throw new IllegalStateException("Failure");
+			}
+		};
+		HullStepPipeline pipeline = new HullStepPipeline(failingEngine,
+				randomPoints(10));
+		pipeline.start();
+		while (pipeline.getFailure() == null) {
+			Thread.sleep(1);
+		}
+		assertTrue(pipeline.getFailure() instanceof IllegalStateException);
+		assertFalse(pipeline.isFinished());
+	}
+}
@@ -0,0 +1,28 @@
+/**
+ * File containing the HullStepper entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Iterator;
+
+/**
+ * Interface which represents a step by step execution of a convex hull
+ * algorithm. Every call to next() inserts one point in the convex hull or
+ * removes one point from it. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public interface HullStepper extends Iterator<HullStep> {
+
+	/**
+	 * Returns the convex hull built until the current step.
+	 *
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	int[] getConvexHull();
+}
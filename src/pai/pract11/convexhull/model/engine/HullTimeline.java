@@ -0,0 +1,292 @@
+/**
+ * File containing the HullTimeline entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Arrays;
+
+import pai.pract11.convexhull.model.VertexRing;
+
+/**
+ * Class which keeps the steps of a step by step execution already taken, so
+ * the convex hull of any of them can be shown again without running the
+ * algorithm from the beginning. The steps are logged as two ints each and the
+ * vertices of the convex hull are saved every checkpointInterval steps in a
+ * single int array. Seeking a step restores the nearest checkpoint before it,
+ * or keeps the current convex hull if it is nearer, and replays the logged
+ * steps from there, so it never replays more than checkpointInterval steps.
+ * When the checkpoints exceed the memory budget, every other one is discarded
+ * and the interval is doubled. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullTimeline {
+	/** Default amount of steps between checkpoints. */
+	public static final int		DEFAULT_CHECKPOINT_INTERVAL	= 1024;
+	/** Default maximum amount of bytes of the checkpoints. */
+	public static final long	DEFAULT_MEMORY_BUDGET				= 64L << 20;
+	/** Default capacity of the arrays. */
+	private static final int	DEFAULT_CAPACITY						= 16;
+
+	/** Maximum amount of bytes of the checkpoints. */
+	private final long				memoryBudget;
+	/** Convex hull after the current step. */
+	private final VertexRing	convexHull;
+	/** Point of every step, or its complement if it is a removal. */
+	private int[]							stepPoints;
+	/** Next point of every insertion, or -1. */
+	private int[]							stepNextPoints;
+	/** Amount of steps logged. */
+	private int								length;
+	/** Amount of steps applied to the convex hull. */
+	private int								position;
+	/** Amount of steps between checkpoints. */
+	private int								checkpointInterval;
+	/** Vertices of the convex hull of all the checkpoints, one after another. */
+	private int[]							checkpointVertices;
+	/**
+	 * Position in checkpointVertices of the vertices of every checkpoint, plus
+	 * the end of the last one. The checkpoint i is the convex hull after
+	 * i * checkpointInterval steps.
+	 */
+	private int[]							checkpointOffsets;
+	/** Amount of checkpoints. */
+	private int								checkpoints;
+
+	/**
+	 * Default constructor.
+	 */
+	public HullTimeline() {
+		this(DEFAULT_CHECKPOINT_INTERVAL, DEFAULT_MEMORY_BUDGET);
+	}
+
+	/**
+	 * Constructs a timeline with the given checkpoints.
+	 *
+	 * @param checkpointInterval
+	 *          Initial amount of steps between checkpoints.
+	 * @param memoryBudget
+	 *          Maximum amount of bytes of the checkpoints. The first one, which
+	 *          is empty, is always kept.
+	 */
+	public HullTimeline(int checkpointInterval, long memoryBudget) {
+		if (checkpointInterval < 1) {
+			throw new IllegalArgumentException(
+					"The checkpoint interval must be positive!");
+		}
+		if (memoryBudget < 0) {
+			throw new IllegalArgumentException(
+					"The memory budget must be positive!");
+		}
+		this.checkpointInterval = checkpointInterval;
+		this.memoryBudget = memoryBudget;
+		this.convexHull = new VertexRing();
+		this.stepPoints = new int[DEFAULT_CAPACITY];
+		this.stepNextPoints = new int[DEFAULT_CAPACITY];
+		this.checkpointVertices = new int[DEFAULT_CAPACITY];
+		this.checkpointOffsets = new int[DEFAULT_CAPACITY];
+		// The empty convex hull before the first step
+		this.checkpoints = 1;
+	}
+
+	/**
+	 * Logs a new step and applies it to the convex hull. The timeline must be
+	 * at its last step.
+	 *
+	 * @param step
+	 *          Step which follows the last one.
+	 * @throws IllegalStateException
+	 *           If the timeline is not at its last step.
+	 */
+	public void append(HullStep step) {
+		if (position != length) {
+			throw new IllegalStateException(
+					"The steps can only be appended at the last one!");
+		}
+		if (length == stepPoints.length) {
+			final int CAPACITY = length + (length >> 1) + 1;
+			stepPoints = Arrays.copyOf(stepPoints, CAPACITY);
+			stepNextPoints = Arrays.copyOf(stepNextPoints, CAPACITY);
+		}
+		stepPoints[length] = step.isRemoval() ? ~step.getPointIndex()
+				: step.getPointIndex();
+		stepNextPoints[length] = step.getNextPoint();
+		length++;
+		apply(length - 1);
+		position = length;
+		if (length % checkpointInterval == 0) {
+			saveCheckpoint();
+		}
+	}
+
+	/**
+	 * Moves the convex hull to the given step.
+	 *
+	 * @param step
+	 *          Amount of steps applied after the seek, from 0 to getLength().
+	 * @throws IndexOutOfBoundsException
+	 *           If the step has not been logged.
+	 */
+	public void seek(int step) {
+		if (step < 0 || step > length) {
+			throw new IndexOutOfBoundsException("The step " + step
+					+ " is not in the timeline of " + length + " steps!");
+		}
+		int checkpoint = Math.min(step / checkpointInterval, checkpoints - 1);
+		final int CHECKPOINT_STEP = checkpoint * checkpointInterval;
+		if (step < position || CHECKPOINT_STEP > position) {
+			restoreCheckpoint(checkpoint);
+			position = CHECKPOINT_STEP;
+		}
+		while (position < step) {
+			apply(position);
+			position++;
+		}
+	}
+
+	/**
+	 * Returns the vertices of the convex hull after the current step, from the
+	 * first one. The array is shared until the convex hull changes, so it must
+	 * not be modified.
+	 *
+	 * @return Indices of the points.
+	 */
+	public int[] getConvexHull() {
+		return convexHull.snapshot();
+	}
+
+	/**
+	 * Getter method for position attribute, the amount of steps applied to the
+	 * convex hull.
+	 *
+	 * @return position
+	 */
+	public int getPosition() {
+		return position;
+	}
+
+	/**
+	 * Getter method for length attribute, the amount of steps logged.
+	 *
+	 * @return length
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * Checks if the timeline is at its last step.
+	 *
+	 * @return Result.
+	 */
+	public boolean isAtEnd() {
+		return position == length;
+	}
+
+	/**
+	 * Getter method for checkpointInterval attribute.
+	 *
+	 * @return checkpointInterval
+	 */
+	public int getCheckpointInterval() {
+		return checkpointInterval;
+	}
+
+	/**
+	 * Returns the amount of bytes used by the checkpoints.
+	 *
+	 * @return Amount of bytes.
+	 */
+	public long getCheckpointBytes() {
+		return Integer.BYTES
+				* ((long) checkpointOffsets[checkpoints] + checkpoints + 1);
+	}
+
+	/**
+	 * Applies a logged step to the convex hull.
+	 *
+	 * @param step
+	 *          Index of the step.
+	 */
+	private void apply(int step) {
+		int point = stepPoints[step];
+		if (point < 0) {
+			convexHull.remove(~point);
+		} else {
+			convexHull.insertBefore(point, stepNextPoints[step]);
+		}
+	}
+
+	/**
+	 * Returns the amount of vertices of a checkpoint.
+	 *
+	 * @param checkpoint
+	 *          Index of the checkpoint.
+	 * @return Amount of vertices.
+	 */
+	private int convexHullSize(int checkpoint) {
+		return checkpointOffsets[checkpoint + 1] - checkpointOffsets[checkpoint];
+	}
+
+	/**
+	 * Saves the current convex hull as the next checkpoint, thinning the
+	 * checkpoints while they exceed the memory budget.
+	 */
+	private void saveCheckpoint() {
+		int[] vertices = convexHull.snapshot();
+		int from = checkpointOffsets[checkpoints];
+		if (checkpoints + 2 > checkpointOffsets.length) {
+			checkpointOffsets = Arrays.copyOf(checkpointOffsets,
+					checkpointOffsets.length * 2);
+		}
+		if (from + vertices.length > checkpointVertices.length) {
+			checkpointVertices = Arrays.copyOf(checkpointVertices, Math.max(
+					from + vertices.length, checkpointVertices.length * 2));
+		}
+		System.arraycopy(vertices, 0, checkpointVertices, from, vertices.length);
+		checkpointOffsets[checkpoints + 1] = from + vertices.length;
+		checkpoints++;
+		while (checkpoints > 1 && getCheckpointBytes() > memoryBudget) {
+			thinCheckpoints();
+		}
+	}
+
+	/**
+	 * Discards the checkpoints of odd index and doubles the interval, so the
+	 * remaining ones are still every checkpointInterval steps.
+	 */
+	private void thinCheckpoints() {
+		int kept = 0;
+		int end = 0;
+		for (int checkpoint = 0; checkpoint < checkpoints; checkpoint += 2) {
+			final int SIZE = convexHullSize(checkpoint);
+			System.arraycopy(checkpointVertices, checkpointOffsets[checkpoint],
+					checkpointVertices, end, SIZE);
+			checkpointOffsets[kept] = end;
+			end += SIZE;
+			kept++;
+		}
+		checkpointOffsets[kept] = end;
+		checkpoints = kept;
+		checkpointInterval *= 2;
+	}
+
+	/**
+	 * Replaces the convex hull with the one of a checkpoint.
+	 *
+	 * @param checkpoint
+	 *          Index of the checkpoint.
+	 */
+	private void restoreCheckpoint(int checkpoint) {
+		convexHull.clear();
+		final int END = checkpointOffsets[checkpoint + 1];
+		for (int i = checkpointOffsets[checkpoint]; i < END; ++i) {
+			convexHull.add(checkpointVertices[i]);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/**
+ * File containing the HullTimelineTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.VertexRing;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullTimelineTest {
+
+	/**
+	 * Returns random points.
+	 *
+	 * @param size
+	 *          Amount of points.
+	 * @return Points.
+	 */
+	private static PointStore randomPoints(int size) {
+		Random random = new Random(0);
+		PointStore points = new PointStore();
+		for (int i = 0; i < size; ++i) {
+			points.add(random.nextDouble(), random.nextDouble());
+		}
+		return points;
+	}
+
+	/**
+	 * Logs every step of an engine in a timeline and returns the convex hull
+	 * after every step.
+	 *
+	 * @param engine
+	 *          Engine.
+	 * @param points
+	 *          Points.
+	 * @param timeline
+	 *          Timeline which receives the steps.
+	 * @return Convex hull after every step, from the empty one.
+	 */
+	private static List<int[]> appendAll(ConvexHullEngine engine,
+			PointStore points, HullTimeline timeline) {
+		List<int[]> convexHulls = new ArrayList<>();
+		VertexRing convexHull = new VertexRing();
+		convexHulls.add(convexHull.toArray());
+		HullStepper stepper = engine.stepper(points);
+		while (stepper.hasNext()) {
+			HullStep step = stepper.next();
+			step.applyTo(convexHull);
+			timeline.append(step);
+			convexHulls.add(convexHull.toArray());
+		}
+		return convexHulls;
+	}
+
+	/**
+	 * Test method for seek method of the HullTimeline class. Every step is
+	 * reached backwards and then at random, with several engines.
+	 */
+	@Test
+	public final void testSeek() {
+		PointStore points = randomPoints(3000);
+		for (ConvexHullEngine engine : new ConvexHullEngine[] {
+				new QuickHullEngine(), new MonotoneChainEngine() }) {
+			HullTimeline timeline = new HullTimeline(16, Long.MAX_VALUE);
+			List<int[]> convexHulls = appendAll(engine, points, timeline);
+			assertEquals(convexHulls.size() - 1, timeline.getLength());
+			for (int step = timeline.getLength(); step >= 0; --step) {
+				timeline.seek(step);
+				assertArrayEquals(convexHulls.get(step), timeline.getConvexHull());
+			}
+			Random random = new Random(1);
+			for (int i = 0; i < 500; ++i) {
+				int step = random.nextInt(timeline.getLength() + 1);
+				timeline.seek(step);
+				assertEquals(step, timeline.getPosition());
+				assertArrayEquals(convexHulls.get(step), timeline.getConvexHull());
+			}
+		}
+	}
+
+	/**
+	 * Test method for the memory budget of the HullTimeline class. The
+	 * checkpoints are thinned and the steps can still be reached.
+	 */
+	@Test
+	public final void testMemoryBudget() {
+		final long BUDGET = 2048;
+		HullTimeline timeline = new HullTimeline(1, BUDGET);
+		List<int[]> convexHulls = appendAll(new MonotoneChainEngine(),
+				randomPoints(5000), timeline);
+		assertTrue(timeline.getCheckpointBytes() <= BUDGET);
+		assertTrue(timeline.getCheckpointInterval() > 1);
+		for (int step = 0; step <= timeline.getLength(); step += 7) {
+			timeline.seek(step);
+			assertArrayEquals(convexHulls.get(step), timeline.getConvexHull());
+		}
+	}
+
+	/**
+	 * Test method for append method of the HullTimeline class after a seek.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public final void testAppendBeforeEnd() {
+		HullTimeline timeline = new HullTimeline();
+		timeline.append(new HullStep(0, -1));
+		timeline.append(new HullStep(1, -1));
+		timeline.seek(1);
+		timeline.append(new HullStep(2, -1));
+	}
+}
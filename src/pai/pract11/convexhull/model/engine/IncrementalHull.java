@@ -0,0 +1,272 @@
+/**
+ * File containing the IncrementalHull entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import pai.pract11.convexhull.model.Orientation;
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which keeps the convex hull of a growing set of points. The hull is
+ * split in an upper and a lower chain, stored in ordered maps from the x
+ * coordinate of every vertex to its index. A new point is rejected in O(log h)
+ * time if it is inside both chains, otherwise it is spliced in and the
+ * vertices which are not convex anymore are removed, so every insertion takes
+ * amortized O(log h) time. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class IncrementalHull {
+	/** Points, the hull stores their indices. */
+	private final PointStore						points;
+	/** Upper chain, the vertex with the highest y for every x coordinate. */
+	private final TreeMap<Double, Integer>	upperChain;
+	/** Lower chain, the vertex with the lowest y for every x coordinate. */
+	private final TreeMap<Double, Integer>	lowerChain;
+
+	/**
+	 * Default constructor. The hull is empty, the points of the store must be
+	 * inserted.
+	 *
+	 * @param points
+	 *          Points, the hull stores their indices.
+	 */
+	public IncrementalHull(PointStore points) {
+		this.points = points;
+		this.upperChain = new TreeMap<>();
+		this.lowerChain = new TreeMap<>();
+	}
+
+	/**
+	 * Getter method for points attribute.
+	 *
+	 * @return points
+	 */
+	public PointStore getPoints() {
+		return points;
+	}
+
+	/**
+	 * Inserts a point of the store in the hull.
+	 *
+	 * @param point
+	 *          Index of the point.
+	 * @return True if the hull has changed, false if the point is inside it.
+	 */
+	public boolean insert(int point) {
+		boolean upperChanged = insert(upperChain, point, 1);
+		boolean lowerChanged = insert(lowerChain, point, -1);
+		return upperChanged || lowerChanged;
+	}
+
+	/**
+	 * Inserts a range of points of the store in the hull.
+	 *
+	 * @param from
+	 *          Index of the first point, inclusive.
+	 * @param to
+	 *          Index of the last point, exclusive.
+	 * @return True if the hull has changed.
+	 */
+	public boolean insertRange(int from, int to) {
+		boolean changed = false;
+		for (int point = from; point < to; ++point) {
+			changed |= insert(point);
+		}
+		return changed;
+	}
+
+	/**
+	 * Checks if a point is inside the hull or on its border. It takes O(log h)
+	 * time.
+	 *
+	 * @param x
+	 *          X coordinate of the point.
+	 * @param y
+	 *          Y coordinate of the point.
+	 * @return Result.
+	 */
+	public boolean contains(double x, double y) {
+		return isUnder(upperChain, x, y, 1) && isUnder(lowerChain, x, y, -1);
+	}
+
+	/**
+	 * Returns the amount of vertices of the hull, without building it. The
+	 * endpoints of the lower chain are counted as in getConvexHull.
+	 *
+	 * @return Amount of vertices.
+	 */
+	public int size() {
+		if (upperChain.isEmpty()) {
+			return 0;
+		}
+		int lowerFirst = lowerChain.firstEntry().getValue();
+		int lowerLast = lowerChain.lastEntry().getValue();
+		// The vertices of the lower chain between its endpoints
+		int size = upperChain.size() + lowerChain.size()
+				- ((lowerLast == lowerFirst) ? 1 : 2);
+		if (!isSamePoint(lowerFirst, upperChain.firstEntry().getValue())) {
+			size++;
+		}
+		if (lowerLast != lowerFirst
+				&& !isSamePoint(lowerLast, upperChain.lastEntry().getValue())) {
+			size++;
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the vertices of the hull, with the same orientation as the ones
+	 * of the engines.
+	 *
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	public int[] getConvexHull() {
+		if (upperChain.isEmpty()) {
+			return new int[0];
+		}
+		int[] hull = new int[upperChain.size() + lowerChain.size()];
+		int size = 0;
+		int lowerFirst = lowerChain.firstEntry().getValue();
+		int lowerLast = lowerChain.lastEntry().getValue();
+		if (!isSamePoint(lowerFirst, upperChain.firstEntry().getValue())) {
+			hull[size++] = lowerFirst;
+		}
+		for (int vertex : upperChain.values()) {
+			hull[size++] = vertex;
+		}
+		// A lower chain of one vertex, when all the x are equal, is one endpoint
+		if (lowerLast != lowerFirst
+				&& !isSamePoint(lowerLast, upperChain.lastEntry().getValue())) {
+			hull[size++] = lowerLast;
+		}
+		for (int vertex : lowerChain.descendingMap().values()) {
+			if (vertex != lowerFirst && vertex != lowerLast) {
+				hull[size++] = vertex;
+			}
+		}
+		return Arrays.copyOf(hull, size);
+	}
+
+	/**
+	 * Deletes all the vertices of the hull.
+	 */
+	public void clear() {
+		upperChain.clear();
+		lowerChain.clear();
+	}
+
+	/**
+	 * Checks if two points have the same coordinates.
+	 *
+	 * @param a
+	 *          Index of the first point.
+	 * @param b
+	 *          Index of the second point.
+	 * @return Result.
+	 */
+	private boolean isSamePoint(int a, int b) {
+		return points.getX(a) == points.getX(b)
+				&& points.getY(a) == points.getY(b);
+	}
+
+	/**
+	 * Returns the key of a point in the chains. Adding zero turns -0.0 into
+	 * 0.0, both must have the same key.
+	 *
+	 * @param x
+	 *          X coordinate of the point.
+	 * @return Key.
+	 */
+	private static Double key(double x) {
+		return x + 0.0;
+	}
+
+	/**
+	 * Checks if a point is under the upper chain, or over the lower chain, or
+	 * on it. The sign mirrors the tests for the lower chain.
+	 *
+	 * @param chain
+	 *          Chain.
+	 * @param x
+	 *          X coordinate of the point.
+	 * @param y
+	 *          Y coordinate of the point.
+	 * @param sign
+	 *          1 for the upper chain, -1 for the lower chain.
+	 * @return Result.
+	 */
+	private boolean isUnder(TreeMap<Double, Integer> chain, double x, double y,
+			int sign) {
+		if (chain.isEmpty()) {
+			return false;
+		}
+		Map.Entry<Double, Integer> left = chain.floorEntry(key(x));
+		Map.Entry<Double, Integer> right = chain.ceilingEntry(key(x));
+		if (left == null || right == null) {
+			return false;
+		}
+		if (left == right || left.getKey().equals(right.getKey())) {
+			return sign * y <= sign * points.getY(left.getValue());
+		}
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+		double cross = Orientation.cross(xs[left.getValue()], ys[left.getValue()],
+				xs[right.getValue()], ys[right.getValue()], x, y);
+		return sign * cross <= 0;
+	}
+
+	/**
+	 * Inserts a point in a chain if it is outside, removing the neighbours
+	 * which are not convex anymore.
+	 *
+	 * @param chain
+	 *          Chain.
+	 * @param point
+	 *          Index of the point.
+	 * @param sign
+	 *          1 for the upper chain, -1 for the lower chain.
+	 * @return True if the chain has changed.
+	 */
+	private boolean insert(TreeMap<Double, Integer> chain, int point, int sign) {
+		double x = points.getX(point);
+		if (isUnder(chain, x, points.getY(point), sign)) {
+			return false;
+		}
+		Double key = key(x);
+		chain.put(key, point);
+
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+		Map.Entry<Double, Integer> neighbour = chain.lowerEntry(key);
+		while (neighbour != null) {
+			Map.Entry<Double, Integer> next = chain.lowerEntry(neighbour.getKey());
+			if (next == null || sign * Orientation.cross(xs, ys, next.getValue(),
+					neighbour.getValue(), point) < 0) {
+				break;
+			}
+			chain.remove(neighbour.getKey());
+			neighbour = next;
+		}
+		neighbour = chain.higherEntry(key);
+		while (neighbour != null) {
+			Map.Entry<Double, Integer> next = chain.higherEntry(neighbour.getKey());
+			if (next == null || sign * Orientation.cross(xs, ys, point,
+					neighbour.getValue(), next.getValue()) < 0) {
+				break;
+			}
+			chain.remove(neighbour.getKey());
+			neighbour = next;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * File containing the IncrementalHullTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class IncrementalHullTest {
+
+	/**
+	 * Test method for insert method of the IncrementalHull class. The hull must
+	 * be the same as the monotone chain one after every insertion.
+	 */
+	@Test
+	public final void testInsert() {
+		Random random = new Random(0);
+		ConvexHullEngine engine = new MonotoneChainEngine();
+		PointStore points = new PointStore();
+		IncrementalHull hull = new IncrementalHull(points);
+		for (int i = 0; i < 500; ++i) {
+			int point = points.add(random.nextDouble(), random.nextDouble());
+			hull.insert(point);
+			int[] expected = engine.computeHull(points);
+			int[] actual = hull.getConvexHull();
+			assertEquals(expected.length, actual.length);
+			assertEquals(actual.length, hull.size());
+			// The first vertex may be different, the order must not
+			int shift = 0;
+			for (int j = 0; j < actual.length; ++j) {
+				if (actual[j] == expected[0]) {
+					shift = j;
+				}
+			}
+			for (int j = 0; j < expected.length; ++j) {
+				assertEquals(expected[j], actual[(shift + j) % actual.length]);
+			}
+		}
+	}
+
+	/**
+	 * Test method for insertRange and contains methods of the IncrementalHull
+	 * class with a grid with repeated points.
+	 */
+	@Test
+	public final void testInsertRangeDegenerate() {
+		PointStore points = new PointStore();
+		IncrementalHull hull = new IncrementalHull(points);
+		assertArrayEquals(new int[0], hull.getConvexHull());
+		points.add(5, 5);
+		points.add(5, 5);
+		assertTrue(hull.insertRange(0, 2));
+		assertEquals(1, hull.size());
+		for (int x = 0; x <= 10; ++x) {
+			points.add(x, 0);
+		}
+		hull.insertRange(2, points.size());
+		assertEquals(3, hull.size());
+		for (int x = 0; x <= 10; ++x) {
+			for (int y = 0; y <= 10; ++y) {
+				points.add(x, y);
+			}
+		}
+		hull.insertRange(13, points.size());
+		assertEquals(4, hull.size());
+		assertFalse(hull.insert(points.add(5, 5)));
+		assertTrue(hull.contains(10, 10));
+		assertFalse(hull.contains(10.5, 10));
+	}
+
+	/**
+	 * Test method for getConvexHull method of the IncrementalHull class when
+	 * all the points have the same x coordinate, with repeated points.
+	 */
+	@Test
+	public final void testGetConvexHullVertical() {
+		PointStore points = new PointStore();
+		IncrementalHull hull = new IncrementalHull(points);
+		points.add(2, 2);
+		points.add(2, 1);
+		points.add(2, 0);
+		hull.insertRange(0, points.size());
+		int[] vertices = hull.getConvexHull();
+		assertEquals(vertices.length, hull.size());
+		Arrays.sort(vertices);
+		assertArrayEquals(new int[] { 0, 2 }, vertices);
+		points.add(2, 2);
+		points.add(2, 0);
+		points.add(2, 1);
+		hull.insertRange(3, points.size());
+		assertEquals(2, hull.size());
+		assertTrue(hull.contains(2, 1));
+		assertFalse(hull.contains(2, 3));
+	}
+
+}
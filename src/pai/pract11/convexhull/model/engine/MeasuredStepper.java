@@ -0,0 +1,77 @@
+/**
+ * File containing the MeasuredStepper entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+/**
+ * Step by step execution which measures the time spent in every step of
+ * another one. It is used by the engines which do not count their work, so
+ * the counters of their steps are zero. It was created for the eleventh
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+class MeasuredStepper implements HullStepper {
+	/** Measured stepper. */
+	private final HullStepper	stepper;
+	/** Metrics which receive the steps. */
+	private final HullMetrics	metrics;
+	/** Time spent since the previous step, in nanoseconds. */
+	private long							stepNanoseconds;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param stepper
+	 *          Measured stepper.
+	 * @param metrics
+	 *          Metrics which receive the steps.
+	 */
+	MeasuredStepper(HullStepper stepper, HullMetrics metrics) {
+		this.stepper = stepper;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Checks if there are more steps, which may calculate the next one.
+	 *
+	 * @return Result.
+	 */
+	@Override
+	public boolean hasNext() {
+		long start = System.nanoTime();
+		boolean result = stepper.hasNext();
+		stepNanoseconds += System.nanoTime() - start;
+		return result;
+	}
+
+	/**
+	 * Executes the algorithm until the convex hull changes and records the time
+	 * spent.
+	 *
+	 * @return Step which describes the change.
+	 */
+	@Override
+	public HullStep next() {
+		long start = System.nanoTime();
+		HullStep step = stepper.next();
+		stepNanoseconds += System.nanoTime() - start;
+		metrics.record(new HullStepMetrics(0, 0, 0, 0, 0, stepNanoseconds));
+		stepNanoseconds = 0;
+		return step;
+	}
+
+	/**
+	 * Returns the convex hull built until the current step.
+	 *
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] getConvexHull() {
+		return stepper.getConvexHull();
+	}
+}
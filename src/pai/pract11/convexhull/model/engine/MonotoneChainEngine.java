@@ -0,0 +1,392 @@
+/**
+ * File containing the MonotoneChainEngine entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import pai.pract11.convexhull.model.IndexList;
+import pai.pract11.convexhull.model.Orientation;
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which implements Andrew's monotone chain algorithm. The points are
+ * sorted by their coordinates and the convex hull is built with two scans, so
+ * it takes O(n log n) time even when all the points are in the convex hull.
+ * The hull has the same orientation as the one calculated by the quick hull
+ * engine. It was created for the eleventh practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class MonotoneChainEngine implements ConvexHullEngine {
+
+	/**
+	 * Step by step execution of the monotone chain algorithm. Every point
+	 * pushed to the chain is an insertion at its end and every point popped
+	 * from the chain is a removal of its last point. It was created for the
+	 * eleventh practice of PAI (Programación de Aplicaciones Interactivas)
+	 * course of ULL (Universidad de la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	static class MonotoneChainStepper implements HullStepper {
+		/** Building the first chain, from left to right. */
+		private static final int	FIRST_CHAIN		= 0;
+		/** Building the second chain, from right to left. */
+		private static final int	SECOND_CHAIN	= 1;
+		/** Removing the first point, which is repeated at the end. */
+		private static final int	CLOSING				= 2;
+		/** The convex hull is finished. */
+		private static final int	FINISHED			= 3;
+
+		/** Points whose convex hull is calculated. */
+		private PointStore				points;
+		/** Indices of the points which conforms the chain. */
+		private IndexList					convexHull;
+		/** Establishes if the points are sorted. */
+		private boolean						initializedHull;
+		/** Indices of the distinct points, sorted by their coordinates. */
+		private int[]							sorted;
+		/** Position of the sorted array of the next point to push. */
+		private int								current;
+		/** Phase of the algorithm. */
+		private int								phase;
+		/** Size of the chain under which no point can be popped. */
+		private int								minimumSize;
+		/** Step already calculated but not returned yet. */
+		private HullStep					pendingStep;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param points
+		 *          Points whose convex hull is calculated.
+		 */
+		public MonotoneChainStepper(PointStore points) {
+			this.points = points;
+			this.convexHull = new IndexList();
+		}
+
+		/**
+		 * Checks if there are more changes to do in the convex hull.
+		 *
+		 * @return Result.
+		 */
+		@Override
+		public boolean hasNext() {
+			if (!initializedHull) {
+				initializeHull();
+			}
+			if (pendingStep == null) {
+				pendingStep = computeStep();
+			}
+			return pendingStep != null;
+		}
+
+		/**
+		 * Executes the algorithm until the convex hull changes.
+		 *
+		 * @return Step which describes the change.
+		 */
+		@Override
+		public HullStep next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("The convex hull is finished!");
+			}
+			HullStep step = pendingStep;
+			pendingStep = null;
+			if (step.isRemoval()) {
+				convexHull.remove(convexHull.size() - 1);
+			} else {
+				convexHull.add(step.getPointIndex());
+				current += (phase == FIRST_CHAIN) ? 1 : -1;
+			}
+			return step;
+		}
+
+		/**
+		 * Returns the convex hull built until the current step.
+		 *
+		 * @return Indices of the points which conforms the convex hull, in order.
+		 */
+		@Override
+		public int[] getConvexHull() {
+			return convexHull.toArray();
+		}
+
+		/**
+		 * Sorts the points.
+		 */
+		private void initializeHull() {
+			initializedHull = true;
+			sorted = lexicographicOrder(points);
+			current = 0;
+			phase = (sorted.length == 0) ? FINISHED : FIRST_CHAIN;
+			minimumSize = 2;
+		}
+
+		/**
+		 * Calculates the next change of the chain without applying it.
+		 *
+		 * @return Step, or null if the convex hull is finished.
+		 */
+		private HullStep computeStep() {
+			if (phase == FIRST_CHAIN && current == sorted.length) {
+				if (sorted.length < 2) {
+					phase = FINISHED;
+					return null;
+				}
+				phase = SECOND_CHAIN;
+				current = sorted.length - 2;
+				minimumSize = convexHull.size() + 1;
+			}
+			if (phase == SECOND_CHAIN && current < 0) {
+				phase = CLOSING;
+			}
+			int size = convexHull.size();
+			if (phase == CLOSING) {
+				phase = FINISHED;
+				return new HullStep(HullStep.Kind.REMOVAL, convexHull.get(size - 1),
+						-1);
+			}
+			if (phase == FINISHED) {
+				return null;
+			}
+			int point = sorted[current];
+			if (size >= minimumSize && Orientation.cross(points.getXs(),
+					points.getYs(), convexHull.get(size - 2), convexHull.get(size - 1),
+					point) >= 0) {
+				return new HullStep(HullStep.Kind.REMOVAL, convexHull.get(size - 1),
+						-1);
+			}
+			return new HullStep(point, -1);
+		}
+	}
+
+	/** Runs shorter than this are sorted by insertion. */
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	/**
+	 * Returns the indices of the distinct points sorted by x coordinate and then
+	 * by y coordinate. The points are sorted with a parallel sort of primitive
+	 * keys which contain the x coordinate rounded to float and the index of the
+	 * point. The rounding is monotonic, so only the runs of points with the same
+	 * key have to be sorted again with the exact coordinates.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Indices of the points.
+	 */
+	static int[] lexicographicOrder(PointStore points) {
+		final int SIZE = points.size();
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+		long[] keys = new long[SIZE];
+		for (int i = 0; i < SIZE; ++i) {
+			// Adding zero turns -0.0 into 0.0, both must have the same key
+			int bits = Float.floatToRawIntBits((float) (xs[i] + 0.0));
+			bits ^= (bits >> 31) & 0x7fffffff;
+			keys[i] = ((long) bits << 32) | i;
+		}
+		Arrays.parallelSort(keys);
+
+		int[] order = new int[SIZE];
+		for (int i = 0; i < SIZE; ++i) {
+			order[i] = (int) keys[i];
+		}
+		int[] buffer = null;
+		int runStart = 0;
+		for (int i = 1; i <= SIZE; ++i) {
+			if (i == SIZE || (keys[i] >> 32) != (keys[runStart] >> 32)) {
+				if (i - runStart > 1) {
+					if (buffer == null) {
+						buffer = new int[SIZE];
+					}
+					sort(xs, ys, order, buffer, runStart, i);
+				}
+				runStart = i;
+			}
+		}
+
+		return Arrays.copyOf(order, removeDuplicates(xs, ys, order, 0, SIZE));
+	}
+
+	/**
+	 * Removes the repeated points of a sorted range of indices, moving the
+	 * distinct ones to its beginning.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param order
+	 *          Indices of the points, sorted by their coordinates in the range.
+	 * @param from
+	 *          Start of the range, inclusive.
+	 * @param to
+	 *          End of the range, exclusive.
+	 * @return End of the distinct points, exclusive.
+	 */
+	static int removeDuplicates(double[] xs, double[] ys, int[] order,
+			int from, int to) {
+		int end = from;
+		for (int i = from; i < to; ++i) {
+			if (end == from || compare(xs, ys, order[end - 1], order[i]) != 0) {
+				order[end++] = order[i];
+			}
+		}
+		return end;
+	}
+
+	/**
+	 * Compares two points by x coordinate and then by y coordinate.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param a
+	 *          Index of the first point.
+	 * @param b
+	 *          Index of the second point.
+	 * @return Negative, zero or positive if the first point goes before, with or
+	 *         after the second point.
+	 */
+	static int compare(double[] xs, double[] ys, int a, int b) {
+		if (xs[a] != xs[b]) {
+			return (xs[a] < xs[b]) ? -1 : 1;
+		}
+		if (ys[a] != ys[b]) {
+			return (ys[a] < ys[b]) ? -1 : 1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Sorts a range of indices by the coordinates of the points with a merge
+	 * sort.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param order
+	 *          Indices of the points.
+	 * @param buffer
+	 *          Auxiliary array at least as long as the range.
+	 * @param from
+	 *          Start of the range, inclusive.
+	 * @param to
+	 *          End of the range, exclusive.
+	 */
+	static void sort(double[] xs, double[] ys, int[] order, int[] buffer,
+			int from, int to) {
+		if (to - from < INSERTION_SORT_THRESHOLD) {
+			for (int i = from + 1; i < to; ++i) {
+				int point = order[i];
+				int j = i;
+				while (j > from && compare(xs, ys, order[j - 1], point) > 0) {
+					order[j] = order[j - 1];
+					j--;
+				}
+				order[j] = point;
+			}
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		sort(xs, ys, order, buffer, from, middle);
+		sort(xs, ys, order, buffer, middle, to);
+		int left = from;
+		int right = middle;
+		for (int i = 0; i < to - from; ++i) {
+			if (right == to
+					|| (left < middle && compare(xs, ys, order[left], order[right]) <= 0)) {
+				buffer[i] = order[left++];
+			} else {
+				buffer[i] = order[right++];
+			}
+		}
+		System.arraycopy(buffer, 0, order, from, to - from);
+	}
+
+	/**
+	 * Builds the convex hull of a range of sorted distinct points.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param sorted
+	 *          Indices of the points, sorted by their coordinates.
+	 * @param from
+	 *          Start of the range, inclusive.
+	 * @param to
+	 *          End of the range, exclusive.
+	 * @param hull
+	 *          Array which receives the convex hull, with room for twice the
+	 *          size of the range from the given offset.
+	 * @param offset
+	 *          Position of the hull array where the convex hull starts.
+	 * @return Amount of points of the convex hull.
+	 */
+	static int chain(double[] xs, double[] ys, int[] sorted, int from, int to,
+			int[] hull, int offset) {
+		if (to - from < 2) {
+			System.arraycopy(sorted, from, hull, offset, to - from);
+			return to - from;
+		}
+		int size = offset;
+		for (int i = from; i < to; ++i) {
+			while (size >= offset + 2 && Orientation.cross(xs, ys, hull[size - 2],
+					hull[size - 1], sorted[i]) >= 0) {
+				size--;
+			}
+			hull[size++] = sorted[i];
+		}
+		final int MINIMUM_SIZE = size + 1;
+		for (int i = to - 2; i >= from; --i) {
+			while (size >= MINIMUM_SIZE && Orientation.cross(xs, ys, hull[size - 2],
+					hull[size - 1], sorted[i]) >= 0) {
+				size--;
+			}
+			hull[size++] = sorted[i];
+		}
+		// The first point is repeated at the end
+		return size - 1 - offset;
+	}
+
+	/**
+	 * Calculates the convex hull of the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] computeHull(PointStore points) {
+		int[] sorted = lexicographicOrder(points);
+		int[] hull = new int[2 * sorted.length];
+		int size = chain(points.getXs(), points.getYs(), sorted, 0, sorted.length,
+				hull, 0);
+		return Arrays.copyOf(hull, size);
+	}
+
+	/**
+	 * Creates a step by step execution of the algorithm over the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points) {
+		return new MonotoneChainStepper(points);
+	}
+}
@@ -0,0 +1,146 @@
+/**
+ * File containing the MonotoneChainEngineTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.VertexRing;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class MonotoneChainEngineTest {
+
+	/** Engine under test. */
+	ConvexHullEngine engine = new MonotoneChainEngine();
+
+	/**
+	 * Returns the given hull rotated so it starts with its lowest index.
+	 *
+	 * @param hull
+	 *          Indices of the hull.
+	 * @return Rotated hull.
+	 */
+	private static int[] normalized(int[] hull) {
+		int start = 0;
+		for (int i = 0; i < hull.length; ++i) {
+			if (hull[i] < hull[start]) {
+				start = i;
+			}
+		}
+		int[] rotated = new int[hull.length];
+		for (int i = 0; i < hull.length; ++i) {
+			rotated[i] = hull[(start + i) % hull.length];
+		}
+		return rotated;
+	}
+
+	/**
+	 * Test method for computeHull method of the MonotoneChainEngine class. The
+	 * hull must be the same as the quick hull one, including the orientation.
+	 */
+	@Test
+	public final void testComputeHullSameAsQuickHull() {
+		Random random = new Random(0);
+		ConvexHullEngine quickHull = new QuickHullEngine();
+		for (int test = 0; test < 20; ++test) {
+			PointStore points = new PointStore();
+			for (int i = 0; i < 1000; ++i) {
+				points.add(random.nextDouble(), random.nextDouble());
+			}
+			assertArrayEquals(normalized(quickHull.computeHull(points)),
+					normalized(this.engine.computeHull(points)));
+		}
+	}
+
+	/**
+	 * Test method for computeHull method of the MonotoneChainEngine class with
+	 * points which are almost collinear, whose orientations can only be decided
+	 * with exact arithmetic. All the engines must find the same hull.
+	 */
+	@Test
+	public final void testComputeHullNearlyCollinear() {
+		Random random = new Random(0);
+		ConvexHullEngine[] engines = { new QuickHullEngine(),
+				new ParallelQuickHullEngine(), new ChanEngine() };
+		for (int test = 0; test < 20; ++test) {
+			PointStore points = new PointStore();
+			for (int i = 0; i < 1000; ++i) {
+				double x = random.nextDouble();
+				points.add(x, 0.1 * x + 0.3);
+			}
+			int[] expected = normalized(this.engine.computeHull(points));
+			for (ConvexHullEngine other : engines) {
+				assertArrayEquals(expected, normalized(other.computeHull(points)));
+			}
+		}
+	}
+
+	/**
+	 * Test method for the step iterator of the MonotoneChainEngine class. The
+	 * steps include removals.
+	 */
+	@Test
+	public final void testStepper() {
+		Random random = new Random(1);
+		PointStore points = new PointStore();
+		for (int i = 0; i < 200; ++i) {
+			points.add(random.nextDouble(), random.nextDouble());
+		}
+		HullStepper stepper = this.engine.stepper(points);
+		VertexRing replayedHull = new VertexRing();
+		int removals = 0;
+		while (stepper.hasNext()) {
+			HullStep step = stepper.next();
+			if (step.isRemoval()) {
+				// The removed point is always the last one of the chain
+				int[] chain = replayedHull.snapshot();
+				assertEquals(step.getPointIndex(), chain[chain.length - 1]);
+				removals++;
+			} else {
+				assertEquals(-1, step.getNextPoint());
+			}
+			step.applyTo(replayedHull);
+			assertArrayEquals(stepper.getConvexHull(), replayedHull.toArray());
+		}
+		assertArrayEquals(this.engine.computeHull(points), replayedHull.toArray());
+		assertEquals(true, removals > 0);
+	}
+
+	/**
+	 * Test method for computeHull method with degenerate inputs: duplicated
+	 * points, vertical lines and both zeros.
+	 */
+	@Test
+	public final void testComputeHullDegenerate() {
+		assertEquals(0, this.engine.computeHull(new PointStore()).length);
+		PointStore points = new PointStore();
+		points.add(3, 3);
+		points.add(3, 3);
+		assertEquals(1, this.engine.computeHull(points).length);
+		assertEquals(1, this.engine.stepper(points).next().getPointIndex() + 1);
+
+		points = new PointStore();
+		for (int i = 0; i < 50; ++i) {
+			points.add(1, 49 - i);
+		}
+		assertArrayEquals(new int[] { 49, 0 }, this.engine.computeHull(points));
+
+		points = new PointStore();
+		points.add(0.0, 1);
+		points.add(-0.0, 0);
+		points.add(1, 0);
+		assertArrayEquals(new int[] { 1, 0, 2 }, this.engine.computeHull(points));
+	}
+
+}
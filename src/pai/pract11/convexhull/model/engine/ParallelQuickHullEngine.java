@@ -0,0 +1,305 @@
+/**
+ * File containing the ParallelQuickHullEngine entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which implements the quick hull algorithm using the fork/join
+ * framework. The two subproblems created by every step are independent, so the
+ * ones with more points than a threshold are solved in parallel. The step by
+ * step execution is the same as the one of QuickHullEngine. It was created for
+ * the eleventh practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class ParallelQuickHullEngine implements ConvexHullEngine {
+	/** Default minimum amount of points of a subproblem to be forked. */
+	public static final int	DEFAULT_THRESHOLD	= 1 << 14;
+	/** Hull fragment without points. */
+	private static final int[]	EMPTY_FRAGMENT		= new int[0];
+
+	/**
+	 * Task which calculates the fragment of the convex hull between the two
+	 * points of a line, that is, the vertices found on the left side of the
+	 * line in order from its first point to its second point. It was created
+	 * for the eleventh practice of PAI (Programación de Aplicaciones
+	 * Interactivas) course of ULL (Universidad de la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	class FragmentTask extends RecursiveTask<int[]> {
+		/** Default serial version ID. */
+		private static final long	serialVersionUID	= 1L;
+		/** X coordinates of the points. */
+		private final double[]		xs;
+		/** Y coordinates of the points. */
+		private final double[]		ys;
+		/** Indices of the points, shared by all the tasks. */
+		private final int[]				order;
+		/** Index of the first point of the line. */
+		private final int					lineStart;
+		/** Index of the second point of the line. */
+		private final int					lineEnd;
+		/** Start of the range of the order array, inclusive. */
+		private final int					from;
+		/** End of the range of the order array, exclusive. */
+		private final int					to;
+		/** Index of the farthest point of the range from the line. */
+		private final int					farthest;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param xs
+		 *          X coordinates of the points.
+		 * @param ys
+		 *          Y coordinates of the points.
+		 * @param order
+		 *          Indices of the points, shared by all the tasks.
+		 * @param lineStart
+		 *          Index of the first point of the line.
+		 * @param lineEnd
+		 *          Index of the second point of the line.
+		 * @param from
+		 *          Start of the range of the order array, inclusive.
+		 * @param to
+		 *          End of the range of the order array, exclusive.
+		 * @param farthest
+		 *          Index of the farthest point of the range from the line, or -1
+		 *          if the range is empty.
+		 */
+		FragmentTask(double[] xs, double[] ys, int[] order, int lineStart,
+				int lineEnd, int from, int to, int farthest) {
+			this.xs = xs;
+			this.ys = ys;
+			this.order = order;
+			this.lineStart = lineStart;
+			this.lineEnd = lineEnd;
+			this.from = from;
+			this.to = to;
+			this.farthest = farthest;
+		}
+
+		/**
+		 * Calculates the fragment. Every task only modifies its own range of the
+		 * order array.
+		 *
+		 * @return Indices of the vertices of the fragment, in order.
+		 */
+		@Override
+		protected int[] compute() {
+			if (to - from < threshold) {
+				return sequentialFragment(xs, ys, order, lineStart, lineEnd, from, to,
+						farthest);
+			}
+			int[] ends = QuickHullKernel.classify(xs, ys, order, lineStart,
+					farthest, farthest, lineEnd, from, to);
+			FragmentTask firstTask = new FragmentTask(xs, ys, order, lineStart,
+					farthest, from, ends[QuickHullKernel.FIRST_END],
+					ends[QuickHullKernel.FIRST_FARTHEST]);
+			FragmentTask secondTask = new FragmentTask(xs, ys, order, farthest,
+					lineEnd, ends[QuickHullKernel.FIRST_END],
+					ends[QuickHullKernel.SECOND_END],
+					ends[QuickHullKernel.SECOND_FARTHEST]);
+			firstTask.fork();
+			int[] secondFragment = secondTask.compute();
+			int[] firstFragment = firstTask.join();
+			return stitch(firstFragment, farthest, secondFragment);
+		}
+	}
+
+	/** Minimum amount of points of a subproblem to be forked. */
+	private final int						threshold;
+	/** Pool where the tasks are executed. */
+	private final ForkJoinPool	pool;
+
+	/**
+	 * Default constructor. It uses the common pool.
+	 */
+	public ParallelQuickHullEngine() {
+		this(DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs an engine with the given threshold and pool.
+	 *
+	 * @param threshold
+	 *          Minimum amount of points of a subproblem to be forked.
+	 * @param pool
+	 *          Pool where the tasks are executed.
+	 */
+	public ParallelQuickHullEngine(int threshold, ForkJoinPool pool) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("The threshold must be positive!");
+		}
+		this.threshold = threshold;
+		this.pool = pool;
+	}
+
+	/**
+	 * Joins two fragments of the convex hull and the point between them.
+	 *
+	 * @param firstFragment
+	 *          First fragment.
+	 * @param point
+	 *          Index of the point between the fragments.
+	 * @param secondFragment
+	 *          Second fragment.
+	 * @return Joined fragment.
+	 */
+	static int[] stitch(int[] firstFragment, int point, int[] secondFragment) {
+		int[] fragment = Arrays.copyOf(firstFragment,
+				firstFragment.length + 1 + secondFragment.length);
+		fragment[firstFragment.length] = point;
+		System.arraycopy(secondFragment, 0, fragment, firstFragment.length + 1,
+				secondFragment.length);
+		return fragment;
+	}
+
+	/**
+	 * Calculates a fragment of the convex hull in the current thread. It uses a
+	 * stack of subproblems instead of recursion. A frame with an empty range
+	 * means that its line start is the next vertex of the fragment.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param order
+	 *          Indices of the points.
+	 * @param lineStart
+	 *          Index of the first point of the line.
+	 * @param lineEnd
+	 *          Index of the second point of the line.
+	 * @param from
+	 *          Start of the range of the order array, inclusive.
+	 * @param to
+	 *          End of the range of the order array, exclusive.
+	 * @param farthest
+	 *          Index of the farthest point of the range from the line, or -1 if
+	 *          the range is empty.
+	 * @return Indices of the vertices of the fragment, in order.
+	 */
+	static int[] sequentialFragment(double[] xs, double[] ys, int[] order,
+			int lineStart, int lineEnd, int from, int to, int farthest) {
+		if (from == to) {
+			return EMPTY_FRAGMENT;
+		}
+		int[] fragment = new int[16];
+		int fragmentSize = 0;
+		SubproblemStack callStack = new SubproblemStack();
+		callStack.push(lineStart, lineEnd, from, to, farthest);
+
+		while (!callStack.isEmpty()) {
+			callStack.pop();
+			int first = callStack.getLineStart();
+			int second = callStack.getLineEnd();
+			int start = callStack.getFrom();
+			int end = callStack.getTo();
+			if (start == end) {
+				if (fragmentSize == fragment.length) {
+					fragment = Arrays.copyOf(fragment, fragmentSize * 2);
+				}
+				fragment[fragmentSize++] = first;
+				continue;
+			}
+			int farthestPoint = callStack.getFarthest();
+			int[] ends = QuickHullKernel.classify(xs, ys, order, first,
+					farthestPoint, farthestPoint, second, start, end);
+			int firstEnd = ends[QuickHullKernel.FIRST_END];
+			int secondEnd = ends[QuickHullKernel.SECOND_END];
+			// Pushed in reverse order: second subproblem, vertex, first subproblem
+			if (firstEnd < secondEnd) {
+				callStack.push(farthestPoint, second, firstEnd, secondEnd,
+						ends[QuickHullKernel.SECOND_FARTHEST]);
+			}
+			callStack.push(farthestPoint, second, firstEnd, firstEnd, -1);
+			if (start < firstEnd) {
+				callStack.push(first, farthestPoint, start, firstEnd,
+						ends[QuickHullKernel.FIRST_FARTHEST]);
+			}
+		}
+		return Arrays.copyOf(fragment, fragmentSize);
+	}
+
+	/**
+	 * Calculates the convex hull of the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] computeHull(PointStore points) {
+		if (points.isEmpty()) {
+			return EMPTY_FRAGMENT;
+		}
+		int[] extremes = QuickHullKernel.extremePoints(points);
+		int firstPoint = extremes[0];
+		int lastPoint = extremes[1];
+		if (firstPoint == lastPoint) {
+			return new int[] { firstPoint };
+		}
+
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+		int[] order = QuickHullKernel.identity(points.size());
+		int[] ends = QuickHullKernel.classify(xs, ys, order, firstPoint,
+				lastPoint, lastPoint, firstPoint, 0, order.length);
+		FragmentTask belowTask = new FragmentTask(xs, ys, order, firstPoint,
+				lastPoint, 0, ends[QuickHullKernel.FIRST_END],
+				ends[QuickHullKernel.FIRST_FARTHEST]);
+		FragmentTask aboveTask = new FragmentTask(xs, ys, order, lastPoint,
+				firstPoint, ends[QuickHullKernel.FIRST_END],
+				ends[QuickHullKernel.SECOND_END],
+				ends[QuickHullKernel.SECOND_FARTHEST]);
+		pool.execute(aboveTask);
+		int[] belowFragment = pool.invoke(belowTask);
+		int[] aboveFragment = aboveTask.join();
+
+		int[] hull = stitch(EMPTY_FRAGMENT, firstPoint, belowFragment);
+		return stitch(hull, lastPoint, aboveFragment);
+	}
+
+	/**
+	 * Creates a step by step execution of the algorithm over the given points.
+	 * The steps of an animation are sequential by nature, so it is the same as
+	 * the one of QuickHullEngine.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points) {
+		return new QuickHullEngine().stepper(points);
+	}
+
+	/**
+	 * Creates a step by step execution of the algorithm over the given points
+	 * which records the measurements of every step, the same as the one of
+	 * QuickHullEngine.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param metrics
+	 *          Metrics which receive the steps.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points, HullMetrics metrics) {
+		return new QuickHullEngine().stepper(points, metrics);
+	}
+}
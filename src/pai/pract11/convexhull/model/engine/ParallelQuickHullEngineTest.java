@@ -0,0 +1,69 @@
+/**
+ * File containing the ParallelQuickHullEngineTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class ParallelQuickHullEngineTest {
+
+	/**
+	 * Returns the given hull rotated so it starts with its lowest index.
+	 *
+	 * @param hull
+	 *          Indices of the hull.
+	 * @return Rotated hull.
+	 */
+	private static int[] normalized(int[] hull) {
+		int start = 0;
+		for (int i = 0; i < hull.length; ++i) {
+			if (hull[i] < hull[start]) {
+				start = i;
+			}
+		}
+		int[] rotated = new int[hull.length];
+		for (int i = 0; i < hull.length; ++i) {
+			rotated[i] = hull[(start + i) % hull.length];
+		}
+		return rotated;
+	}
+
+	/**
+	 * Test method for computeHull method of the ParallelQuickHullEngine class.
+	 * A tiny threshold forces the forks.
+	 */
+	@Test
+	public final void testComputeHullSameAsSequential() {
+		Random random = new Random(0);
+		ConvexHullEngine parallel = new ParallelQuickHullEngine(2,
+				ForkJoinPool.commonPool());
+		ConvexHullEngine sequential = new QuickHullEngine();
+		for (int test = 0; test < 20; ++test) {
+			PointStore points = new PointStore();
+			for (int i = 0; i < 1000; ++i) {
+				points.add(random.nextInt(500), random.nextInt(500));
+			}
+			int[] expected = sequential.computeHull(points);
+			int[] hull = parallel.computeHull(points);
+			assertArrayEquals(normalized(expected), normalized(hull));
+		}
+		assertArrayEquals(new int[0], parallel.computeHull(new PointStore()));
+		PointStore single = new PointStore();
+		single.add(1, 1);
+		assertArrayEquals(new int[] { 0 }, parallel.computeHull(single));
+	}
+
+}
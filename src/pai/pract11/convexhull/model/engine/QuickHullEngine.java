@@ -0,0 +1,333 @@
+/**
+ * File containing the QuickHullEngine entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.VertexRing;
+
+/**
+ * Class which implements the quick hull algorithm. The points are never
+ * copied: every subproblem is a range of a single array of point indices,
+ * which is partitioned in place. It was created for the eleventh practice of
+ * PAI (Programación de Aplicaciones Interactivas) course of ULL (Universidad de
+ * la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class QuickHullEngine implements ConvexHullEngine {
+
+	/**
+	 * Step by step execution of the quick hull algorithm. It was created for
+	 * the eleventh practice of PAI (Programación de Aplicaciones Interactivas)
+	 * course of ULL (Universidad de la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	static class QuickHullStepper implements HullStepper {
+		/** Points whose convex hull is calculated. */
+		private PointStore						points;
+		/**
+		 * Indices of the points which conforms the convex hull. The subproblems
+		 * insert their farthest point before the second point of their line.
+		 */
+		private VertexRing						convexHull;
+		/** Establishes if the hull is initialized. */
+		private boolean								initializedHull;
+		/**
+		 * Indices of all the points. The subproblems are ranges of this array
+		 * which contain the points on the left side of their line.
+		 */
+		private int[]									order;
+		/** Simulates a stack of calls to the addPointToHull method. */
+		private SubproblemStack				callStack;
+		/** Steps already calculated but not returned yet. */
+		private ArrayDeque<HullStep>	pendingSteps;
+		/** Metrics which receive the steps, null if they are not measured. */
+		private HullMetrics						metrics;
+		/** Points read since the previous step. */
+		private long									pointsScanned;
+		/** Orientation tests since the previous step. */
+		private long									orientationTests;
+		/** Points on the left of the last point inserted in its subproblem. */
+		private int										leftPartitionSize;
+		/** Points on the right of the last point inserted in its subproblem. */
+		private int										rightPartitionSize;
+		/** Time spent since the previous step, in nanoseconds. */
+		private long									stepNanoseconds;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param points
+		 *          Points whose convex hull is calculated.
+		 */
+		public QuickHullStepper(PointStore points) {
+			this.points = points;
+			this.convexHull = new VertexRing();
+			this.callStack = new SubproblemStack();
+			this.pendingSteps = new ArrayDeque<>();
+		}
+
+		/**
+		 * Constructs a stepper which records the measurements of every step.
+		 *
+		 * @param points
+		 *          Points whose convex hull is calculated.
+		 * @param metrics
+		 *          Metrics which receive the steps.
+		 */
+		public QuickHullStepper(PointStore points, HullMetrics metrics) {
+			this(points);
+			this.metrics = metrics;
+		}
+
+		/**
+		 * Checks if there are more points to insert in the convex hull.
+		 *
+		 * @return Result.
+		 */
+		@Override
+		public boolean hasNext() {
+			long start = (metrics == null) ? 0 : System.nanoTime();
+			if (!initializedHull) {
+				initializeHull();
+			}
+			while (pendingSteps.isEmpty() && !callStack.isEmpty()) {
+				addPointToHull();
+			}
+			if (metrics != null) {
+				stepNanoseconds += System.nanoTime() - start;
+			}
+			return !pendingSteps.isEmpty();
+		}
+
+		/**
+		 * Executes the algorithm until a new point is inserted in the convex hull.
+		 *
+		 * @return Step which describes the insertion.
+		 */
+		@Override
+		public HullStep next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("The convex hull is finished!");
+			}
+			long start = (metrics == null) ? 0 : System.nanoTime();
+			HullStep step = pendingSteps.removeFirst();
+			step.applyTo(convexHull);
+			if (metrics != null) {
+				stepNanoseconds += System.nanoTime() - start;
+				recordStep();
+			}
+			return step;
+		}
+
+		/**
+		 * Sends the counters of the step which has just been returned to the
+		 * metrics and starts counting the next one.
+		 */
+		private void recordStep() {
+			metrics.record(new HullStepMetrics(pointsScanned, orientationTests,
+					leftPartitionSize, rightPartitionSize, callStack.depth(),
+					stepNanoseconds));
+			pointsScanned = 0;
+			orientationTests = 0;
+			leftPartitionSize = 0;
+			rightPartitionSize = 0;
+			stepNanoseconds = 0;
+		}
+
+		/**
+		 * Counts the work of the classification of a range, which reads every
+		 * point once and tests every point against the first line and the points
+		 * which are not on its left side against the second one.
+		 *
+		 * @param from
+		 *          Start of the range, inclusive.
+		 * @param to
+		 *          End of the range, exclusive.
+		 * @param ends
+		 *          Result of the classification.
+		 */
+		private void countPartition(int from, int to, int[] ends) {
+			leftPartitionSize = ends[QuickHullKernel.FIRST_END] - from;
+			rightPartitionSize = ends[QuickHullKernel.SECOND_END]
+					- ends[QuickHullKernel.FIRST_END];
+			pointsScanned += to - from;
+			orientationTests += 2L * (to - from) - leftPartitionSize;
+		}
+
+		/**
+		 * Returns the convex hull built until the current step.
+		 *
+		 * @return Indices of the points which conforms the convex hull, in order.
+		 */
+		@Override
+		public int[] getConvexHull() {
+			return convexHull.toArray();
+		}
+
+		/**
+		 * Records the insertion of a point in the convex hull. The point is added
+		 * to the convex hull when the step is returned by next().
+		 *
+		 * @param point
+		 *          Index of the point to insert.
+		 * @param nextPoint
+		 *          Index of the vertex which follows the point, or -1 to add it at
+		 *          the end of the convex hull.
+		 */
+		private void insert(int point, int nextPoint) {
+			pendingSteps.addLast(new HullStep(point, nextPoint));
+		}
+
+		/**
+		 * Pushes a subproblem in the call stack if its range is not empty.
+		 *
+		 * @param lineStart
+		 *          Index of the first point of the line.
+		 * @param lineEnd
+		 *          Index of the second point of the line.
+		 * @param from
+		 *          Start of the range of the order array, inclusive.
+		 * @param to
+		 *          End of the range of the order array, exclusive.
+		 * @param farthest
+		 *          Index of the farthest point of the range from the line.
+		 */
+		private void push(int lineStart, int lineEnd, int from, int to,
+				int farthest) {
+			if (from < to) {
+				callStack.push(lineStart, lineEnd, from, to, farthest);
+			}
+		}
+
+		/**
+		 * This method prepares the data structures needed by the quick hull
+		 * algorithm.
+		 */
+		private void initializeHull() {
+			initializedHull = true;
+			if (points.isEmpty()) {
+				return;
+			}
+			int[] extremes = QuickHullKernel.extremePoints(points);
+			pointsScanned += points.size();
+			int firstPoint = extremes[0];
+			int lastPoint = extremes[1];
+
+			insert(firstPoint, -1);
+			if (firstPoint == lastPoint) {
+				return;
+			}
+			insert(lastPoint, -1);
+
+			order = QuickHullKernel.identity(points.size());
+			// Points on the left side of the line go below it in the GUI
+			int[] ends = QuickHullKernel.classify(points.getXs(), points.getYs(),
+					order, firstPoint, lastPoint, lastPoint, firstPoint, 0,
+					order.length);
+			countPartition(0, order.length, ends);
+			pushParts(firstPoint, lastPoint, firstPoint, 0, ends);
+		}
+
+		/**
+		 * This method simulates an iteration of the quick hull algorithm. The
+		 * farthest point of the subproblem was found when it was created, so its
+		 * points are classified in a single pass which also finds the farthest
+		 * points of the two new subproblems.
+		 */
+		private void addPointToHull() {
+			callStack.pop();
+			int firstPoint = callStack.getLineStart();
+			int secondPoint = callStack.getLineEnd();
+			int from = callStack.getFrom();
+			int to = callStack.getTo();
+			int farthestPoint = callStack.getFarthest();
+
+			insert(farthestPoint, secondPoint);
+
+			int[] ends = QuickHullKernel.classify(points.getXs(), points.getYs(),
+					order, firstPoint, farthestPoint, farthestPoint, secondPoint, from,
+					to);
+			countPartition(from, to, ends);
+			pushParts(firstPoint, farthestPoint, secondPoint, from, ends);
+		}
+
+		/**
+		 * Pushes the subproblems of the two parts of a classified range, the
+		 * points on the left side of the line ab and the ones on the left side of
+		 * the line bc.
+		 *
+		 * @param a
+		 *          Index of the first point of the first line.
+		 * @param b
+		 *          Index of the point shared by both lines.
+		 * @param c
+		 *          Index of the second point of the second line.
+		 * @param from
+		 *          Start of the classified range, inclusive.
+		 * @param ends
+		 *          Result of the classification.
+		 */
+		private void pushParts(int a, int b, int c, int from, int[] ends) {
+			push(a, b, from, ends[QuickHullKernel.FIRST_END],
+					ends[QuickHullKernel.FIRST_FARTHEST]);
+			push(b, c, ends[QuickHullKernel.FIRST_END],
+					ends[QuickHullKernel.SECOND_END],
+					ends[QuickHullKernel.SECOND_FARTHEST]);
+		}
+	}
+
+	/**
+	 * Calculates the convex hull of the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] computeHull(PointStore points) {
+		HullStepper stepper = stepper(points);
+		while (stepper.hasNext()) {
+			stepper.next();
+		}
+		return stepper.getConvexHull();
+	}
+
+	/**
+	 * Creates a step by step execution of the algorithm over the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points) {
+		return new QuickHullStepper(points);
+	}
+
+	/**
+	 * Creates a step by step execution of the algorithm over the given points
+	 * which counts the points scanned, the orientation tests, the sizes of the
+	 * partitions and the depth of the call stack of every step.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param metrics
+	 *          Metrics which receive the steps.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points, HullMetrics metrics) {
+		return new QuickHullStepper(points, metrics);
+	}
+}
@@ -0,0 +1,200 @@
+/**
+ * File containing the QuickHullEngineTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.VertexRing;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+import pai.pract11.convexhull.model.generator.PointGenerator;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class QuickHullEngineTest {
+
+	/** Engine under test. */
+	ConvexHullEngine	engine;
+	/** Testing points. Square with some points inside */
+	PointStore				squarePoints;
+
+	/**
+	 * Initializes the points used for testing.
+	 */
+	@Before
+	public final void setUp() {
+		this.engine = new QuickHullEngine();
+		this.squarePoints = new PointStore();
+		this.squarePoints.add(50, 50);
+		this.squarePoints.add(0, 0);
+		this.squarePoints.add(20, 70);
+		this.squarePoints.add(100, 0);
+		this.squarePoints.add(80, 30);
+		this.squarePoints.add(100, 100);
+		this.squarePoints.add(0, 100);
+		this.squarePoints.add(10, 40);
+	}
+
+	/**
+	 * Returns the given hull sorted, so hulls can be compared regardless of
+	 * their starting vertex.
+	 *
+	 * @param hull
+	 *          Indices of the hull.
+	 * @return Sorted indices.
+	 */
+	private static int[] sorted(int[] hull) {
+		int[] copy = hull.clone();
+		Arrays.sort(copy);
+		return copy;
+	}
+
+	/**
+	 * Test method for computeHull method of the QuickHullEngine class.
+	 */
+	@Test
+	public final void testComputeHull() {
+		int[] hull = this.engine.computeHull(this.squarePoints);
+		assertArrayEquals(new int[] { 1, 3, 5, 6 }, sorted(hull));
+	}
+
+	/**
+	 * Test method for the step iterator of the QuickHullEngine class.
+	 */
+	@Test
+	public final void testStepper() {
+		HullStepper stepper = this.engine.stepper(this.squarePoints);
+		VertexRing replayedHull = new VertexRing();
+		while (stepper.hasNext()) {
+			HullStep step = stepper.next();
+			step.applyTo(replayedHull);
+			assertArrayEquals(stepper.getConvexHull(), replayedHull.toArray());
+		}
+		assertArrayEquals(sorted(this.engine.computeHull(this.squarePoints)),
+				sorted(replayedHull.toArray()));
+	}
+
+	/**
+	 * Test method for the step iterator of the QuickHullEngine class. The
+	 * farthest points found by the classification of every subproblem must
+	 * produce the same convex hull as another algorithm, and one step per
+	 * vertex.
+	 */
+	@Test
+	public final void testStepperSameAsMonotoneChain() {
+		for (PointDistribution distribution : PointDistribution.values()) {
+			PointStore points = new PointGenerator(distribution, 0, 0, 1000, 1000)
+					.generate(5000, 13);
+			HullStepper stepper = this.engine.stepper(points);
+			int steps = 0;
+			while (stepper.hasNext()) {
+				stepper.next();
+				steps++;
+			}
+			int[] expected = new MonotoneChainEngine().computeHull(points);
+			assertEquals(distribution.toString(), expected.length, steps);
+			assertArrayEquals(distribution.toString(), sorted(expected),
+					sorted(stepper.getConvexHull()));
+		}
+	}
+
+	/**
+	 * Test method for the measured step iterator of the QuickHullEngine class.
+	 * Every step must be measured, and the work of all of them must be the
+	 * work of the algorithm.
+	 */
+	@Test
+	public final void testStepperMetrics() {
+		List<HullStepMetrics> steps = new ArrayList<>();
+		HullMetricsSummary summary = new HullMetricsSummary();
+		HullStepper stepper = this.engine.stepper(this.squarePoints,
+				summary.andThen(steps::add));
+		while (stepper.hasNext()) {
+			stepper.next();
+		}
+		final int SIZE = this.squarePoints.size();
+		assertEquals(4, summary.getSteps());
+		assertEquals(0, summary.getLastStep().getStackDepth());
+		// The extremes and the first partition read all the points
+		assertEquals(2 * SIZE, steps.get(0).getPointsScanned());
+		// The extremes and the points on their line are discarded
+		assertEquals(SIZE - 3, steps.get(0).getLeftPartitionSize()
+				+ steps.get(0).getRightPartitionSize());
+		// Every point is tested against the first line and the ones which are
+		// not on its left side against the second one
+		assertEquals(2L * SIZE - steps.get(0).getLeftPartitionSize(),
+				steps.get(0).getOrientationTests());
+		assertTrue(summary.getOrientationTests() >= summary.getPointsScanned()
+				- SIZE);
+		assertTrue(summary.getPointsScanned() <= 2 * SIZE * summary.getSteps());
+	}
+
+	/**
+	 * Test method for the Flight Recorder events of the QuickHullEngine class.
+	 * A recording must contain one event per step with its counters.
+	 *
+	 * @throws Exception
+	 *           If the recording cannot be written or read.
+	 */
+	@Test
+	public final void testStepperEvents() throws Exception {
+		Path file = Files.createTempFile("hull", ".jfr");
+		HullMetricsSummary summary = new HullMetricsSummary();
+		try (Recording recording = new Recording()) {
+			recording.enable(HullStepEvent.NAME);
+			recording.start();
+			HullStepper stepper = this.engine.stepper(this.squarePoints,
+					HullMetrics.FLIGHT_RECORDER.andThen(summary));
+			while (stepper.hasNext()) {
+				stepper.next();
+			}
+			recording.stop();
+			recording.dump(file);
+			int events = 0;
+			long pointsScanned = 0;
+			for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+				if (event.getEventType().getName().equals(HullStepEvent.NAME)) {
+					pointsScanned += event.getLong("pointsScanned");
+					events++;
+				}
+			}
+			assertEquals(summary.getSteps(), events);
+			assertEquals(summary.getPointsScanned(), pointsScanned);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/**
+	 * Test method for computeHull method with less than two distinct points.
+	 */
+	@Test
+	public final void testComputeHullDegenerate() {
+		assertEquals(0, this.engine.computeHull(new PointStore()).length);
+		PointStore points = new PointStore();
+		points.add(3, 3);
+		points.add(3, 3);
+		assertEquals(1, this.engine.computeHull(points).length);
+	}
+
+}
@@ -0,0 +1,201 @@
+/**
+ * File containing the QuickHullKernel entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import pai.pract11.convexhull.model.Orientation;
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which contains the operations shared by the quick hull engines. The
+ * subproblems are ranges of an array of point indices which contain the points
+ * on the left side of a directed line, and they know their farthest point
+ * since the pass which created them. It was created for the eleventh
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+final class QuickHullKernel {
+	/** Position of the end of the first part in the result of classify. */
+	static final int	FIRST_END					= 0;
+	/** Position of the end of the second part in the result of classify. */
+	static final int	SECOND_END				= 1;
+	/** Position of the farthest point of the first part in the result. */
+	static final int	FIRST_FARTHEST		= 2;
+	/** Position of the farthest point of the second part in the result. */
+	static final int	SECOND_FARTHEST	= 3;
+
+	/**
+	 * Private constructor, this class only contains static methods.
+	 */
+	private QuickHullKernel() {
+	}
+
+	/**
+	 * Returns the points with the lowest and the highest x coordinate. Ties are
+	 * broken by the y coordinate, so both points are vertices of the convex
+	 * hull. If all the points are equal both indices are the same.
+	 *
+	 * @param points
+	 *          Points, at least one.
+	 * @return Index of the first point and index of the last point.
+	 */
+	static int[] extremePoints(PointStore points) {
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+		int firstPoint = 0;
+		int lastPoint = 0;
+		for (int i = 0; i < points.size(); ++i) {
+			if (xs[i] < xs[firstPoint]
+					|| (xs[i] == xs[firstPoint] && ys[i] < ys[firstPoint])) {
+				firstPoint = i;
+			}
+			if (xs[i] > xs[lastPoint]
+					|| (xs[i] == xs[lastPoint] && ys[i] > ys[lastPoint])) {
+				lastPoint = i;
+			}
+		}
+		return new int[] { firstPoint, lastPoint };
+	}
+
+	/**
+	 * Returns an array with the indices from 0 to size - 1.
+	 *
+	 * @param size
+	 *          Size of the array.
+	 * @return Array.
+	 */
+	static int[] identity(int size) {
+		int[] order = new int[size];
+		for (int i = 0; i < size; ++i) {
+			order[i] = i;
+		}
+		return order;
+	}
+
+	/**
+	 * Partitions a range in three parts in a single pass: points on the left
+	 * side of the line ab, points on the left side of the line cd and discarded
+	 * points. When b and c are the farthest point of a subproblem, the
+	 * discarded points are the ones inside the triangle. At the same time it
+	 * finds the point of each of the first two parts which is farthest from its
+	 * line, so the subproblems of the parts do not have to scan them again.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param order
+	 *          Indices of the points.
+	 * @param a
+	 *          Index of the first point of the first line.
+	 * @param b
+	 *          Index of the second point of the first line.
+	 * @param c
+	 *          Index of the first point of the second line.
+	 * @param d
+	 *          Index of the second point of the second line.
+	 * @param from
+	 *          Start of the range, inclusive.
+	 * @param to
+	 *          End of the range, exclusive.
+	 * @return End of the first part, end of the second part and farthest point
+	 *         of each part, or -1 if the part is empty.
+	 */
+	static int[] classify(double[] xs, double[] ys, int[] order, int a, int b,
+			int c, int d, int from, int to) {
+		int firstEnd = from;
+		int current = from;
+		int secondEnd = to;
+		int firstFarthest = -1;
+		double firstCross = 0;
+		double firstError = 0;
+		int secondFarthest = -1;
+		double secondCross = 0;
+		double secondError = 0;
+		while (current < secondEnd) {
+			int point = order[current];
+			double cross = Orientation.cross(xs, ys, a, b, point);
+			if (cross > 0) {
+				double error = Orientation.crossErrorBound(xs, ys, a, b, point);
+				if (isFarther(xs, ys, a, b, point, cross, error, firstFarthest,
+						firstCross, firstError)) {
+					firstFarthest = point;
+					firstCross = cross;
+					firstError = error;
+				}
+				order[current++] = order[firstEnd];
+				order[firstEnd++] = point;
+				continue;
+			}
+			cross = Orientation.cross(xs, ys, c, d, point);
+			if (cross > 0) {
+				double error = Orientation.crossErrorBound(xs, ys, c, d, point);
+				if (isFarther(xs, ys, c, d, point, cross, error, secondFarthest,
+						secondCross, secondError)) {
+					secondFarthest = point;
+					secondCross = cross;
+					secondError = error;
+				}
+				current++;
+			} else {
+				order[current] = order[--secondEnd];
+				order[secondEnd] = point;
+			}
+		}
+		return new int[] { firstEnd, secondEnd, firstFarthest, secondFarthest };
+	}
+
+	/**
+	 * Checks if a point on the left side of the directed line ab is farther
+	 * from it than the farthest point found until now. The cross product is
+	 * proportional to the distance to the line, so it is used instead of it.
+	 * When two cross products are closer than their rounding errors they are
+	 * compared exactly, so the farthest point is always a vertex of the convex
+	 * hull. Ties are broken towards a, otherwise a point in the middle of a side
+	 * of the hull could be chosen.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param a
+	 *          Index of the first point of the line.
+	 * @param b
+	 *          Index of the second point of the line.
+	 * @param point
+	 *          Index of the point to check.
+	 * @param cross
+	 *          Cross product of the point, positive.
+	 * @param error
+	 *          Error bound of the cross product of the point.
+	 * @param farthest
+	 *          Index of the farthest point, or -1 if there is none yet.
+	 * @param farthestCross
+	 *          Cross product of the farthest point.
+	 * @param farthestError
+	 *          Error bound of the cross product of the farthest point.
+	 * @return Result.
+	 */
+	private static boolean isFarther(double[] xs, double[] ys, int a, int b,
+			int point, double cross, double error, int farthest,
+			double farthestCross, double farthestError) {
+		if (farthest == -1 || cross - error > farthestCross + farthestError) {
+			return true;
+		}
+		if (cross + error < farthestCross - farthestError) {
+			return false;
+		}
+		double difference = Orientation.crossDifference(xs, ys, a, b, point,
+				farthest);
+		if (difference != 0) {
+			return difference > 0;
+		}
+		return (xs[b] - xs[a]) * (xs[point] - xs[farthest])
+				+ (ys[b] - ys[a]) * (ys[point] - ys[farthest]) < 0;
+	}
+}
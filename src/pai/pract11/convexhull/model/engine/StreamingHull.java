@@ -0,0 +1,403 @@
+/**
+ * File containing the StreamingHull entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Arrays;
+
+import pai.pract11.convexhull.model.Orientation;
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which keeps the convex hull of the last points of a stream, either the
+ * last given amount of them or the ones received during the last period of
+ * time. The points are stored in a ring of blocks of fixed size, so the memory
+ * does not depend on the length of the stream. The convex hull of every block
+ * is calculated once and cached, and the convex hull of the window is the
+ * convex hull of the vertices of the blocks. Only the oldest block, whose
+ * first points may have expired, and the newest one, which is still receiving
+ * points, have to be calculated again. It was created for the eleventh
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class StreamingHull {
+
+	/**
+	 * Block of consecutive points of the stream with its cached convex hull. It
+	 * was created for the eleventh practice of PAI (Programación de
+	 * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	private static class Block {
+		/** Points of the block, including the expired ones. */
+		private final PointStore	points;
+		/** Time stamps of the points. */
+		private final long[]			timestamps;
+		/** Position of the first point which has not expired. */
+		private int								start;
+		/** Convex hull of the points from hullStart, null if not calculated. */
+		private int[]							hull;
+		/** Position of the first point of the cached convex hull. */
+		private int								hullStart;
+		/** Amount of points of the block when the convex hull was cached. */
+		private int								hullSize;
+		/** Establishes which points are vertices of the window hull. */
+		private final boolean[]		windowVertices;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param capacity
+		 *          Maximum amount of points of the block.
+		 */
+		Block(int capacity) {
+			this.points = new PointStore(capacity);
+			this.timestamps = new long[capacity];
+			this.windowVertices = new boolean[capacity];
+		}
+
+		/**
+		 * Returns the amount of points of the block which have not expired.
+		 *
+		 * @return Amount of points.
+		 */
+		int liveSize() {
+			return points.size() - start;
+		}
+
+		/**
+		 * Deletes all the points of the block, so it can be reused.
+		 */
+		void clear() {
+			points.clear();
+			start = 0;
+			hull = null;
+		}
+	}
+
+	/** Default amount of points of every block. */
+	public static final int					DEFAULT_BLOCK_SIZE	= 1024;
+	/** Window length which never expires the points. */
+	private static final long				UNBOUNDED						= Long.MAX_VALUE;
+
+	/** Engine which calculates the convex hulls. */
+	private final ConvexHullEngine	engine;
+	/** Maximum amount of points of the window. */
+	private final int								capacity;
+	/** Length of the window, in the units of the time stamps. */
+	private final long							window;
+	/** Ring of blocks. */
+	private final Block[]						blocks;
+	/** Position of the oldest block in the ring. */
+	private int											first;
+	/** Amount of blocks in use. */
+	private int											blockCount;
+	/** Amount of points of the window. */
+	private int											size;
+	/** Time stamp of the newest point. */
+	private long										lastTimestamp;
+	/** Vertices of the blocks, the candidates of the convex hull. */
+	private final PointStore				candidates;
+	/** Convex hull of the window, null if it must be calculated again. */
+	private PointStore							hull;
+	/** Block of every vertex of the convex hull of the window. */
+	private Block[]									hullBlocks;
+	/** Position in its block of every vertex of the convex hull of the window. */
+	private int[]										hullPositions;
+
+	/**
+	 * Constructs a hull of the last points of the stream.
+	 *
+	 * @param capacity
+	 *          Amount of points of the window.
+	 */
+	public StreamingHull(int capacity) {
+		this(new MonotoneChainEngine(), capacity, UNBOUNDED, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Constructs a hull of the points received during the last period of time.
+	 *
+	 * @param capacity
+	 *          Maximum amount of points of the window, the oldest ones are
+	 *          discarded if more points are received during the period.
+	 * @param window
+	 *          Length of the period, in the units of the time stamps.
+	 */
+	public StreamingHull(int capacity, long window) {
+		this(new MonotoneChainEngine(), capacity, window, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Constructs a hull of the last points of the stream with the given engine
+	 * and block size.
+	 *
+	 * @param engine
+	 *          Engine which calculates the convex hulls.
+	 * @param capacity
+	 *          Maximum amount of points of the window.
+	 * @param window
+	 *          Length of the period, in the units of the time stamps.
+	 * @param blockSize
+	 *          Amount of points of every block.
+	 */
+	public StreamingHull(ConvexHullEngine engine, int capacity, long window,
+			int blockSize) {
+		if (capacity < 1 || blockSize < 1) {
+			throw new IllegalArgumentException(
+					"The capacity and the block size must be positive!");
+		}
+		if (window < 0) {
+			throw new IllegalArgumentException("The window must not be negative!");
+		}
+		this.engine = engine;
+		this.capacity = capacity;
+		this.window = window;
+		final int BLOCK_SIZE = Math.min(blockSize, capacity);
+		// One more block than needed, the oldest one may be partially expired
+		this.blocks = new Block[(capacity + BLOCK_SIZE - 1) / BLOCK_SIZE + 1];
+		for (int i = 0; i < blocks.length; ++i) {
+			blocks[i] = new Block(BLOCK_SIZE);
+		}
+		this.candidates = new PointStore();
+		this.hull = new PointStore(0);
+		this.hullBlocks = new Block[0];
+		this.hullPositions = new int[0];
+		this.lastTimestamp = Long.MIN_VALUE;
+	}
+
+	/**
+	 * Getter method for size attribute.
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Adds a point to the window, discarding the oldest one if it is full. Its
+	 * time stamp is the one of the previous point.
+	 *
+	 * @param x
+	 *          X coordinate of the point.
+	 * @param y
+	 *          Y coordinate of the point.
+	 */
+	public void add(double x, double y) {
+		add(x, y, (lastTimestamp == Long.MIN_VALUE) ? 0 : lastTimestamp);
+	}
+
+	/**
+	 * Adds a point to the window, discarding the points which are older than
+	 * the length of the window and the oldest one if it is full.
+	 *
+	 * @param x
+	 *          X coordinate of the point.
+	 * @param y
+	 *          Y coordinate of the point.
+	 * @param timestamp
+	 *          Time stamp of the point, not lower than the previous one.
+	 */
+	public void add(double x, double y, long timestamp) {
+		advanceTo(timestamp);
+		if (size == capacity) {
+			evictOldest();
+		}
+		Block newest = (blockCount == 0) ? null
+				: blocks[(first + blockCount - 1) % blocks.length];
+		if (newest == null
+				|| newest.points.size() == newest.timestamps.length) {
+			newest = blocks[(first + blockCount) % blocks.length];
+			newest.clear();
+			blockCount++;
+		}
+		newest.timestamps[newest.points.add(x, y)] = timestamp;
+		size++;
+		if (hull != null && !isStrictlyInside(hull, x, y)) {
+			invalidateHull();
+		}
+	}
+
+	/**
+	 * Discards the points which are older than the length of the window at the
+	 * given time.
+	 *
+	 * @param timestamp
+	 *          Current time, not lower than the time stamp of the last point.
+	 */
+	public void advanceTo(long timestamp) {
+		if (timestamp < lastTimestamp) {
+			throw new IllegalArgumentException("The time stamps must not decrease!");
+		}
+		lastTimestamp = timestamp;
+		if (window == UNBOUNDED) {
+			return;
+		}
+		while (size > 0) {
+			Block oldest = blocks[first];
+			if (timestamp - oldest.timestamps[oldest.start] <= window) {
+				break;
+			}
+			evictOldest();
+		}
+	}
+
+	/**
+	 * Returns the convex hull of the window.
+	 *
+	 * @return Vertices of the convex hull, in order, with the same orientation
+	 *         as the ones of the engines.
+	 */
+	public PointStore getConvexHull() {
+		if (hull == null) {
+			candidates.clear();
+			Block[] candidateBlocks = new Block[blockCount + 1];
+			int[] candidatePositions = new int[blockCount + 1];
+			for (int i = 0; i < blockCount; ++i) {
+				Block block = blocks[(first + i) % blocks.length];
+				for (int vertex : blockHull(block)) {
+					final int CANDIDATE = candidates.add(block.points.getX(vertex),
+							block.points.getY(vertex));
+					if (CANDIDATE == candidatePositions.length) {
+						candidateBlocks = Arrays.copyOf(candidateBlocks, CANDIDATE * 2);
+						candidatePositions = Arrays.copyOf(candidatePositions,
+								CANDIDATE * 2);
+					}
+					candidateBlocks[CANDIDATE] = block;
+					candidatePositions[CANDIDATE] = vertex;
+				}
+			}
+			int[] vertices = engine.computeHull(candidates);
+			hull = new PointStore(vertices.length);
+			hullBlocks = new Block[vertices.length];
+			hullPositions = new int[vertices.length];
+			for (int i = 0; i < vertices.length; ++i) {
+				hull.add(candidates.getX(vertices[i]), candidates.getY(vertices[i]));
+				hullBlocks[i] = candidateBlocks[vertices[i]];
+				hullPositions[i] = candidatePositions[vertices[i]];
+				hullBlocks[i].windowVertices[hullPositions[i]] = true;
+			}
+		}
+		PointStore copy = new PointStore(hull.size());
+		for (int i = 0; i < hull.size(); ++i) {
+			copy.add(hull.getX(i), hull.getY(i));
+		}
+		return copy;
+	}
+
+	/**
+	 * Discards the oldest point of the window.
+	 */
+	private void evictOldest() {
+		Block oldest = blocks[first];
+		// Only the vertices of the convex hull change it when they expire
+		if (hull != null && oldest.windowVertices[oldest.start]) {
+			invalidateHull();
+		}
+		oldest.start++;
+		size--;
+		if (oldest.liveSize() == 0) {
+			oldest.clear();
+			first = (first + 1) % blocks.length;
+			blockCount--;
+		}
+	}
+
+	/**
+	 * Returns the convex hull of the points of a block which have not expired,
+	 * calculating it only if the block has changed.
+	 *
+	 * @param block
+	 *          Block.
+	 * @return Positions of the vertices in the block.
+	 */
+	private int[] blockHull(Block block) {
+		final int SIZE = block.points.size();
+		if (block.hull != null && block.hullSize == SIZE
+				&& block.hullStart != block.start) {
+			// The cached hull is still valid if no vertex has expired
+			boolean valid = true;
+			for (int vertex : block.hull) {
+				valid &= vertex >= block.start;
+			}
+			if (valid) {
+				block.hullStart = block.start;
+			}
+		}
+		if (block.hull == null || block.hullSize != SIZE
+				|| block.hullStart != block.start) {
+			PointStore live = block.points;
+			if (block.start > 0) {
+				live = new PointStore(
+						Arrays.copyOfRange(block.points.getXs(), block.start, SIZE),
+						Arrays.copyOfRange(block.points.getYs(), block.start, SIZE));
+			}
+			block.hull = engine.computeHull(live);
+			for (int i = 0; i < block.hull.length; ++i) {
+				block.hull[i] += block.start;
+			}
+			block.hullStart = block.start;
+			block.hullSize = SIZE;
+		}
+		return block.hull;
+	}
+
+	/**
+	 * Discards the convex hull of the window and the flags of its vertices.
+	 */
+	private void invalidateHull() {
+		for (int i = 0; i < hullBlocks.length; ++i) {
+			hullBlocks[i].windowVertices[hullPositions[i]] = false;
+		}
+		hull = null;
+	}
+
+	/**
+	 * Checks if a point is strictly inside a convex hull, that is, inside it
+	 * and not on its border. The point is located in the fan of triangles of
+	 * the first vertex with a binary search, so it takes O(log h) time.
+	 *
+	 * @param convexHull
+	 *          Vertices of the convex hull, with its interior on the right side
+	 *          of its edges.
+	 * @param x
+	 *          X coordinate of the point.
+	 * @param y
+	 *          Y coordinate of the point.
+	 * @return Result.
+	 */
+	private static boolean isStrictlyInside(PointStore convexHull, double x,
+			double y) {
+		final int SIZE = convexHull.size();
+		if (SIZE < 3) {
+			return false;
+		}
+		double[] xs = convexHull.getXs();
+		double[] ys = convexHull.getYs();
+		if (Orientation.cross(xs[0], ys[0], xs[1], ys[1], x, y) >= 0
+				|| Orientation.cross(xs[0], ys[0], xs[SIZE - 1], ys[SIZE - 1], x,
+						y) <= 0) {
+			return false;
+		}
+		int low = 1;
+		int high = SIZE - 1;
+		while (high - low > 1) {
+			int middle = (low + high) >>> 1;
+			if (Orientation.cross(xs[0], ys[0], xs[middle], ys[middle], x, y) <= 0) {
+				low = middle;
+			} else {
+				high = middle;
+			}
+		}
+		return Orientation.cross(xs[low], ys[low], xs[high], ys[high], x, y) < 0;
+	}
+}
@@ -0,0 +1,155 @@
+/**
+ * File containing the StreamingHullTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class StreamingHullTest {
+
+	/**
+	 * Test method for add method of the StreamingHull class with a window of
+	 * the last points. The hull must be the same as the monotone chain one of
+	 * the last points after every insertion.
+	 */
+	@Test
+	public final void testCountWindow() {
+		Random random = new Random(0);
+		final int CAPACITY = 50;
+		StreamingHull hull = new StreamingHull(new MonotoneChainEngine(), CAPACITY,
+				Long.MAX_VALUE, 8);
+		PointStore stream = new PointStore();
+		for (int i = 0; i < 1000; ++i) {
+			double x = random.nextDouble();
+			double y = random.nextDouble();
+			stream.add(x, y);
+			hull.add(x, y);
+			int from = Math.max(0, stream.size() - CAPACITY);
+			assertEquals(stream.size() - from, hull.size());
+			assertHull(expectedHull(stream, from, stream.size()),
+					hull.getConvexHull());
+		}
+	}
+
+	/**
+	 * Test method for add and advanceTo methods of the StreamingHull class with
+	 * a window of the last period of time.
+	 */
+	@Test
+	public final void testTimeWindow() {
+		Random random = new Random(1);
+		final long WINDOW = 100;
+		StreamingHull hull = new StreamingHull(new MonotoneChainEngine(), 1000,
+				WINDOW, 16);
+		PointStore stream = new PointStore();
+		long[] timestamps = new long[2000];
+		long time = 0;
+		int from = 0;
+		for (int i = 0; i < timestamps.length; ++i) {
+			time += random.nextInt(5);
+			timestamps[i] = time;
+			double x = random.nextDouble();
+			double y = random.nextDouble();
+			stream.add(x, y);
+			hull.add(x, y, time);
+			while (time - timestamps[from] > WINDOW) {
+				from++;
+			}
+			assertEquals(stream.size() - from, hull.size());
+			assertHull(expectedHull(stream, from, stream.size()),
+					hull.getConvexHull());
+		}
+		hull.advanceTo(time + WINDOW + 1);
+		assertEquals(0, hull.size());
+		assertEquals(0, hull.getConvexHull().size());
+	}
+
+	/**
+	 * Test method for add method of the StreamingHull class with points on a
+	 * circle, so every point of the window is a vertex, and repeated points.
+	 * The hull is only requested every few insertions, so the cached one must
+	 * be discarded when a vertex expires.
+	 */
+	@Test
+	public final void testCircleWindow() {
+		Random random = new Random(2);
+		final int CAPACITY = 40;
+		StreamingHull hull = new StreamingHull(new MonotoneChainEngine(), CAPACITY,
+				Long.MAX_VALUE, 8);
+		PointStore stream = new PointStore();
+		for (int i = 0; i < 1000; ++i) {
+			final double ANGLE = 2 * Math.PI * random.nextInt(64) / 64;
+			double x = Math.cos(ANGLE);
+			double y = Math.sin(ANGLE);
+			stream.add(x, y);
+			hull.add(x, y);
+			if (i % 3 == 0) {
+				assertHull(expectedHull(stream, Math.max(0, stream.size() - CAPACITY),
+						stream.size()), hull.getConvexHull());
+			}
+		}
+	}
+
+	/**
+	 * Test method for advanceTo method of the StreamingHull class with a
+	 * decreasing time stamp.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testDecreasingTimestamp() {
+		StreamingHull hull = new StreamingHull(10, 5);
+		hull.add(0, 0, 10);
+		hull.advanceTo(9);
+	}
+
+	/**
+	 * Calculates the convex hull of a range of the stream from scratch.
+	 *
+	 * @param stream
+	 *          Points of the stream.
+	 * @param from
+	 *          Index of the first point, inclusive.
+	 * @param to
+	 *          Index of the last point, exclusive.
+	 * @return Vertices of the convex hull.
+	 */
+	private static PointStore expectedHull(PointStore stream, int from, int to) {
+		PointStore window = new PointStore(
+				Arrays.copyOfRange(stream.getXs(), from, to),
+				Arrays.copyOfRange(stream.getYs(), from, to));
+		PointStore hull = new PointStore();
+		for (int vertex : new MonotoneChainEngine().computeHull(window)) {
+			hull.add(window.getX(vertex), window.getY(vertex));
+		}
+		return hull;
+	}
+
+	/**
+	 * Checks that two convex hulls have the same vertices in the same order.
+	 *
+	 * @param expected
+	 *          Expected convex hull.
+	 * @param actual
+	 *          Actual convex hull.
+	 */
+	private static void assertHull(PointStore expected, PointStore actual) {
+		assertEquals(expected.size(), actual.size());
+		assertArrayEquals(Arrays.copyOf(expected.getXs(), expected.size()),
+				Arrays.copyOf(actual.getXs(), actual.size()), 0);
+		assertArrayEquals(Arrays.copyOf(expected.getYs(), expected.size()),
+				Arrays.copyOf(actual.getYs(), actual.size()), 0);
+	}
+}
@@ -0,0 +1,148 @@
+/**
+ * File containing the SubproblemStack entity definition.
+ */
+
+package pai.pract11.convexhull.model.engine;
+
+import java.util.Arrays;
+
+/**
+ * Class which simulates the stack of calls of the quick hull algorithm. Every
+ * call is stored as five consecutive ints: first and second point of the line,
+ * range of the array of point indices which contains the points on the left
+ * side of the line and the one of them which is farthest from the line. It was
+ * created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+class SubproblemStack {
+	/** Amount of ints used by a subproblem. */
+	static final int	FRAME_SIZE	= 5;
+	/** Offset of the first point of the line in a frame. */
+	static final int	LINE_START	= 0;
+	/** Offset of the second point of the line in a frame. */
+	static final int	LINE_END		= 1;
+	/** Offset of the start of the range (inclusive) in a frame. */
+	static final int	FROM				= 2;
+	/** Offset of the end of the range (exclusive) in a frame. */
+	static final int	TO					= 3;
+	/** Offset of the farthest point from the line in a frame. */
+	static final int	FARTHEST		= 4;
+
+	/** Frames of the stack. */
+	private int[]			frames;
+	/** Amount of ints used in the stack. */
+	private int				size;
+
+	/**
+	 * Default constructor.
+	 */
+	SubproblemStack() {
+		this.frames = new int[FRAME_SIZE * 16];
+		this.size = 0;
+	}
+
+	/**
+	 * Pushes a subproblem.
+	 *
+	 * @param lineStart
+	 *          Index of the first point of the line.
+	 * @param lineEnd
+	 *          Index of the second point of the line.
+	 * @param from
+	 *          Start of the range, inclusive.
+	 * @param to
+	 *          End of the range, exclusive.
+	 * @param farthest
+	 *          Index of the farthest point from the line, or -1 if the range is
+	 *          empty.
+	 */
+	void push(int lineStart, int lineEnd, int from, int to, int farthest) {
+		if (size + FRAME_SIZE > frames.length) {
+			frames = Arrays.copyOf(frames, frames.length * 2);
+		}
+		frames[size + LINE_START] = lineStart;
+		frames[size + LINE_END] = lineEnd;
+		frames[size + FROM] = from;
+		frames[size + TO] = to;
+		frames[size + FARTHEST] = farthest;
+		size += FRAME_SIZE;
+	}
+
+	/**
+	 * Removes the top subproblem. Its values can be read with the get methods
+	 * until the next push.
+	 */
+	void pop() {
+		if (size == 0) {
+			throw new IllegalStateException("The stack is empty!");
+		}
+		size -= FRAME_SIZE;
+	}
+
+	/**
+	 * Returns the first point of the line of the last popped subproblem.
+	 *
+	 * @return Index of the point.
+	 */
+	int getLineStart() {
+		return frames[size + LINE_START];
+	}
+
+	/**
+	 * Returns the second point of the line of the last popped subproblem.
+	 *
+	 * @return Index of the point.
+	 */
+	int getLineEnd() {
+		return frames[size + LINE_END];
+	}
+
+	/**
+	 * Returns the start of the range of the last popped subproblem.
+	 *
+	 * @return Start of the range, inclusive.
+	 */
+	int getFrom() {
+		return frames[size + FROM];
+	}
+
+	/**
+	 * Returns the end of the range of the last popped subproblem.
+	 *
+	 * @return End of the range, exclusive.
+	 */
+	int getTo() {
+		return frames[size + TO];
+	}
+
+	/**
+	 * Returns the farthest point from the line of the last popped subproblem.
+	 *
+	 * @return Index of the point, or -1 if the range is empty.
+	 */
+	int getFarthest() {
+		return frames[size + FARTHEST];
+	}
+
+	/**
+	 * Checks if the stack has no subproblems.
+	 *
+	 * @return Result.
+	 */
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the amount of subproblems of the stack.
+	 *
+	 * @return Amount of subproblems.
+	 */
+	int depth() {
+		return size / FRAME_SIZE;
+	}
+}
@@ -0,0 +1,229 @@
+/**
+ * File containing the PointDistribution entity definition.
+ */
+
+package pai.pract11.convexhull.model.generator;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Enumeration of the distributions of the points which can be generated. All
+ * of them fill the rectangle of a PointGenerator. It was created for the
+ * eleventh practice of PAI (Programación de Aplicaciones Interactivas) course
+ * of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public enum PointDistribution {
+	/** Uniform points in the rectangle. */
+	UNIFORM("Uniform") {
+		@Override
+		void fill(PointGenerator generator, double[] clusterCenters, double[] xs,
+				double[] ys, int from, int to, SplittableRandom random) {
+			for (int i = from; i < to; ++i) {
+				xs[i] = generator.getX() + random.nextDouble() * generator.getWidth();
+				ys[i] = generator.getY() + random.nextDouble() * generator.getHeight();
+			}
+		}
+	},
+	/** Uniform points in the ellipse inscribed in the rectangle. */
+	DISK("Disk") {
+		@Override
+		void fill(PointGenerator generator, double[] clusterCenters, double[] xs,
+				double[] ys, int from, int to, SplittableRandom random) {
+			for (int i = from; i < to; ++i) {
+				// The square root makes the density uniform over the area
+				double radius = Math.sqrt(random.nextDouble());
+				double angle = random.nextDouble() * 2 * Math.PI;
+				xs[i] = generator.getCenterX()
+						+ radius * Math.cos(angle) * generator.getWidth() / 2;
+				ys[i] = generator.getCenterY()
+						+ radius * Math.sin(angle) * generator.getHeight() / 2;
+			}
+		}
+	},
+	/**
+	 * Normally distributed points around the center of the rectangle, with a
+	 * standard deviation of a sixth of its size. The few points which fall out of
+	 * the rectangle are generated again.
+	 */
+	GAUSSIAN("Gaussian") {
+		@Override
+		void fill(PointGenerator generator, double[] clusterCenters, double[] xs,
+				double[] ys, int from, int to, SplittableRandom random) {
+			for (int i = from; i < to; ++i) {
+				double x;
+				double y;
+				do {
+					// Box-Muller transform, SplittableRandom has no nextGaussian
+					double radius = Math.sqrt(-2 * Math.log(1 - random.nextDouble()));
+					double angle = random.nextDouble() * 2 * Math.PI;
+					x = radius * Math.cos(angle) / SIGMAS;
+					y = radius * Math.sin(angle) / SIGMAS;
+				} while (Math.abs(x) >= 1 || Math.abs(y) >= 1);
+				xs[i] = generator.getCenterX() + x * generator.getWidth() / 2;
+				ys[i] = generator.getCenterY() + y * generator.getHeight() / 2;
+			}
+		}
+	},
+	/**
+	 * Points spread uniformly in small disks around a few centers of the
+	 * rectangle. The centers depend only on the seed.
+	 */
+	CLUSTERED("Clustered") {
+		@Override
+		void fill(PointGenerator generator, double[] clusterCenters, double[] xs,
+				double[] ys, int from, int to, SplittableRandom random) {
+			double radiusX = generator.getWidth() * CLUSTER_RADIUS;
+			double radiusY = generator.getHeight() * CLUSTER_RADIUS;
+			for (int i = from; i < to; ++i) {
+				int cluster = random.nextInt(clusterCenters.length / 2);
+				double radius = Math.sqrt(random.nextDouble());
+				double angle = random.nextDouble() * 2 * Math.PI;
+				xs[i] = clusterCenters[2 * cluster]
+						+ radius * Math.cos(angle) * radiusX;
+				ys[i] = clusterCenters[2 * cluster + 1]
+						+ radius * Math.sin(angle) * radiusY;
+			}
+		}
+	},
+	/**
+	 * Points on the ellipse inscribed in the rectangle, all of them are vertices
+	 * of the convex hull.
+	 */
+	CIRCLE("On circle") {
+		@Override
+		void fill(PointGenerator generator, double[] clusterCenters, double[] xs,
+				double[] ys, int from, int to, SplittableRandom random) {
+			for (int i = from; i < to; ++i) {
+				double angle = random.nextDouble() * 2 * Math.PI;
+				xs[i] = generator.getCenterX()
+						+ Math.cos(angle) * generator.getWidth() / 2;
+				ys[i] = generator.getCenterY()
+						+ Math.sin(angle) * generator.getHeight() / 2;
+			}
+		}
+	},
+	/**
+	 * Points on the diagonal of the biggest square of the rectangle. The offsets
+	 * from the corner are integers, so the points are exactly on the line when
+	 * the corner has integer coordinates.
+	 */
+	COLLINEAR("Collinear") {
+		@Override
+		void fill(PointGenerator generator, double[] clusterCenters, double[] xs,
+				double[] ys, int from, int to, SplittableRandom random) {
+			int side = (int) Math.max(1,
+					Math.min(generator.getWidth(), generator.getHeight()));
+			for (int i = from; i < to; ++i) {
+				int offset = random.nextInt(side);
+				xs[i] = generator.getX() + offset;
+				ys[i] = generator.getY() + offset;
+			}
+		}
+	},
+	/**
+	 * Points on a grid of a few locations of the rectangle, so most of them are
+	 * repeated, including the vertices of the convex hull.
+	 */
+	DUPLICATES("Duplicates") {
+		@Override
+		void fill(PointGenerator generator, double[] clusterCenters, double[] xs,
+				double[] ys, int from, int to, SplittableRandom random) {
+			for (int i = from; i < to; ++i) {
+				xs[i] = generator.getX() + random.nextInt(DISTINCT_LOCATIONS)
+						* generator.getWidth() / (DISTINCT_LOCATIONS - 1);
+				ys[i] = generator.getY() + random.nextInt(DISTINCT_LOCATIONS)
+						* generator.getHeight() / (DISTINCT_LOCATIONS - 1);
+			}
+		}
+	};
+
+	/** Standard deviations between the center and the sides of the rectangle. */
+	private static final double	SIGMAS							= 3;
+	/** Radius of the clusters relative to the size of the rectangle. */
+	private static final double	CLUSTER_RADIUS			= 0.05;
+	/** Amount of different coordinates of the DUPLICATES distribution. */
+	private static final int		DISTINCT_LOCATIONS	= 32;
+
+	/** Name shown to the user. */
+	private final String				label;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param label
+	 *          Name shown to the user.
+	 */
+	PointDistribution(String label) {
+		this.label = label;
+	}
+
+	/**
+	 * Writes points of the distribution in a range of the coordinate arrays.
+	 *
+	 * @param generator
+	 *          Generator which defines the rectangle of the points.
+	 * @param clusterCenters
+	 *          Centers of the clusters of the CLUSTERED distribution, x and y
+	 *          interleaved.
+	 * @param xs
+	 *          X coordinates to fill.
+	 * @param ys
+	 *          Y coordinates to fill.
+	 * @param from
+	 *          Start of the range, inclusive.
+	 * @param to
+	 *          End of the range, exclusive.
+	 * @param random
+	 *          Random generator of the range.
+	 */
+	abstract void fill(PointGenerator generator, double[] clusterCenters,
+			double[] xs, double[] ys, int from, int to, SplittableRandom random);
+
+	/**
+	 * Returns the distribution with the given name or label. The name is not
+	 * case sensitive and words may be separated by spaces, hyphens or
+	 * underscores, for example "on-circle".
+	 *
+	 * @param name
+	 *          Name of the distribution.
+	 * @return Distribution.
+	 * @throws IllegalArgumentException
+	 *           If there is no distribution with the given name.
+	 */
+	public static PointDistribution fromName(String name) {
+		String normalized = normalize(name);
+		for (PointDistribution distribution : values()) {
+			if (distribution.name().equals(normalized)
+					|| normalize(distribution.label).equals(normalized)) {
+				return distribution;
+			}
+		}
+		throw new IllegalArgumentException("Unknown distribution " + name);
+	}
+
+	/**
+	 * Converts a name to the format of the constants of the enumeration.
+	 *
+	 * @param name
+	 *          Name.
+	 * @return Normalized name.
+	 */
+	private static String normalize(String name) {
+		return name.trim().toUpperCase(Locale.ROOT).replaceAll("[\\s-]+", "_");
+	}
+
+	/**
+	 * Returns the name shown to the user.
+	 *
+	 * @return Name.
+	 */
+	@Override
+	public String toString() {
+		return label;
+	}
+}
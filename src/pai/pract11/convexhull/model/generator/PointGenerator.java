@@ -0,0 +1,217 @@
+/**
+ * File containing the PointGenerator entity definition.
+ */
+
+package pai.pract11.convexhull.model.generator;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which generates random points of a distribution inside a rectangle.
+ * The points are written directly in the coordinate arrays of a PointStore by
+ * chunks, every one with its own random generator split from the one of the
+ * seed, so the chunks can be filled in parallel and the same seed always
+ * produces the same points, whatever the amount of threads. It was created
+ * for the eleventh practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class PointGenerator {
+	/** Default amount of points of a chunk. */
+	public static final int						DEFAULT_CHUNK_SIZE	= 1 << 16;
+	/** Amount of clusters of the CLUSTERED distribution. */
+	private static final int					CLUSTERS						= 8;
+	/** Distance between the centers of the clusters and the sides. */
+	private static final double				CLUSTER_MARGIN			= 0.1;
+	/** Distribution of the points. */
+	private final PointDistribution	distribution;
+	/** X coordinate of the corner of the rectangle. */
+	private final double							x;
+	/** Y coordinate of the corner of the rectangle. */
+	private final double							y;
+	/** Width of the rectangle. */
+	private final double							width;
+	/** Height of the rectangle. */
+	private final double							height;
+	/** Establishes if the chunks are filled in parallel. */
+	private final boolean							parallel;
+	/** Amount of points of a chunk. */
+	private final int									chunkSize;
+
+	/**
+	 * Default constructor. The chunks are filled in parallel.
+	 *
+	 * @param distribution
+	 *          Distribution of the points.
+	 * @param x
+	 *          X coordinate of the corner of the rectangle.
+	 * @param y
+	 *          Y coordinate of the corner of the rectangle.
+	 * @param width
+	 *          Width of the rectangle.
+	 * @param height
+	 *          Height of the rectangle.
+	 */
+	public PointGenerator(PointDistribution distribution, double x, double y,
+			double width, double height) {
+		this(distribution, x, y, width, height, true, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Constructs a generator with the given chunks.
+	 *
+	 * @param distribution
+	 *          Distribution of the points.
+	 * @param x
+	 *          X coordinate of the corner of the rectangle.
+	 * @param y
+	 *          Y coordinate of the corner of the rectangle.
+	 * @param width
+	 *          Width of the rectangle.
+	 * @param height
+	 *          Height of the rectangle.
+	 * @param parallel
+	 *          Establishes if the chunks are filled in parallel.
+	 * @param chunkSize
+	 *          Amount of points of a chunk.
+	 */
+	public PointGenerator(PointDistribution distribution, double x, double y,
+			double width, double height, boolean parallel, int chunkSize) {
+		if (width < 0 || height < 0) {
+			throw new IllegalArgumentException("The size must be positive!");
+		}
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("The chunk size must be positive!");
+		}
+		this.distribution = distribution;
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+		this.parallel = parallel;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Generates the given amount of points.
+	 *
+	 * @param amount
+	 *          Amount of points.
+	 * @param seed
+	 *          Seed of the random generator.
+	 * @return Points.
+	 */
+	public PointStore generate(int amount, long seed) {
+		PointStore points = new PointStore(amount);
+		generate(points, amount, seed);
+		return points;
+	}
+
+	/**
+	 * Adds the given amount of points at the end of a store. The store must not
+	 * be used by other threads meanwhile.
+	 *
+	 * @param points
+	 *          Store which receives the points.
+	 * @param amount
+	 *          Amount of points.
+	 * @param seed
+	 *          Seed of the random generator.
+	 */
+	public void generate(PointStore points, int amount, long seed) {
+		int first = points.extend(amount);
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+		SplittableRandom random = new SplittableRandom(seed);
+		double[] clusterCenters = new double[2 * CLUSTERS];
+		for (int i = 0; i < CLUSTERS; ++i) {
+			// The clusters do not cross the sides of the rectangle
+			clusterCenters[2 * i] = x + width * (CLUSTER_MARGIN
+					+ random.nextDouble() * (1 - 2 * CLUSTER_MARGIN));
+			clusterCenters[2 * i + 1] = y + height * (CLUSTER_MARGIN
+					+ random.nextDouble() * (1 - 2 * CLUSTER_MARGIN));
+		}
+		// The generators are split in order, before the chunks are scheduled
+		final int CHUNKS = (int) ((amount + (long) chunkSize - 1) / chunkSize);
+		SplittableRandom[] randoms = new SplittableRandom[CHUNKS];
+		for (int i = 0; i < CHUNKS; ++i) {
+			randoms[i] = random.split();
+		}
+		IntStream chunks = IntStream.range(0, CHUNKS);
+		(parallel ? chunks.parallel() : chunks).forEach(chunk -> {
+			int from = first + chunk * chunkSize;
+			int to = first + (int) Math.min((long) (chunk + 1) * chunkSize, amount);
+			distribution.fill(this, clusterCenters, xs, ys, from, to,
+					randoms[chunk]);
+		});
+	}
+
+	/**
+	 * Getter method for distribution attribute.
+	 *
+	 * @return distribution
+	 */
+	public PointDistribution getDistribution() {
+		return distribution;
+	}
+
+	/**
+	 * Getter method for x attribute.
+	 *
+	 * @return x
+	 */
+	public double getX() {
+		return x;
+	}
+
+	/**
+	 * Getter method for y attribute.
+	 *
+	 * @return y
+	 */
+	public double getY() {
+		return y;
+	}
+
+	/**
+	 * Getter method for width attribute.
+	 *
+	 * @return width
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Getter method for height attribute.
+	 *
+	 * @return height
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * Returns the x coordinate of the center of the rectangle.
+	 *
+	 * @return X coordinate.
+	 */
+	double getCenterX() {
+		return x + width / 2;
+	}
+
+	/**
+	 * Returns the y coordinate of the center of the rectangle.
+	 *
+	 * @return Y coordinate.
+	 */
+	double getCenterY() {
+		return y + height / 2;
+	}
+}
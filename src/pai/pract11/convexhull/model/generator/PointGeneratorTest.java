@@ -0,0 +1,110 @@
+/**
+ * File containing the PointGeneratorTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.generator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.QuickHullEngine;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class PointGeneratorTest {
+
+	/**
+	 * Test method for generate method of the PointGenerator class. The points
+	 * only depend on the seed, not on the chunks being filled in parallel.
+	 */
+	@Test
+	public final void testGenerateIsDeterministic() {
+		for (PointDistribution distribution : PointDistribution.values()) {
+			PointStore sequential = new PointGenerator(distribution, 0, 0, 100, 50,
+					false, 100).generate(1000, 42);
+			PointStore parallel = new PointGenerator(distribution, 0, 0, 100, 50,
+					true, 100).generate(1000, 42);
+			assertEquals(1000, parallel.size());
+			assertArrayEquals(Arrays.copyOf(sequential.getXs(), 1000),
+					Arrays.copyOf(parallel.getXs(), 1000), 0.0);
+			assertArrayEquals(Arrays.copyOf(sequential.getYs(), 1000),
+					Arrays.copyOf(parallel.getYs(), 1000), 0.0);
+		}
+	}
+
+	/**
+	 * Test method for generate method of the PointGenerator class. All the
+	 * points are inside the rectangle.
+	 */
+	@Test
+	public final void testGenerateInsideRectangle() {
+		for (PointDistribution distribution : PointDistribution.values()) {
+			PointStore points = new PointGenerator(distribution, 10, 20, 100, 50)
+					.generate(10000, 7);
+			for (int i = 0; i < points.size(); ++i) {
+				assertTrue(distribution + " " + points.getPoint(i),
+						points.getX(i) >= 10 && points.getX(i) <= 110);
+				assertTrue(distribution + " " + points.getPoint(i),
+						points.getY(i) >= 20 && points.getY(i) <= 70);
+			}
+		}
+	}
+
+	/**
+	 * Test method for generate method of the PointGenerator class. The points
+	 * are added after the ones of the store.
+	 */
+	@Test
+	public final void testGenerateAppends() {
+		PointStore points = new PointStore();
+		points.add(-1, -1);
+		new PointGenerator(PointDistribution.UNIFORM, 0, 0, 1, 1, true, 7)
+				.generate(points, 100, 3);
+		assertEquals(101, points.size());
+		assertEquals(-1.0, points.getX(0), 0.0);
+		assertTrue(points.getX(100) >= 0);
+	}
+
+	/**
+	 * Test method for the COLLINEAR distribution. The convex hull is the
+	 * segment between the extreme points.
+	 */
+	@Test
+	public final void testCollinear() {
+		PointStore points = new PointGenerator(PointDistribution.COLLINEAR, 0, 0,
+				700, 500).generate(10000, 11);
+		assertEquals(2, new QuickHullEngine().computeHull(points).length);
+	}
+
+	/**
+	 * Test method for the DUPLICATES distribution. With enough points every
+	 * corner of the grid is taken, so the convex hull is the rectangle.
+	 */
+	@Test
+	public final void testDuplicates() {
+		PointStore points = new PointGenerator(PointDistribution.DUPLICATES, 0, 0,
+				700, 500).generate(100000, 11);
+		assertEquals(4, new QuickHullEngine().computeHull(points).length);
+	}
+
+	/**
+	 * Test method for fromName method of the PointDistribution enumeration.
+	 */
+	@Test
+	public final void testFromName() {
+		assertEquals(PointDistribution.CIRCLE,
+				PointDistribution.fromName("on-circle"));
+		assertEquals(PointDistribution.CIRCLE, PointDistribution.fromName("circle"));
+		assertEquals(PointDistribution.GAUSSIAN,
+				PointDistribution.fromName(" Gaussian "));
+	}
+}
@@ -0,0 +1,200 @@
+/**
+ * File containing the CsvPointReader entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which reads points from a text file with one point per line, its x
+ * and y coordinates separated by a comma, a semicolon or blanks. The first
+ * line may be a header and blank lines are ignored. The file is split in
+ * chunks at line boundaries which are mapped and parsed in parallel. It was
+ * created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class CsvPointReader {
+	/** Default amount of bytes of every chunk. */
+	public static final int				DEFAULT_CHUNK_BYTES	= 1 << 24;
+	/** Separator of the coordinates. */
+	private static final Pattern	SEPARATOR						= Pattern
+			.compile("[,;\\s]+");
+
+	/** Establishes if the chunks are parsed in parallel. */
+	private final boolean					parallel;
+	/** Amount of bytes of every chunk. */
+	private final int							chunkBytes;
+
+	/**
+	 * Default constructor. The chunks are parsed in parallel.
+	 */
+	public CsvPointReader() {
+		this(true, DEFAULT_CHUNK_BYTES);
+	}
+
+	/**
+	 * Constructs a reader.
+	 *
+	 * @param parallel
+	 *          Establishes if the chunks are parsed in parallel.
+	 * @param chunkBytes
+	 *          Amount of bytes of every chunk.
+	 */
+	public CsvPointReader(boolean parallel, int chunkBytes) {
+		if (chunkBytes < 1) {
+			throw new IllegalArgumentException("Invalid chunk size " + chunkBytes);
+		}
+		this.parallel = parallel;
+		this.chunkBytes = chunkBytes;
+	}
+
+	/**
+	 * Reads the points of a file.
+	 *
+	 * @param path
+	 *          Path of the file.
+	 * @return Points, in the same order as in the file.
+	 * @throws IOException
+	 *           If the file can not be read or a line is not valid.
+	 */
+	public PointStore read(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.READ)) {
+			long[] boundaries = lineBoundaries(channel);
+			IntStream chunks = IntStream.range(0, boundaries.length - 1);
+			double[][] coordinates;
+			try {
+				coordinates = (parallel ? chunks.parallel() : chunks)
+						.mapToObj(chunk -> parse(channel, boundaries[chunk],
+								boundaries[chunk + 1]))
+						.toArray(double[][]::new);
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+
+			int total = 0;
+			for (double[] chunk : coordinates) {
+				total += chunk.length / 2;
+			}
+			PointStore points = new PointStore(total);
+			for (double[] chunk : coordinates) {
+				for (int i = 0; i < chunk.length; i += 2) {
+					points.add(chunk[i], chunk[i + 1]);
+				}
+			}
+			return points;
+		}
+	}
+
+	/**
+	 * Splits the file in chunks which start at the beginning of a line.
+	 *
+	 * @param channel
+	 *          Channel of the file.
+	 * @return Start of every chunk, followed by the size of the file.
+	 * @throws IOException
+	 *           If the file can not be read.
+	 */
+	private long[] lineBoundaries(FileChannel channel) throws IOException {
+		final long SIZE = channel.size();
+		long[] boundaries = new long[(int) (SIZE / chunkBytes) + 2];
+		int count = 0;
+		boundaries[count++] = 0;
+		ByteBuffer buffer = ByteBuffer.allocate(4096);
+		long position = chunkBytes;
+		while (position < SIZE) {
+			// The chunk ends after the first line break from the nominal end
+			long lineEnd = -1;
+			long scanned = position;
+			while (lineEnd == -1 && scanned < SIZE) {
+				buffer.clear();
+				int read = channel.read(buffer, scanned);
+				for (int i = 0; i < read && lineEnd == -1; ++i) {
+					if (buffer.get(i) == '\n') {
+						lineEnd = scanned + i + 1;
+					}
+				}
+				scanned += read;
+			}
+			if (lineEnd == -1 || lineEnd >= SIZE) {
+				break;
+			}
+			boundaries[count++] = lineEnd;
+			position = Math.max(lineEnd, position + chunkBytes);
+		}
+		boundaries[count++] = SIZE;
+		return Arrays.copyOf(boundaries, count);
+	}
+
+	/**
+	 * Parses the lines of a chunk.
+	 *
+	 * @param channel
+	 *          Channel of the file.
+	 * @param start
+	 *          Start of the chunk, at the beginning of a line.
+	 * @param end
+	 *          End of the chunk, at the beginning of a line or at the end of the
+	 *          file.
+	 * @return Coordinates of the points, interleaved.
+	 */
+	private static double[] parse(FileChannel channel, long start, long end) {
+		MappedByteBuffer buffer;
+		try {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		double[] coordinates = new double[64];
+		int size = 0;
+		StringBuilder line = new StringBuilder();
+		long lineStart = start;
+		for (int i = 0; i <= buffer.limit(); ++i) {
+			byte character = (i < buffer.limit()) ? buffer.get(i) : (byte) '\n';
+			if (character != '\n') {
+				line.append((char) character);
+				continue;
+			}
+			String text = line.toString().trim();
+			if (!text.isEmpty()) {
+				String[] fields = SEPARATOR.split(text);
+				if (size + 2 > coordinates.length) {
+					coordinates = Arrays.copyOf(coordinates, coordinates.length * 2);
+				}
+				try {
+					if (fields.length < 2) {
+						throw new NumberFormatException("Missing coordinate");
+					}
+					coordinates[size] = Double.parseDouble(fields[0]);
+					coordinates[size + 1] = Double.parseDouble(fields[1]);
+					size += 2;
+				} catch (NumberFormatException e) {
+					// Only the first line of the file can be a header
+					if (lineStart != 0) {
+						throw new UncheckedIOException(new IOException(
+								"Invalid point at byte " + lineStart + ": " + text));
+					}
+				}
+			}
+			line.setLength(0);
+			lineStart = start + i + 1;
+		}
+		return Arrays.copyOf(coordinates, size);
+	}
+}
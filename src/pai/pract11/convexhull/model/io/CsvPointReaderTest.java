@@ -0,0 +1,81 @@
+/**
+ * File containing the CsvPointReaderTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class CsvPointReaderTest {
+
+	/**
+	 * Writes a temporary text file.
+	 *
+	 * @param text
+	 *          Content of the file.
+	 * @return Path of the file.
+	 * @throws IOException
+	 *           If the file can not be written.
+	 */
+	private static Path textFile(String text) throws IOException {
+		File file = File.createTempFile("points", ".csv");
+		file.deleteOnExit();
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.US_ASCII));
+		return file.toPath();
+	}
+
+	/**
+	 * Test method for read method of the CsvPointReader class. The chunks are
+	 * smaller than the lines, so most of them are empty.
+	 *
+	 * @throws IOException
+	 *           If the file can not be read.
+	 */
+	@Test
+	public final void testRead() throws IOException {
+		StringBuilder text = new StringBuilder("x,y\r\n");
+		for (int i = 0; i < 1000; ++i) {
+			text.append(i).append(i % 2 == 0 ? ", " : ";\t").append(-0.5 * i)
+					.append("\r\n");
+			if (i % 100 == 0) {
+				text.append('\n');
+			}
+		}
+		Path path = textFile(text.toString());
+		int[] chunkSizes = { 3, 64, CsvPointReader.DEFAULT_CHUNK_BYTES };
+		for (int chunkBytes : chunkSizes) {
+			PointStore points = new CsvPointReader(true, chunkBytes).read(path);
+			assertEquals(1000, points.size());
+			assertEquals(999.0, points.getX(999), 0.0);
+			assertEquals(-499.5, points.getY(999), 0.0);
+		}
+		assertEquals(2, new CsvPointReader().read(textFile("1 2\n3 4")).size());
+	}
+
+	/**
+	 * Test method for read method with a line which is not a point.
+	 *
+	 * @throws IOException
+	 *           If the file is not valid.
+	 */
+	@Test(expected = IOException.class)
+	public final void testReadInvalidLine() throws IOException {
+		new CsvPointReader().read(textFile("1,2\n3,four\n"));
+	}
+
+}
@@ -0,0 +1,123 @@
+/**
+ * File containing the HullTraceEngine entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+import pai.pract11.convexhull.model.engine.HullMetrics;
+import pai.pract11.convexhull.model.engine.HullStepper;
+
+/**
+ * Engine which replays a trace file recorded by HullTraceWriter instead of
+ * calculating the convex hull, so a long execution can be shown again without
+ * its cost. The trace must have been recorded over the same points. It was
+ * created for the eleventh practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullTraceEngine implements ConvexHullEngine {
+	/** Path of the trace file. */
+	private final Path	path;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param path
+	 *          Path of the trace file.
+	 */
+	public HullTraceEngine(Path path) {
+		this.path = path;
+	}
+
+	/**
+	 * Replays the whole trace.
+	 *
+	 * @param points
+	 *          Points the trace was recorded over.
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] computeHull(PointStore points) {
+		try (HullTraceReader reader = open(points, null)) {
+			while (reader.hasNext()) {
+				reader.next();
+			}
+			return reader.getConvexHull();
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * Creates a step by step replay of the trace. The file is open until the
+	 * stepper is closed.
+	 *
+	 * @param points
+	 *          Points the trace was recorded over.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points) {
+		return stepper(points, null);
+	}
+
+	/**
+	 * Creates a step by step replay of the trace which reports the recorded
+	 * subproblems of every step to the given metrics. The file is open until
+	 * the stepper is closed.
+	 *
+	 * @param points
+	 *          Points the trace was recorded over.
+	 * @param metrics
+	 *          Metrics which receive the steps.
+	 * @return Stepper.
+	 */
+	@Override
+	public HullStepper stepper(PointStore points, HullMetrics metrics) {
+		try {
+			return open(points, metrics);
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * Getter method for path attribute.
+	 *
+	 * @return path
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Opens the trace and checks that it was recorded over the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param metrics
+	 *          Metrics which receive the steps, or null.
+	 * @return Reader of the trace.
+	 * @throws IOException
+	 *           If the file can not be read or it is not a trace of the points.
+	 */
+	private HullTraceReader open(PointStore points, HullMetrics metrics)
+			throws IOException {
+		HullTraceReader reader = new HullTraceReader(path, metrics);
+		if (!reader.matches(points)) {
+			reader.close();
+			throw new IOException(path + " was not recorded over these "
+					+ points.size() + " points!");
+		}
+		return reader;
+	}
+}
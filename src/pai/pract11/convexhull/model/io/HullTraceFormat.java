@@ -0,0 +1,134 @@
+/**
+ * File containing the HullTraceFormat entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which contains the definition of the binary trace files of convex
+ * hull executions. A trace starts with a header (magic number, version, amount
+ * of points and fingerprint of the points) followed by one record per step
+ * until the end of the file. A record is an opcode byte followed by variable
+ * length integers: the point as a zigzag encoded difference with the point of
+ * the previous record, the next point of an insertion before a vertex as a
+ * difference with the point and, if the opcode has the SUBPROBLEMS flag, the
+ * sizes of the two subproblems pushed by the step and the depth of the call
+ * stack after it, so a record takes a few bytes. It was created for the
+ * eleventh practice of PAI (Programación de Aplicaciones Interactivas) course
+ * of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+final class HullTraceFormat {
+	/** First bytes of every trace, "HTRC" in ASCII. */
+	static final int	MAGIC						= 0x48545243;
+	/** Version of the format. */
+	static final byte	VERSION					= 1;
+	/** Amount of bytes of the header. */
+	static final int	HEADER_BYTES		= Integer.BYTES + 1 + Integer.BYTES
+			+ Long.BYTES;
+	/** Maximum amount of bytes of a record. */
+	static final int	MAX_RECORD_BYTES	= 1 + 5 * 5;
+	/** Opcode of the insertion of a point at the end of the convex hull. */
+	static final int	INSERT_AT_END		= 0;
+	/** Opcode of the insertion of a point before a vertex. */
+	static final int	INSERT_BEFORE		= 1;
+	/** Opcode of the removal of a point. */
+	static final int	REMOVE					= 2;
+	/** Bits of the opcode which contain the kind of step. */
+	static final int	KIND_MASK				= 0x03;
+	/** Flag of the opcodes followed by the subproblems of the step. */
+	static final int	SUBPROBLEMS			= 0x10;
+
+	/**
+	 * Private constructor, this class only contains static methods.
+	 */
+	private HullTraceFormat() {
+	}
+
+	/**
+	 * Returns a hash of the coordinates of the points, used to check that a
+	 * trace is replayed over the same points it was recorded with.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Fingerprint.
+	 */
+	static long fingerprint(PointStore points) {
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < points.size(); ++i) {
+			hash = (hash ^ Double.doubleToLongBits(xs[i])) * 0x100000001b3L;
+			hash = (hash ^ Double.doubleToLongBits(ys[i])) * 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Writes a non negative int with 7 bits per byte, least significant first.
+	 *
+	 * @param buffer
+	 *          Buffer with room for 5 bytes.
+	 * @param value
+	 *          Value, read as unsigned.
+	 */
+	static void putVarInt(ByteBuffer buffer, int value) {
+		while ((value & ~0x7f) != 0) {
+			buffer.put((byte) ((value & 0x7f) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Reads an int written by putVarInt.
+	 *
+	 * @param buffer
+	 *          Buffer which contains the whole value.
+	 * @return Value.
+	 * @throws IOException
+	 *           If the value is longer than an int.
+	 */
+	static int getVarInt(ByteBuffer buffer) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+			int b = buffer.get();
+			value |= (b & 0x7f) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Invalid variable length integer!");
+	}
+
+	/**
+	 * Maps a signed int to an unsigned one, so small differences of both signs
+	 * take few bytes.
+	 *
+	 * @param value
+	 *          Signed value.
+	 * @return Encoded value.
+	 */
+	static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	/**
+	 * Reverses zigzag.
+	 *
+	 * @param value
+	 *          Encoded value.
+	 * @return Signed value.
+	 */
+	static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
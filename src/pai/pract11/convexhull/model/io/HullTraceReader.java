@@ -0,0 +1,292 @@
+/**
+ * File containing the HullTraceReader entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.VertexRing;
+import pai.pract11.convexhull.model.engine.HullMetrics;
+import pai.pract11.convexhull.model.engine.HullStep;
+import pai.pract11.convexhull.model.engine.HullStepMetrics;
+import pai.pract11.convexhull.model.engine.HullStepper;
+
+/**
+ * Class which replays the steps of a binary trace file as a step by step
+ * execution. The file is read by blocks while the steps are requested, so
+ * traces of any length are replayed with constant memory apart from the convex
+ * hull. The subproblems of the recorded steps are reported to the metrics, if
+ * any, together with the time spent reading the step. It was created for the
+ * eleventh practice of PAI (Programación de Aplicaciones Interactivas) course
+ * of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullTraceReader implements HullStepper, Closeable {
+	/** Default amount of bytes read at once. */
+	public static final int		DEFAULT_BUFFER_BYTES	= 1 << 16;
+
+	/** Channel of the file. */
+	private final FileChannel	channel;
+	/** Bytes read and not decoded yet. */
+	private final ByteBuffer	buffer;
+	/** Metrics which receive the steps, null if none. */
+	private final HullMetrics	metrics;
+	/** Amount of points of the recorded execution. */
+	private final int					pointCount;
+	/** Fingerprint of the points of the recorded execution. */
+	private final long				fingerprint;
+	/** Convex hull built until the current step. */
+	private final VertexRing	convexHull;
+	/** Establishes if the whole file has been read into the buffer. */
+	private boolean						endOfFile;
+	/** Point of the previous record. */
+	private int								previousPoint;
+	/** Amount of steps read. */
+	private long							steps;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param path
+	 *          Path of the file.
+	 * @throws IOException
+	 *           If the file can not be read or it is not a trace.
+	 */
+	public HullTraceReader(Path path) throws IOException {
+		this(path, null);
+	}
+
+	/**
+	 * Constructs a reader which reports the steps to the given metrics.
+	 *
+	 * @param path
+	 *          Path of the file.
+	 * @param metrics
+	 *          Metrics which receive the steps, or null.
+	 * @throws IOException
+	 *           If the file can not be read or it is not a trace.
+	 */
+	public HullTraceReader(Path path, HullMetrics metrics) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.buffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_BYTES);
+		this.metrics = metrics;
+		this.convexHull = new VertexRing();
+		buffer.limit(0);
+		try {
+			fill();
+			if (buffer.remaining() < HullTraceFormat.HEADER_BYTES
+					|| buffer.getInt() != HullTraceFormat.MAGIC) {
+				throw new IOException(path + " is not a convex hull trace!");
+			}
+			byte version = buffer.get();
+			if (version != HullTraceFormat.VERSION) {
+				throw new IOException("Unsupported trace version " + version);
+			}
+			this.pointCount = buffer.getInt();
+			this.fingerprint = buffer.getLong();
+		} catch (IOException exception) {
+			channel.close();
+			throw exception;
+		}
+	}
+
+	/**
+	 * Compares two traces step by step, for example the ones recorded by two
+	 * versions of an engine over the same points. Only the changes of the
+	 * convex hull are compared, not the subproblems.
+	 *
+	 * @param first
+	 *          Path of the first trace.
+	 * @param second
+	 *          Path of the second trace.
+	 * @return Index of the first step which differs, or -1 if the traces are
+	 *         equal. If they were recorded over different points it is 0.
+	 * @throws IOException
+	 *           If the files can not be read or they are not traces.
+	 */
+	public static long firstDifference(Path first, Path second)
+			throws IOException {
+		try (HullTraceReader firstReader = new HullTraceReader(first);
+				HullTraceReader secondReader = new HullTraceReader(second)) {
+			if (firstReader.pointCount != secondReader.pointCount
+					|| firstReader.fingerprint != secondReader.fingerprint) {
+				return 0;
+			}
+			while (firstReader.hasNext() && secondReader.hasNext()) {
+				HullStep firstStep = firstReader.next();
+				HullStep secondStep = secondReader.next();
+				if (firstStep.getKind() != secondStep.getKind()
+						|| firstStep.getPointIndex() != secondStep.getPointIndex()
+						|| firstStep.getNextPoint() != secondStep.getNextPoint()) {
+					return firstReader.steps - 1;
+				}
+			}
+			if (firstReader.hasNext() || secondReader.hasNext()) {
+				return firstReader.steps;
+			}
+			return -1;
+		} catch (UncheckedIOException exception) {
+			throw exception.getCause();
+		}
+	}
+
+	/**
+	 * Checks if the trace was recorded over the given points.
+	 *
+	 * @param points
+	 *          Points.
+	 * @return Result.
+	 */
+	public boolean matches(PointStore points) {
+		return points.size() == pointCount
+				&& HullTraceFormat.fingerprint(points) == fingerprint;
+	}
+
+	/**
+	 * Checks if there are more steps in the trace.
+	 *
+	 * @return Result.
+	 * @throws UncheckedIOException
+	 *           If the file can not be read.
+	 */
+	@Override
+	public boolean hasNext() {
+		if (buffer.remaining() < HullTraceFormat.MAX_RECORD_BYTES && !endOfFile) {
+			try {
+				fill();
+			} catch (IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+		}
+		return buffer.hasRemaining();
+	}
+
+	/**
+	 * Reads the next step and applies it to the convex hull.
+	 *
+	 * @return Step.
+	 * @throws UncheckedIOException
+	 *           If the file can not be read or the record is incomplete or
+	 *           corrupt.
+	 */
+	@Override
+	public HullStep next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("The trace is finished!");
+		}
+		final long START = System.nanoTime();
+		HullStep step;
+		int left = 0;
+		int right = 0;
+		int depth = 0;
+		try {
+			int opcode = buffer.get();
+			int point = previousPoint
+					+ HullTraceFormat.unzigzag(HullTraceFormat.getVarInt(buffer));
+			switch (opcode & HullTraceFormat.KIND_MASK) {
+			case HullTraceFormat.INSERT_AT_END:
+				step = new HullStep(point, -1);
+				break;
+			case HullTraceFormat.INSERT_BEFORE:
+				step = new HullStep(point, point
+						+ HullTraceFormat.unzigzag(HullTraceFormat.getVarInt(buffer)));
+				break;
+			case HullTraceFormat.REMOVE:
+				step = new HullStep(HullStep.Kind.REMOVAL, point, -1);
+				break;
+			default:
+				throw new IOException("Invalid opcode " + opcode);
+			}
+			if ((opcode & HullTraceFormat.SUBPROBLEMS) != 0) {
+				left = HullTraceFormat.getVarInt(buffer);
+				right = HullTraceFormat.getVarInt(buffer);
+				depth = HullTraceFormat.getVarInt(buffer);
+			}
+			previousPoint = point;
+		} catch (BufferUnderflowException exception) {
+			throw new UncheckedIOException(new IOException("The step " + steps
+					+ " of the trace is incomplete!"));
+		} catch (IOException exception) {
+			throw new UncheckedIOException(new IOException("The step " + steps
+					+ " of the trace is corrupt: " + exception.getMessage(),
+					exception));
+		}
+		step.applyTo(convexHull);
+		steps++;
+		if (metrics != null) {
+			metrics.record(new HullStepMetrics(0, 0, left, right, depth,
+					System.nanoTime() - START));
+		}
+		return step;
+	}
+
+	/**
+	 * Returns the convex hull built until the current step.
+	 *
+	 * @return Indices of the points which conforms the convex hull, in order.
+	 */
+	@Override
+	public int[] getConvexHull() {
+		return convexHull.toArray();
+	}
+
+	/**
+	 * Getter method for pointCount attribute.
+	 *
+	 * @return pointCount
+	 */
+	public int getPointCount() {
+		return pointCount;
+	}
+
+	/**
+	 * Returns the amount of steps read.
+	 *
+	 * @return Amount of steps.
+	 */
+	public long getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Closes the file.
+	 *
+	 * @throws IOException
+	 *           If the file can not be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Moves the bytes not decoded yet to the beginning of the buffer and reads
+	 * the file until the buffer is full or the file ends.
+	 *
+	 * @throws IOException
+	 *           If the file can not be read.
+	 */
+	private void fill() throws IOException {
+		buffer.compact();
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				endOfFile = true;
+				break;
+			}
+		}
+		buffer.flip();
+	}
+}
@@ -0,0 +1,206 @@
+/**
+ * File containing the HullTraceTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+import pai.pract11.convexhull.model.engine.HullStep;
+import pai.pract11.convexhull.model.engine.HullStepMetrics;
+import pai.pract11.convexhull.model.engine.HullStepper;
+import pai.pract11.convexhull.model.engine.MonotoneChainEngine;
+import pai.pract11.convexhull.model.engine.QuickHullEngine;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+import pai.pract11.convexhull.model.generator.PointGenerator;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullTraceTest {
+
+	/**
+	 * Returns the path of a new temporary trace file.
+	 *
+	 * @return Path.
+	 * @throws IOException
+	 *           If the file can not be created.
+	 */
+	private static Path traceFile() throws IOException {
+		File file = File.createTempFile("hull", ".trace");
+		file.deleteOnExit();
+		return file.toPath();
+	}
+
+	/**
+	 * Returns the steps of an execution.
+	 *
+	 * @param stepper
+	 *          Step by step execution.
+	 * @return Steps, as the strings which describe them.
+	 */
+	private static List<String> steps(HullStepper stepper) {
+		List<String> steps = new ArrayList<>();
+		while (stepper.hasNext()) {
+			steps.add(stepper.next().toString());
+		}
+		return steps;
+	}
+
+	/**
+	 * Test method for the replay of the traces of every kind of step. The
+	 * reader buffer is refilled several times.
+	 *
+	 * @throws IOException
+	 *           If the trace can not be written or read.
+	 */
+	@Test
+	public final void testRoundTrip() throws IOException {
+		PointStore points = new PointGenerator(PointDistribution.GAUSSIAN, 0, 0,
+				1000, 1000).generate(100000, 7);
+		for (ConvexHullEngine engine : new ConvexHullEngine[] {
+				new QuickHullEngine(), new MonotoneChainEngine() }) {
+			Path path = traceFile();
+			int[] hull = HullTraceWriter.record(engine, points, path);
+			try (HullTraceReader reader = new HullTraceReader(path)) {
+				assertTrue(reader.matches(points));
+				assertEquals(steps(engine.stepper(points)), steps(reader));
+				assertArrayEquals(hull, reader.getConvexHull());
+			}
+			assertArrayEquals(hull, new HullTraceEngine(path).computeHull(points));
+		}
+	}
+
+	/**
+	 * Test method for the subproblems reported by the replay of a quick hull
+	 * trace.
+	 *
+	 * @throws IOException
+	 *           If the trace can not be written or read.
+	 */
+	@Test
+	public final void testSubproblems() throws IOException {
+		PointStore points = new PointGenerator(PointDistribution.DISK, 0, 0, 100,
+				100).generate(1000, 3);
+		List<HullStepMetrics> recorded = new ArrayList<>();
+		HullStepper stepper = new QuickHullEngine().stepper(points, recorded::add);
+		steps(stepper);
+		Path path = traceFile();
+		HullTraceWriter.record(new QuickHullEngine(), points, path);
+		List<HullStepMetrics> replayed = new ArrayList<>();
+		try (HullTraceReader reader = new HullTraceReader(path, replayed::add)) {
+			steps(reader);
+		}
+		assertEquals(recorded.size(), replayed.size());
+		for (int i = 0; i < recorded.size(); ++i) {
+			assertEquals(recorded.get(i).getLeftPartitionSize(),
+					replayed.get(i).getLeftPartitionSize());
+			assertEquals(recorded.get(i).getRightPartitionSize(),
+					replayed.get(i).getRightPartitionSize());
+			assertEquals(recorded.get(i).getStackDepth(),
+					replayed.get(i).getStackDepth());
+		}
+	}
+
+	/**
+	 * Test method for firstDifference method of the HullTraceReader class.
+	 *
+	 * @throws IOException
+	 *           If the traces can not be written or read.
+	 */
+	@Test
+	public final void testFirstDifference() throws IOException {
+		PointStore points = new PointGenerator(PointDistribution.UNIFORM, 0, 0,
+				100, 100).generate(500, 5);
+		Path first = traceFile();
+		Path second = traceFile();
+		HullTraceWriter.record(new QuickHullEngine(), points, first);
+		HullTraceWriter.record(new QuickHullEngine(), points, second);
+		assertEquals(-1, HullTraceReader.firstDifference(first, second));
+		HullTraceWriter.record(new MonotoneChainEngine(), points, second);
+		assertTrue(HullTraceReader.firstDifference(first, second) >= 0);
+	}
+
+	/**
+	 * Test method for the replay of a trace over other points.
+	 *
+	 * @throws IOException
+	 *           If the trace can not be written.
+	 */
+	@Test(expected = UncheckedIOException.class)
+	public final void testOtherPoints() throws IOException {
+		PointStore points = new PointStore(new double[] { 0, 1, 0 },
+				new double[] { 0, 0, 1 });
+		Path path = traceFile();
+		HullTraceWriter.record(new QuickHullEngine(), points, path);
+		assertFalse(new HullTraceReader(path).matches(new PointStore()));
+		points.add(1, 1);
+		new HullTraceEngine(path).stepper(points);
+	}
+
+	/**
+	 * Test method for the replay of a trace whose last step is incomplete.
+	 *
+	 * @throws IOException
+	 *           If the trace can not be written.
+	 */
+	@Test(expected = UncheckedIOException.class)
+	public final void testTruncatedTrace() throws IOException {
+		PointStore points = new PointStore(new double[] { 0, 1000, 0 },
+				new double[] { 0, 0, 1000 });
+		Path path = traceFile();
+		try (HullTraceWriter writer = new HullTraceWriter(path, points)) {
+			writer.write(new HullStep(0, -1));
+			writer.write(new HullStep(2, 0));
+		}
+		byte[] trace = Files.readAllBytes(path);
+		Files.write(path, Arrays.copyOf(trace, trace.length - 1));
+		try (HullTraceReader reader = new HullTraceReader(path)) {
+			steps(reader);
+		}
+	}
+
+	/**
+	 * Test method for the replay of a trace with a variable length integer
+	 * longer than an int.
+	 *
+	 * @throws IOException
+	 *           If the trace can not be written.
+	 */
+	@Test(expected = UncheckedIOException.class)
+	public final void testCorruptTrace() throws IOException {
+		PointStore points = new PointStore(new double[] { 0, 1000, 0 },
+				new double[] { 0, 0, 1000 });
+		Path path = traceFile();
+		try (HullTraceWriter writer = new HullTraceWriter(path, points)) {
+			writer.write(new HullStep(0, -1));
+		}
+		byte[] trace = Files.readAllBytes(path);
+		byte[] corrupt = Arrays.copyOf(trace, trace.length + 7);
+		// An insertion whose point has seven continuation bytes
+		corrupt[trace.length] = HullTraceFormat.INSERT_AT_END;
+		Arrays.fill(corrupt, trace.length + 1, corrupt.length, (byte) 0x80);
+		Files.write(path, corrupt);
+		try (HullTraceReader reader = new HullTraceReader(path)) {
+			steps(reader);
+		}
+	}
+}
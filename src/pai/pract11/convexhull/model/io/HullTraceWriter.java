@@ -0,0 +1,215 @@
+/**
+ * File containing the HullTraceWriter entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+import pai.pract11.convexhull.model.engine.HullMetrics;
+import pai.pract11.convexhull.model.engine.HullStep;
+import pai.pract11.convexhull.model.engine.HullStepMetrics;
+import pai.pract11.convexhull.model.engine.HullStepper;
+
+/**
+ * Class which writes the steps of a convex hull execution in a binary trace
+ * file. It also receives the measurements of the steps, so the subproblems
+ * pushed by every step are written with it when the stepper is created with
+ * engine.stepper(points, writer). It was created for the eleventh practice of
+ * PAI (Programación de Aplicaciones Interactivas) course of ULL (Universidad de
+ * la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class HullTraceWriter implements HullMetrics, Closeable {
+	/** Default amount of bytes buffered before they are written. */
+	public static final int		DEFAULT_BUFFER_BYTES	= 1 << 16;
+
+	/** Channel of the file. */
+	private final FileChannel	channel;
+	/** Records not written yet. */
+	private final ByteBuffer	buffer;
+	/** Point of the previous record. */
+	private int								previousPoint;
+	/** Measurements of the step which is being written, null if none. */
+	private HullStepMetrics		pendingMetrics;
+	/** Amount of steps written. */
+	private long							steps;
+
+	/**
+	 * Default constructor. The file is created or truncated and the header is
+	 * written.
+	 *
+	 * @param path
+	 *          Path of the file.
+	 * @param points
+	 *          Points of the execution.
+	 * @throws IOException
+	 *           If the file can not be written.
+	 */
+	public HullTraceWriter(Path path, PointStore points) throws IOException {
+		this(path, points, DEFAULT_BUFFER_BYTES);
+	}
+
+	/**
+	 * Constructs a writer with the given buffer.
+	 *
+	 * @param path
+	 *          Path of the file.
+	 * @param points
+	 *          Points of the execution.
+	 * @param bufferBytes
+	 *          Amount of bytes buffered before they are written.
+	 * @throws IOException
+	 *           If the file can not be written.
+	 */
+	public HullTraceWriter(Path path, PointStore points, int bufferBytes)
+			throws IOException {
+		if (bufferBytes < HullTraceFormat.HEADER_BYTES
+				+ HullTraceFormat.MAX_RECORD_BYTES) {
+			throw new IllegalArgumentException("The buffer is too small!");
+		}
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+		buffer.putInt(HullTraceFormat.MAGIC);
+		buffer.put(HullTraceFormat.VERSION);
+		buffer.putInt(points.size());
+		buffer.putLong(HullTraceFormat.fingerprint(points));
+	}
+
+	/**
+	 * Records every step of the execution of an engine in a trace file.
+	 *
+	 * @param engine
+	 *          Engine which calculates the convex hull.
+	 * @param points
+	 *          Points.
+	 * @param path
+	 *          Path of the file.
+	 * @return Convex hull of the points.
+	 * @throws IOException
+	 *           If the file can not be written.
+	 */
+	public static int[] record(ConvexHullEngine engine, PointStore points,
+			Path path) throws IOException {
+		try (HullTraceWriter writer = new HullTraceWriter(path, points)) {
+			HullStepper stepper = engine.stepper(points, writer);
+			while (stepper.hasNext()) {
+				writer.write(stepper.next());
+			}
+			return stepper.getConvexHull();
+		}
+	}
+
+	/**
+	 * Keeps the measurements of the step which is about to be written, which
+	 * steppers record before returning the step.
+	 *
+	 * @param step
+	 *          Measurements of the step.
+	 */
+	@Override
+	public void record(HullStepMetrics step) {
+		pendingMetrics = step;
+	}
+
+	/**
+	 * Writes a step, with the subproblems of the measurements received since
+	 * the previous one.
+	 *
+	 * @param step
+	 *          Step.
+	 * @throws UncheckedIOException
+	 *           If the file can not be written.
+	 */
+	public void write(HullStep step) {
+		if (buffer.remaining() < HullTraceFormat.MAX_RECORD_BYTES) {
+			flush();
+		}
+		int opcode;
+		if (step.isRemoval()) {
+			opcode = HullTraceFormat.REMOVE;
+		} else if (step.getNextPoint() == -1) {
+			opcode = HullTraceFormat.INSERT_AT_END;
+		} else {
+			opcode = HullTraceFormat.INSERT_BEFORE;
+		}
+		HullStepMetrics metrics = pendingMetrics;
+		pendingMetrics = null;
+		// Engines which do not count their subproblems report zeros
+		boolean subproblems = metrics != null
+				&& (metrics.getLeftPartitionSize() | metrics.getRightPartitionSize()
+						| metrics.getStackDepth()) != 0;
+		buffer.put((byte) (subproblems ? opcode | HullTraceFormat.SUBPROBLEMS
+				: opcode));
+		int point = step.getPointIndex();
+		HullTraceFormat.putVarInt(buffer,
+				HullTraceFormat.zigzag(point - previousPoint));
+		if (opcode == HullTraceFormat.INSERT_BEFORE) {
+			HullTraceFormat.putVarInt(buffer,
+					HullTraceFormat.zigzag(step.getNextPoint() - point));
+		}
+		if (subproblems) {
+			HullTraceFormat.putVarInt(buffer, metrics.getLeftPartitionSize());
+			HullTraceFormat.putVarInt(buffer, metrics.getRightPartitionSize());
+			HullTraceFormat.putVarInt(buffer, metrics.getStackDepth());
+		}
+		previousPoint = point;
+		steps++;
+	}
+
+	/**
+	 * Returns the amount of steps written.
+	 *
+	 * @return Amount of steps.
+	 */
+	public long getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Writes the buffered records in the file.
+	 *
+	 * @throws UncheckedIOException
+	 *           If the file can not be written.
+	 */
+	private void flush() {
+		buffer.flip();
+		try {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Writes the buffered records and closes the file.
+	 *
+	 * @throws IOException
+	 *           If the file can not be written.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} catch (UncheckedIOException exception) {
+			throw exception.getCause();
+		} finally {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/**
+ * File containing the MappedPointFile entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.ConvexHullEngine;
+
+/**
+ * Class which reads a binary point file through memory mapped chunks. The
+ * convex hull of a file can be calculated chunk by chunk, so only the points
+ * of the chunks being processed and the vertices of their convex hulls are
+ * stored in the heap. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class MappedPointFile implements Closeable {
+	/** Default amount of points of every chunk. */
+	public static final int				DEFAULT_CHUNK_POINTS	= 1 << 22;
+
+	/** Channel of the file. */
+	private final FileChannel			channel;
+	/** Format of the file. */
+	private final PointFileFormat	format;
+	/** Amount of points of every chunk. */
+	private final int							chunkPoints;
+	/** Amount of points of the file. */
+	private final int							size;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param path
+	 *          Path of the file.
+	 * @param format
+	 *          Format of the file.
+	 * @throws IOException
+	 *           If the file can not be opened or its size is not valid.
+	 */
+	public MappedPointFile(Path path, PointFileFormat format)
+			throws IOException {
+		this(path, format, DEFAULT_CHUNK_POINTS);
+	}
+
+	/**
+	 * Constructs a reader with the given chunk size.
+	 *
+	 * @param path
+	 *          Path of the file.
+	 * @param format
+	 *          Format of the file.
+	 * @param chunkPoints
+	 *          Amount of points of every chunk.
+	 * @throws IOException
+	 *           If the file can not be opened or its size is not valid.
+	 */
+	public MappedPointFile(Path path, PointFileFormat format, int chunkPoints)
+			throws IOException {
+		if (chunkPoints < 1
+				|| (long) chunkPoints * format.getPointBytes() > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Invalid chunk size " + chunkPoints);
+		}
+		this.format = format;
+		this.chunkPoints = chunkPoints;
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		long bytes = channel.size();
+		if (bytes % format.getPointBytes() != 0
+				|| bytes / format.getPointBytes() > Integer.MAX_VALUE) {
+			channel.close();
+			throw new IOException("Invalid size of point file " + path + ": "
+					+ bytes + " bytes");
+		}
+		this.size = (int) (bytes / format.getPointBytes());
+	}
+
+	/**
+	 * Getter method for size attribute.
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the amount of chunks of the file.
+	 *
+	 * @return Amount of chunks.
+	 */
+	public int chunks() {
+		return (int) (((long) size + chunkPoints - 1) / chunkPoints);
+	}
+
+	/**
+	 * Returns the index of the first point of a chunk.
+	 *
+	 * @param chunk
+	 *          Number of the chunk.
+	 * @return Index of the point.
+	 */
+	public int chunkStart(int chunk) {
+		return chunk * chunkPoints;
+	}
+
+	/**
+	 * Reads the points of a chunk into a store. The previous points of the
+	 * store are deleted, so the same store can be reused for every chunk.
+	 *
+	 * @param chunk
+	 *          Number of the chunk.
+	 * @param points
+	 *          Store which receives the points.
+	 * @throws IOException
+	 *           If the file can not be read.
+	 */
+	public void readChunk(int chunk, PointStore points) throws IOException {
+		int first = chunkStart(chunk);
+		int count = Math.min(chunkPoints, size - first);
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+				(long) first * format.getPointBytes(),
+				(long) count * format.getPointBytes());
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		points.clear();
+		points.ensureCapacity(count);
+		if (format == PointFileFormat.FLOAT64) {
+			DoubleBuffer coordinates = buffer.asDoubleBuffer();
+			for (int i = 0; i < count; ++i) {
+				points.add(coordinates.get(2 * i), coordinates.get(2 * i + 1));
+			}
+		} else {
+			FloatBuffer coordinates = buffer.asFloatBuffer();
+			for (int i = 0; i < count; ++i) {
+				points.add(coordinates.get(2 * i), coordinates.get(2 * i + 1));
+			}
+		}
+	}
+
+	/**
+	 * Reads all the points of the file.
+	 *
+	 * @return Points.
+	 * @throws IOException
+	 *           If the file can not be read.
+	 */
+	public PointStore readAll() throws IOException {
+		PointStore points = new PointStore(size);
+		PointStore buffer = new PointStore();
+		for (int chunk = 0; chunk < chunks(); ++chunk) {
+			readChunk(chunk, buffer);
+			for (int i = 0; i < buffer.size(); ++i) {
+				points.add(buffer.getX(i), buffer.getY(i));
+			}
+		}
+		return points;
+	}
+
+	/**
+	 * Calculates the convex hull of the points of the file. The convex hull of
+	 * every chunk is calculated in parallel, and then the convex hull of their
+	 * vertices, which is the convex hull of the whole file.
+	 *
+	 * @param engine
+	 *          Engine which calculates the convex hulls.
+	 * @return Indices of the points of the file which conforms the convex hull,
+	 *         in order.
+	 * @throws IOException
+	 *           If the file can not be read.
+	 */
+	public int[] computeHull(ConvexHullEngine engine) throws IOException {
+		PointStore[] chunkHulls = new PointStore[chunks()];
+		int[][] chunkIndices = new int[chunks()][];
+		try {
+			IntStream.range(0, chunks()).parallel().forEach(chunk -> {
+				PointStore points = new PointStore();
+				try {
+					readChunk(chunk, points);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				int[] hull = engine.computeHull(points);
+				chunkHulls[chunk] = new PointStore(hull.length);
+				chunkIndices[chunk] = new int[hull.length];
+				for (int i = 0; i < hull.length; ++i) {
+					chunkHulls[chunk].add(points.getX(hull[i]), points.getY(hull[i]));
+					chunkIndices[chunk][i] = chunkStart(chunk) + hull[i];
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		int total = 0;
+		for (int[] indices : chunkIndices) {
+			total += indices.length;
+		}
+		PointStore candidates = new PointStore(total);
+		int[] candidateIndices = new int[total];
+		for (int chunk = 0; chunk < chunkHulls.length; ++chunk) {
+			for (int i = 0; i < chunkHulls[chunk].size(); ++i) {
+				int candidate = candidates.add(chunkHulls[chunk].getX(i),
+						chunkHulls[chunk].getY(i));
+				candidateIndices[candidate] = chunkIndices[chunk][i];
+			}
+		}
+		int[] hull = engine.computeHull(candidates);
+		for (int i = 0; i < hull.length; ++i) {
+			hull[i] = candidateIndices[hull[i]];
+		}
+		return hull;
+	}
+
+	/**
+	 * Closes the file.
+	 *
+	 * @throws IOException
+	 *           If the file can not be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
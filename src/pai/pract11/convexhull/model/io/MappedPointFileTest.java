@@ -0,0 +1,109 @@
+/**
+ * File containing the MappedPointFileTest entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.QuickHullEngine;
+
+/**
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class MappedPointFileTest {
+
+	/**
+	 * Writes a temporary point file with the points of a grid.
+	 *
+	 * @param format
+	 *          Format of the file.
+	 * @return Path of the file.
+	 * @throws IOException
+	 *           If the file can not be written.
+	 */
+	private static Path gridFile(PointFileFormat format) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(100 * format.getPointBytes())
+				.order(ByteOrder.LITTLE_ENDIAN);
+		for (int x = 0; x < 10; ++x) {
+			for (int y = 0; y < 10; ++y) {
+				if (format == PointFileFormat.FLOAT64) {
+					buffer.putDouble(x).putDouble(y);
+				} else {
+					buffer.putFloat(x).putFloat(y);
+				}
+			}
+		}
+		File file = File.createTempFile("points", ".bin");
+		file.deleteOnExit();
+		Files.write(file.toPath(), buffer.array());
+		return file.toPath();
+	}
+
+	/**
+	 * Test method for readAll method of the MappedPointFile class.
+	 *
+	 * @throws IOException
+	 *           If the file can not be read.
+	 */
+	@Test
+	public final void testReadAll() throws IOException {
+		for (PointFileFormat format : PointFileFormat.values()) {
+			try (MappedPointFile file = new MappedPointFile(gridFile(format), format,
+					7)) {
+				assertEquals(100, file.size());
+				assertEquals(15, file.chunks());
+				PointStore points = file.readAll();
+				assertEquals(100, points.size());
+				assertEquals(4.0, points.getX(45), 0.0);
+				assertEquals(5.0, points.getY(45), 0.0);
+			}
+		}
+	}
+
+	/**
+	 * Test method for computeHull method of the MappedPointFile class. The
+	 * chunks are smaller than a column of the grid.
+	 *
+	 * @throws IOException
+	 *           If the file can not be read.
+	 */
+	@Test
+	public final void testComputeHull() throws IOException {
+		try (MappedPointFile file = new MappedPointFile(
+				gridFile(PointFileFormat.FLOAT64), PointFileFormat.FLOAT64, 7)) {
+			int[] hull = file.computeHull(new QuickHullEngine());
+			Arrays.sort(hull);
+			assertArrayEquals(new int[] { 0, 9, 90, 99 }, hull);
+		}
+	}
+
+	/**
+	 * Test method for the constructor with a truncated file.
+	 *
+	 * @throws IOException
+	 *           If the file is not valid.
+	 */
+	@Test(expected = IOException.class)
+	public final void testTruncatedFile() throws IOException {
+		File file = File.createTempFile("points", ".bin");
+		file.deleteOnExit();
+		Files.write(file.toPath(), new byte[12]);
+		new MappedPointFile(file.toPath(), PointFileFormat.FLOAT64).close();
+	}
+
+}
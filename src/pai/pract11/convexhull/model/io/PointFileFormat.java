@@ -0,0 +1,45 @@
+/**
+ * File containing the PointFileFormat entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+/**
+ * Enumeration of the binary point file formats. Every point is stored as its
+ * x coordinate followed by its y coordinate, in little-endian byte order and
+ * without any header. It was created for the eleventh practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public enum PointFileFormat {
+	/** Coordinates stored as float64 values. */
+	FLOAT64(Double.BYTES),
+	/** Coordinates stored as float32 values. */
+	FLOAT32(Float.BYTES);
+
+	/** Amount of bytes of every coordinate. */
+	private final int coordinateBytes;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param coordinateBytes
+	 *          Amount of bytes of every coordinate.
+	 */
+	PointFileFormat(int coordinateBytes) {
+		this.coordinateBytes = coordinateBytes;
+	}
+
+	/**
+	 * Returns the amount of bytes of every point.
+	 *
+	 * @return Amount of bytes.
+	 */
+	public int getPointBytes() {
+		return 2 * coordinateBytes;
+	}
+}
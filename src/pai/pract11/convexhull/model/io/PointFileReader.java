@@ -0,0 +1,52 @@
+/**
+ * File containing the PointFileReader entity definition.
+ */
+
+package pai.pract11.convexhull.model.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which reads a point file choosing the reader by its extension: ".csv"
+ * and ".txt" files are text files, ".f32" files are float32 binary files and
+ * any other file is a float64 binary file. It was created for the eleventh
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public final class PointFileReader {
+
+	/**
+	 * Private constructor, this class only contains static methods.
+	 */
+	private PointFileReader() {
+	}
+
+	/**
+	 * Reads all the points of a file.
+	 *
+	 * @param path
+	 *          Path of the file.
+	 * @return Points.
+	 * @throws IOException
+	 *           If the file can not be read or it is not valid.
+	 */
+	public static PointStore read(Path path) throws IOException {
+		String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+		if (name.endsWith(".csv") || name.endsWith(".txt")) {
+			return new CsvPointReader().read(path);
+		}
+		PointFileFormat format = name.endsWith(".f32") ? PointFileFormat.FLOAT32
+				: PointFileFormat.FLOAT64;
+		try (MappedPointFile file = new MappedPointFile(path, format)) {
+			return file.readAll();
+		}
+	}
+}
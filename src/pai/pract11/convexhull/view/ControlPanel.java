@@ -8,12 +8,18 @@ import java.awt.Dimension;
 import java.awt.event.ActionListener;
 
 import javax.swing.JButton;
+import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JSlider;
 import javax.swing.JTextField;
 import javax.swing.event.ChangeListener;
 
+import pai.pract11.convexhull.model.engine.HullAlgorithm;
+import pai.pract11.convexhull.model.engine.HullMetricsSummary;
+import pai.pract11.convexhull.model.engine.HullStepMetrics;
+import pai.pract11.convexhull.model.generator.PointDistribution;
+
 /**
  * Class which represents the panel where the control buttons will be located in
  * the Convex Hull program GUI. It was created for the eleventh practice of PAI
@@ -29,12 +35,24 @@ public class ControlPanel extends JPanel {
 	private static final long	serialVersionUID	= 1L;
 	/** Generate points button of the control panel. */
 	private JButton						generatePointsButton;
+	/** Load points button of the control panel. */
+	private JButton						loadPointsButton;
+	/** Save trace button of the control panel. */
+	private JButton						saveTraceButton;
+	/** Load trace button of the control panel. */
+	private JButton						loadTraceButton;
 	/** Reset button of the control panel. */
 	private JButton						resetButton;
 	/** Run button of the control panel. */
 	private JButton						runButton;
 	/** Next step button of the control panel. */
 	private JButton						nextStepButton;
+	/** Previous step button of the control panel. */
+	private JButton						previousStepButton;
+	/** Step to go to text field. */
+	private JTextField				stepTextField;
+	/** Go to step button of the control panel. */
+	private JButton						goToStepButton;
 	/** Add points text field. */
 	private JTextField				addPointsTextField;
 	/** Points color button of the control panel. */
@@ -49,6 +67,20 @@ public class ControlPanel extends JPanel {
 	private JLabel						pointsDiameterLabel;
 	/** Point diameter of the control panel. */
 	private JSlider						pointsDiameterSlider;
+	/** Algorithm selector of the control panel. */
+	private JComboBox<HullAlgorithm>	algorithmComboBox;
+	/** Distribution of the generated points. */
+	private JComboBox<PointDistribution>	distributionComboBox;
+	/** Steps per delay label of the control panel. */
+	private JLabel						speedLabel;
+	/** Amount of steps shown for every delay of the timer. */
+	private JComboBox<Integer>	speedComboBox;
+	/** Readout of the measurements of the algorithm. */
+	private JLabel						metricsLabel;
+	/** Establishes if the state of the panel allows saving a trace. */
+	private boolean						saveTraceAllowed;
+	/** Establishes if a trace is being saved. */
+	private boolean						savingTrace;
 	
 
 	/**
@@ -76,10 +108,12 @@ public class ControlPanel extends JPanel {
 	 *          Height of the panel.
 	 * @param buttonsListener
 	 *          Listener for the control buttons.
+	 * @param algorithm
+	 *          Algorithm initially selected.
 	 */
 	public ControlPanel(int width, int height, ActionListener buttonsListener,
 			ChangeListener sliderListener, int initialTimerDelay,
-			int numberOfPoints) {
+			int numberOfPoints, HullAlgorithm algorithm) {
 		setName("Control panel");
 		setPreferredSize(new Dimension(width, height));
 
@@ -90,6 +124,16 @@ public class ControlPanel extends JPanel {
 		generatePointsButton = new JButton("Generate points");
 		generatePointsButton.addActionListener(buttonsListener);
 
+		loadPointsButton = new JButton("Load points");
+		loadPointsButton.addActionListener(buttonsListener);
+
+		saveTraceButton = new JButton("Save trace");
+		saveTraceButton.addActionListener(buttonsListener);
+		saveTraceButton.setEnabled(false);
+
+		loadTraceButton = new JButton("Load trace");
+		loadTraceButton.addActionListener(buttonsListener);
+
 		resetButton = new JButton("Reset");
 		resetButton.addActionListener(buttonsListener);
 		resetButton.setEnabled(false);
@@ -102,6 +146,18 @@ public class ControlPanel extends JPanel {
 		nextStepButton.addActionListener(buttonsListener);
 		nextStepButton.setEnabled(false);
 
+		previousStepButton = new JButton("Previous step");
+		previousStepButton.addActionListener(buttonsListener);
+		previousStepButton.setEnabled(false);
+
+		stepTextField = new JTextField("0");
+		stepTextField.setColumns(TEXT_FIELD_COLUMNS);
+		stepTextField.setEnabled(false);
+
+		goToStepButton = new JButton("Go to step");
+		goToStepButton.addActionListener(buttonsListener);
+		goToStepButton.setEnabled(false);
+
 		timerLabel = new JLabel("Timer delay(ms)");
 		final int MS_MIN = 1;
 		final int MS_MAX = (initialTimerDelay * 10) + 1;
@@ -137,26 +193,71 @@ public class ControlPanel extends JPanel {
 		linesColorButton.addActionListener(buttonsListener);
 		linesColorButton.setEnabled(false);
 		
+		algorithmComboBox = new JComboBox<>(HullAlgorithm.values());
+		algorithmComboBox.setSelectedItem(algorithm);
+		algorithmComboBox.setActionCommand("Algorithm");
+		algorithmComboBox.addActionListener(buttonsListener);
+		
+		distributionComboBox = new JComboBox<>(PointDistribution.values());
+		
+		speedLabel = new JLabel("Steps per delay");
+		speedComboBox = new JComboBox<>(new Integer[] { 1, 10, 100, 1000, 10000 });
+		
+		metricsLabel = new JLabel();
+		
+		add(algorithmComboBox);
 		add(addPointsTextField);
+		add(distributionComboBox);
 		add(generatePointsButton);
+		add(loadPointsButton);
+		add(saveTraceButton);
+		add(loadTraceButton);
 		add(resetButton);
 		add(runButton);
+		add(previousStepButton);
 		add(nextStepButton);
+		add(stepTextField);
+		add(goToStepButton);
 		add(pointsColorButton);
 		add(linesColorButton);
 		add(timerLabel);
 		add(timerSlider);
+		add(speedLabel);
+		add(speedComboBox);
 		add(pointsDiameterLabel);
 		add(pointsDiameterSlider);
+		add(metricsLabel);
 		
 	}
 
+	/**
+	 * Shows the measurements of the steps of the algorithm.
+	 * 
+	 * @param summary
+	 *          Measurements of the steps calculated until now, null to hide
+	 *          them.
+	 */
+	public void showMetrics(HullMetricsSummary summary) {
+		HullStepMetrics lastStep = (summary == null) ? null : summary.getLastStep();
+		if (lastStep == null) {
+			metricsLabel.setText("");
+			return;
+		}
+		metricsLabel.setText("Steps: " + summary.getSteps() + "  Scanned: "
+				+ summary.getPointsScanned() + "  Orientation tests: "
+				+ summary.getOrientationTests() + "  Depth: "
+				+ lastStep.getStackDepth() + "  Last step: "
+				+ lastStep.getNanoseconds() / 1000 + " us");
+	}
+
 	/**
 	 * Represents the restart state of the control panel.
 	 */
 	public void restartState() {
+		setSaveTraceAllowed(false);
 		runButton.setEnabled(false);
 		nextStepButton.setEnabled(false);
+		setSeekEnabled(false);
 		resetButton.setEnabled(false);
 		pointsColorButton.setEnabled(false);
 		linesColorButton.setEnabled(false);
@@ -167,8 +268,10 @@ public class ControlPanel extends JPanel {
 	 * Represents the initialized state of the control panel.
 	 */
 	public void initializedState() {
+		setSaveTraceAllowed(true);
 		runButton.setEnabled(true);
 		nextStepButton.setEnabled(true);
+		setSeekEnabled(true);
 		resetButton.setEnabled(true);
 		pointsColorButton.setEnabled(true);
 		linesColorButton.setEnabled(true);
@@ -180,9 +283,15 @@ public class ControlPanel extends JPanel {
 	 */
 	public void runningState() {
 		generatePointsButton.setEnabled(false);
+		distributionComboBox.setEnabled(false);
+		loadPointsButton.setEnabled(false);
+		setSaveTraceAllowed(false);
+		loadTraceButton.setEnabled(false);
+		algorithmComboBox.setEnabled(false);
 		runButton.setText("Pause");
 		runButton.setActionCommand("Pause");
 		nextStepButton.setEnabled(false);
+		setSeekEnabled(false);
 	}
 
 	/**
@@ -190,9 +299,16 @@ public class ControlPanel extends JPanel {
 	 */
 	public void stoppedState() {
 		generatePointsButton.setEnabled(true);
+		distributionComboBox.setEnabled(true);
+		loadPointsButton.setEnabled(true);
+		setSaveTraceAllowed(true);
+		loadTraceButton.setEnabled(true);
+		algorithmComboBox.setEnabled(true);
 		runButton.setText("Run");
 		runButton.setActionCommand("Run");
+		runButton.setEnabled(true);
 		nextStepButton.setEnabled(true);
+		setSeekEnabled(true);
 	}
 
 	/**
@@ -200,10 +316,54 @@ public class ControlPanel extends JPanel {
 	 */
 	public void finishedState() {
 		generatePointsButton.setEnabled(true);
+		distributionComboBox.setEnabled(true);
+		loadPointsButton.setEnabled(true);
+		setSaveTraceAllowed(true);
+		loadTraceButton.setEnabled(true);
+		algorithmComboBox.setEnabled(true);
 		runButton.setText("Run");
 		runButton.setActionCommand("Run");
 		runButton.setEnabled(false);
 		nextStepButton.setEnabled(false);
+		// The previous steps can still be shown
+		setSeekEnabled(true);
+	}
+
+	/**
+	 * Enables or disables the controls which move the simulation to another
+	 * step.
+	 * 
+	 * @param enabled
+	 *          Establishes if the controls are enabled.
+	 */
+	private void setSeekEnabled(boolean enabled) {
+		previousStepButton.setEnabled(enabled);
+		stepTextField.setEnabled(enabled);
+		goToStepButton.setEnabled(enabled);
+	}
+
+	/**
+	 * Establishes if a trace is being saved. The save trace button is disabled
+	 * meanwhile, whatever the state of the panel is.
+	 *
+	 * @param savingTrace
+	 *          Establishes if a trace is being saved.
+	 */
+	public void setSavingTrace(boolean savingTrace) {
+		this.savingTrace = savingTrace;
+		saveTraceButton.setEnabled(saveTraceAllowed && !savingTrace);
+	}
+
+	/**
+	 * Establishes if the state of the panel allows saving a trace. The save
+	 * trace button is only enabled if no trace is being saved.
+	 *
+	 * @param allowed
+	 *          Establishes if a trace can be saved.
+	 */
+	private void setSaveTraceAllowed(boolean allowed) {
+		saveTraceAllowed = allowed;
+		saveTraceButton.setEnabled(allowed && !savingTrace);
 	}
 
 	/**
@@ -214,4 +374,40 @@ public class ControlPanel extends JPanel {
 	public JTextField getAddPointsTextField() {
 		return addPointsTextField;
 	}
+
+	/**
+	 * Getter method for stepTextField attribute.
+	 * 
+	 * @return stepTextField
+	 */
+	public JTextField getStepTextField() {
+		return stepTextField;
+	}
+
+	/**
+	 * Getter method for algorithmComboBox attribute.
+	 * 
+	 * @return algorithmComboBox
+	 */
+	public JComboBox<HullAlgorithm> getAlgorithmComboBox() {
+		return algorithmComboBox;
+	}
+
+	/**
+	 * Getter method for distributionComboBox attribute.
+	 * 
+	 * @return distributionComboBox
+	 */
+	public JComboBox<PointDistribution> getDistributionComboBox() {
+		return distributionComboBox;
+	}
+
+	/**
+	 * Getter method for speedComboBox attribute.
+	 * 
+	 * @return speedComboBox
+	 */
+	public JComboBox<Integer> getSpeedComboBox() {
+		return speedComboBox;
+	}
 }
@@ -7,11 +7,14 @@ package pai.pract11.convexhull.view;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
-import java.awt.geom.Point2D;
-import java.util.ArrayList;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 
 import javax.swing.JPanel;
 
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.VertexRing;
+
 /**
  * Class which represents the panel where the convex hull will be painted in the
  * Convex Hull program GUI. It was created for the eleventh practice of PAI
@@ -26,10 +29,12 @@ public class ConvexHullPanel extends JPanel {
 
 	/** Default serial version ID. */
 	private static final long serialVersionUID = 1L;
+	/** Amount of points from which they are drawn as a heatmap. */
+	public static final int DENSITY_THRESHOLD = 100000;
 	/** Points of the convex hull panel. */
-	private ArrayList<Point2D.Double> points;
-	/** Convex hull. */
-	private ArrayList<Point2D.Double> convexHull;
+	private PointStore points;
+	/** Indices of the points which conforms the convex hull. */
+	private VertexRing convexHull;
 	/** Diameter of the points. */
 	private int diameter = 4;
 	/** Radius of the points. */
@@ -38,6 +43,12 @@ public class ConvexHullPanel extends JPanel {
 	private Color linesColor;
 	/** Color of the points. */
 	private Color pointsColor;
+	/** Image with the points already drawn, null if it must be drawn again. */
+	private BufferedImage pointLayer;
+	/** Amount of points of the store drawn in the image. */
+	private int pointLayerSize;
+	/** Heatmap of the points, used when there are too many to draw them. */
+	private DensityLayer densityLayer;
 	
 
 	/**
@@ -50,13 +61,14 @@ public class ConvexHullPanel extends JPanel {
 	 * @param points
 	 *          Points of the convex hull panel.
 	 */
-	public ConvexHullPanel(int width, int height, ArrayList<Point2D.Double> points) {
+	public ConvexHullPanel(int width, int height, PointStore points) {
 		this.points = points;
 		this.setName("Quick hull panel");
 		this.setPreferredSize(new Dimension(width, height));
-		this.convexHull = new ArrayList<Point2D.Double>();
+		this.convexHull = new VertexRing();
 		this.linesColor = Color.RED;
 		this.pointsColor = Color.BLUE;
+		this.densityLayer = new DensityLayer();
 	}
 	
 	/**
@@ -74,7 +86,7 @@ public class ConvexHullPanel extends JPanel {
 	public void setDiameter(int diameter) {
 		this.diameter = diameter;
 		this.radius = diameter / 2;
-		repaint();
+		invalidatePointLayer();
 	}
 
 	/**
@@ -92,11 +104,15 @@ public class ConvexHullPanel extends JPanel {
 	public void setRadius(int radius) {
 		this.diameter = radius * 2;
 		this.radius = radius;
-		repaint();
+		invalidatePointLayer();
 	}
 
 	/**
-	 * Paints the panel in the graphics object given as a parameter.
+	 * Paints the panel in the graphics object given as a parameter. The points
+	 * are copied from a cached image, so only the convex hull is drawn on every
+	 * repaint. From DENSITY_THRESHOLD points on, the image is a heatmap of the
+	 * amount of points of every pixel. The convex hull is always drawn over it
+	 * with the coordinates of its vertices.
 	 * 
 	 * @param g
 	 *          Graphic object where the convex hull will be painted.
@@ -105,14 +121,63 @@ public class ConvexHullPanel extends JPanel {
 	public void paintComponent(Graphics g) {
 		super.paintComponent(g);
 		this.setBackground(Color.WHITE);
-		g.setColor(pointsColor);
-		for (Point2D.Double point : this.points) {
-			g.fillOval((int)point.x, (int)point.y, diameter, diameter);
+		if (this.points.size() >= DENSITY_THRESHOLD) {
+			if (this.getWidth() > 0 && this.getHeight() > 0) {
+				g.drawImage(this.densityLayer.update(this.points, this.getWidth(),
+						this.getHeight(), radius, pointsColor), 0, 0, null);
+			}
+		} else {
+			this.updatePointLayer();
+			if (this.pointLayer != null) {
+				g.drawImage(this.pointLayer, 0, 0, null);
+			}
 		}
 		g.setColor(linesColor);
 		this.drawConvexHull(g);
 	}
 
+	/**
+	 * Discards the cached images of the points, so all of them are drawn again
+	 * on the next repaint. Adding points to the store does not need it, only
+	 * the new ones are drawn.
+	 */
+	public void invalidatePointLayer() {
+		this.pointLayer = null;
+		this.densityLayer = new DensityLayer();
+		this.repaint();
+	}
+
+	/**
+	 * Draws the points which are not in the cached image yet, creating it
+	 * again if it has been discarded or the panel has changed its size.
+	 */
+	private void updatePointLayer() {
+		if (this.getWidth() <= 0 || this.getHeight() <= 0) {
+			return;
+		}
+		if (this.pointLayer == null || this.pointLayer.getWidth() != this.getWidth()
+				|| this.pointLayer.getHeight() != this.getHeight()
+				|| this.pointLayerSize > this.points.size()) {
+			this.pointLayer = new BufferedImage(this.getWidth(), this.getHeight(),
+					BufferedImage.TYPE_INT_ARGB);
+			this.pointLayerSize = 0;
+		}
+		if (this.pointLayerSize == this.points.size()) {
+			return;
+		}
+		Graphics2D layerGraphics = this.pointLayer.createGraphics();
+		try {
+			layerGraphics.setColor(pointsColor);
+			for (int i = this.pointLayerSize; i < this.points.size(); ++i) {
+				layerGraphics.fillOval((int) this.points.getX(i),
+						(int) this.points.getY(i), diameter, diameter);
+			}
+		} finally {
+			layerGraphics.dispose();
+		}
+		this.pointLayerSize = this.points.size();
+	}
+
 	/**
 	 * Setter method for linesColor attribute.
 	 * @param linesColor 
@@ -128,22 +193,26 @@ public class ConvexHullPanel extends JPanel {
 	 */
 	public void setPointsColor(Color pointsColor) {
 		this.pointsColor = pointsColor;
-		repaint();
+		invalidatePointLayer();
 	}
 
 	/**
-	 * Paints the convex hull in the graphics object given as a parameter.
+	 * Paints the convex hull in the graphics object given as a parameter. The
+	 * vertices are read from the snapshot of the ring, which is only taken
+	 * again after the convex hull changes.
 	 * 
 	 * @param g
 	 *          Graphic object where the convex hull will be painted.
 	 */
 	private void drawConvexHull(Graphics g) {
-		for (int i = 0; i < this.convexHull.size(); ++i) {
-			Point2D.Double firstPoint = this.convexHull.get(i);
-			Point2D.Double secondPoint = this.convexHull.get((i + 1) % this.convexHull.size());
-			g.drawLine((int) firstPoint.getX() + radius,
-					(int) firstPoint.getY() + radius, (int) secondPoint.getX() + radius,
-					(int) secondPoint.getY() + radius);
+		int[] vertices = this.convexHull.snapshot();
+		for (int i = 0; i < vertices.length; ++i) {
+			int firstPoint = vertices[i];
+			int secondPoint = vertices[(i + 1) % vertices.length];
+			g.drawLine((int) this.points.getX(firstPoint) + radius,
+					(int) this.points.getY(firstPoint) + radius,
+					(int) this.points.getX(secondPoint) + radius,
+					(int) this.points.getY(secondPoint) + radius);
 		}
 	}
 
@@ -152,7 +221,10 @@ public class ConvexHullPanel extends JPanel {
 	 * 
 	 * @param points
 	 */
-	public void setPoints(ArrayList<Point2D.Double> points) {
+	public void setPoints(PointStore points) {
+		if (points != this.points) {
+			this.pointLayer = null;
+		}
 		this.points = points;
 		this.repaint();
 	}
@@ -160,13 +232,40 @@ public class ConvexHullPanel extends JPanel {
 	/**
 	 * Adds a point to the convex hull and repaints it.
 	 * 
-	 * @param insertionPosition
-	 *          Position to insert the new point in the convex hull.
 	 * @param newPoint
-	 *          Point to add.
+	 *          Index of the point to add.
+	 * @param nextPoint
+	 *          Index of the vertex which follows the new point, or -1 to add it
+	 *          at the end of the convex hull.
+	 */
+	public void addPointToConvexHull(int newPoint, int nextPoint) {
+		this.convexHull.insertBefore(newPoint, nextPoint);
+		this.repaint();
+	}
+
+	/**
+	 * Replaces the convex hull and repaints it.
+	 * 
+	 * @param convexHull
+	 *          Indices of the points which conforms the convex hull, in order.
+	 */
+	public void setConvexHull(int[] convexHull) {
+		// The ring is reused, it is replaced on every seek of the simulation
+		this.convexHull.clear();
+		for (int point : convexHull) {
+			this.convexHull.add(point);
+		}
+		this.repaint();
+	}
+
+	/**
+	 * Removes a point from the convex hull and repaints it.
+	 * 
+	 * @param point
+	 *          Index of the point to remove.
 	 */
-	public void addPointToConvexHull(int insertionPosition, Point2D.Double newPoint) {
-		this.convexHull.add(insertionPosition, newPoint);
+	public void removePointFromConvexHull(int point) {
+		this.convexHull.remove(point);
 		this.repaint();
 	}
 
@@ -175,7 +274,7 @@ public class ConvexHullPanel extends JPanel {
 	 * 
 	 * @return points
 	 */
-	public ArrayList<Point2D.Double> getPoints() {
+	public PointStore getPoints() {
 		return this.points;
 	}
 
@@ -183,7 +282,7 @@ public class ConvexHullPanel extends JPanel {
 	 * Deletes the current convex hull.
 	 */
 	public void restartConvexHull() {
-		this.convexHull = new ArrayList<>();
+		this.convexHull.clear();
 	}
 
 }
@@ -0,0 +1,201 @@
+/**
+ * File containing the DensityLayer entity definition.
+ */
+
+package pai.pract11.convexhull.view;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.stream.IntStream;
+
+import pai.pract11.convexhull.model.PointStore;
+
+/**
+ * Class which draws a cloud of points as a heatmap, counting the points which
+ * fall in every pixel. Drawing millions of ovals is too slow, while the counts
+ * are calculated in parallel and only the points added since the last update
+ * are counted. The color of every pixel is the color of the points with an
+ * opacity which grows with the logarithm of its count. It was created for the
+ * eleventh practice of PAI (Programación de Aplicaciones Interactivas) course
+ * of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class DensityLayer {
+	/** Minimum amount of points counted by every parallel task. */
+	private static final int	CHUNK_SIZE				= 1 << 16;
+	/** Minimum opacity of the pixels with at least one point. */
+	private static final int	MINIMUM_ALPHA			= 64;
+
+	/** Points counted in the grid. */
+	private PointStore				points;
+	/** Amount of points of the store counted in the grid. */
+	private int								countedSize;
+	/** Offset added to the coordinates, the radius of the points. */
+	private int								offset;
+	/** Amount of points of every pixel, by rows. */
+	private int[]							counts;
+	/** Highest count of a pixel. */
+	private int								maximumCount;
+	/** Heatmap image. */
+	private BufferedImage			image;
+	/** Color of the points. */
+	private Color							color;
+	/** Establishes if the image must be colored again. */
+	private boolean						dirtyImage;
+
+	/**
+	 * Updates the grid with the points added to the store since the last
+	 * update, starting again if the store, its size, the offset or the size of
+	 * the image have changed, and returns the heatmap.
+	 *
+	 * @param points
+	 *          Points.
+	 * @param width
+	 *          Width of the image.
+	 * @param height
+	 *          Height of the image.
+	 * @param offset
+	 *          Offset added to the coordinates, the radius of the points.
+	 * @param color
+	 *          Color of the points.
+	 * @return Heatmap image.
+	 */
+	public BufferedImage update(PointStore points, int width, int height,
+			int offset, Color color) {
+		if (image == null || image.getWidth() != width
+				|| image.getHeight() != height || points != this.points
+				|| countedSize > points.size() || offset != this.offset) {
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			counts = new int[width * height];
+			maximumCount = 0;
+			countedSize = 0;
+			this.points = points;
+			this.offset = offset;
+			dirtyImage = true;
+		}
+		if (!color.equals(this.color)) {
+			this.color = color;
+			dirtyImage = true;
+		}
+		if (countedSize < points.size()) {
+			count(countedSize, points.size());
+			countedSize = points.size();
+			dirtyImage = true;
+		}
+		if (dirtyImage) {
+			paint();
+			dirtyImage = false;
+		}
+		return image;
+	}
+
+	/**
+	 * Getter method for maximumCount attribute.
+	 *
+	 * @return maximumCount
+	 */
+	public int getMaximumCount() {
+		return maximumCount;
+	}
+
+	/**
+	 * Adds a range of points to the grid. Every task counts a part of the
+	 * points in its own grid, and then the grids are added by rows, so no pixel
+	 * is written by two threads at the same time.
+	 *
+	 * @param from
+	 *          Index of the first point, inclusive.
+	 * @param to
+	 *          Index of the last point, exclusive.
+	 */
+	private void count(int from, int to) {
+		final int WIDTH = image.getWidth();
+		final int HEIGHT = image.getHeight();
+		double[] xs = points.getXs();
+		double[] ys = points.getYs();
+		// One grid per processor at most, the grids are bigger than the chunks
+		final int TASKS = Math.min((to - from + CHUNK_SIZE - 1) / CHUNK_SIZE,
+				Runtime.getRuntime().availableProcessors());
+		if (TASKS <= 1) {
+			countRange(xs, ys, from, to, counts, WIDTH, HEIGHT);
+		} else {
+			final long SIZE = to - from;
+			int[][] partialCounts = IntStream.range(0, TASKS).parallel()
+					.mapToObj(task -> {
+						int[] partial = new int[counts.length];
+						countRange(xs, ys, from + (int) (SIZE * task / TASKS),
+								from + (int) (SIZE * (task + 1) / TASKS), partial, WIDTH,
+								HEIGHT);
+						return partial;
+					}).toArray(int[][]::new);
+			IntStream.range(0, HEIGHT).parallel().forEach(row -> {
+				for (int[] partial : partialCounts) {
+					for (int pixel = row * WIDTH; pixel < (row + 1) * WIDTH; ++pixel) {
+						counts[pixel] += partial[pixel];
+					}
+				}
+			});
+		}
+		maximumCount = IntStream.range(0, HEIGHT).parallel().map(row -> {
+			int maximum = 0;
+			for (int pixel = row * WIDTH; pixel < (row + 1) * WIDTH; ++pixel) {
+				maximum = Math.max(maximum, counts[pixel]);
+			}
+			return maximum;
+		}).max().orElse(0);
+	}
+
+	/**
+	 * Counts a range of points in a grid. The points outside the grid are
+	 * ignored.
+	 *
+	 * @param xs
+	 *          X coordinates of the points.
+	 * @param ys
+	 *          Y coordinates of the points.
+	 * @param from
+	 *          Index of the first point, inclusive.
+	 * @param to
+	 *          Index of the last point, exclusive.
+	 * @param grid
+	 *          Amount of points of every pixel, by rows.
+	 * @param width
+	 *          Width of the grid.
+	 * @param height
+	 *          Height of the grid.
+	 */
+	private void countRange(double[] xs, double[] ys, int from, int to,
+			int[] grid, int width, int height) {
+		for (int i = from; i < to; ++i) {
+			int x = (int) xs[i] + offset;
+			int y = (int) ys[i] + offset;
+			if (x >= 0 && x < width && y >= 0 && y < height) {
+				grid[y * width + x]++;
+			}
+		}
+	}
+
+	/**
+	 * Colors the pixels of the image from their counts, in parallel by rows.
+	 */
+	private void paint() {
+		final int WIDTH = image.getWidth();
+		int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+				.getData();
+		int rgb = color.getRGB() & 0xffffff;
+		double scale = (255 - MINIMUM_ALPHA)
+				/ Math.log1p(Math.max(1, maximumCount));
+		IntStream.range(0, image.getHeight()).parallel().forEach(row -> {
+			for (int pixel = row * WIDTH; pixel < (row + 1) * WIDTH; ++pixel) {
+				int count = counts[pixel];
+				int alpha = (count == 0) ? 0
+						: MINIMUM_ALPHA + (int) (Math.log1p(count - 1) * scale);
+				pixels[pixel] = (alpha << 24) | rgb;
+			}
+		});
+	}
+}
@@ -6,8 +6,6 @@ package pai.pract11.convexhull.view;
 
 import java.awt.Dimension;
 import java.awt.event.ActionListener;
-import java.awt.geom.Point2D;
-import java.util.ArrayList;
 
 import javax.swing.BoxLayout;
 import javax.swing.JFrame;
@@ -15,6 +13,9 @@ import javax.swing.JPanel;
 import javax.swing.WindowConstants;
 import javax.swing.event.ChangeListener;
 
+import pai.pract11.convexhull.model.PointStore;
+import pai.pract11.convexhull.model.engine.HullAlgorithm;
+
 /**
  * Class which represents the main window of the Convex Hull program GUI. It was
  * created for the eleventh practice of PAI (Programación de Aplicaciones
@@ -52,11 +53,13 @@ public class MainWindow extends JFrame {
 	 *          Delay for the timer.
 	 * @param amountOfPoints
 	 *          Initial amount of points of the convex hull panel.
+	 * @param algorithm
+	 *          Algorithm initially selected.
 	 */
-	public MainWindow(int width, int height, ArrayList<Point2D.Double> points,
+	public MainWindow(int width, int height, PointStore points,
 			ActionListener buttonsListener, boolean appletMode,
 			ChangeListener sliderListener, int initialTimerDelay,
-			int amountOfPoints) {
+			int amountOfPoints, HullAlgorithm algorithm) {
 		this.setPreferredSize(new Dimension(width, height));
 		final int CONVEX_HULL_PANEL_HEIGHT = (int) (height * 0.88);
 		this.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
@@ -66,7 +69,7 @@ public class MainWindow extends JFrame {
 				points);
 		this.controlPanel = new ControlPanel(width,
 				height - CONVEX_HULL_PANEL_HEIGHT, buttonsListener, sliderListener,
-				initialTimerDelay, amountOfPoints);
+				initialTimerDelay, amountOfPoints, algorithm);
 
 		if (appletMode) {
 			return;